@@ -0,0 +1,173 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * A {@link Session} that is stored entirely in the session cookie by a
+ * {@link CookieSessionRepository} or {@link ReactiveCookieSessionRepository}. The session
+ * has a random id that is stored together with its attributes, so the id only changes
+ * when {@link #changeSessionId()} is invoked.
+ * <p>
+ * The encrypted cookie value is available as the {@link #COOKIE_VALUE_ATTRIBUTE_NAME}
+ * attribute, which is not included in {@link #getAttributeNames()}. It is only encrypted
+ * again after the attributes, the maximum inactive interval or the id changed, or after
+ * the last accessed time moved by at least the write interval of the repository, so that
+ * the cookie does not have to be written on every request. Encrypting the session fails
+ * with an {@link IllegalStateException} if the encrypted session would exceed the maximum
+ * cookie value length of the repository.
+ * </p>
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ * @see org.springframework.session.web.http.CookieSessionHttpSessionIdResolver
+ * @see org.springframework.session.web.server.session.CookieSessionWebSessionIdResolver
+ */
+public final class CookieSession implements Session {
+
+	/**
+	 * The name of the read only attribute that holds the encrypted cookie value of the
+	 * session.
+	 */
+	public static final String COOKIE_VALUE_ATTRIBUTE_NAME = CookieSession.class.getName().concat(".COOKIE_VALUE");
+
+	private final MapSession delegate;
+
+	private final CookieSessionCodec codec;
+
+	private final Duration lastAccessedTimeWriteInterval;
+
+	private String cookieValue;
+
+	private Instant writtenLastAccessedTime;
+
+	private boolean changed;
+
+	CookieSession(MapSession delegate, CookieSessionCodec codec, Duration lastAccessedTimeWriteInterval) {
+		this(delegate, codec, lastAccessedTimeWriteInterval, null);
+	}
+
+	CookieSession(MapSession delegate, CookieSessionCodec codec, Duration lastAccessedTimeWriteInterval,
+			String cookieValue) {
+		this.delegate = delegate;
+		this.codec = codec;
+		this.lastAccessedTimeWriteInterval = lastAccessedTimeWriteInterval;
+		this.cookieValue = cookieValue;
+		this.writtenLastAccessedTime = delegate.getLastAccessedTime();
+	}
+
+	/**
+	 * Return the encrypted value of the session, encrypting the session again if it
+	 * changed since it was last encrypted.
+	 * @return the cookie value
+	 */
+	String getCookieValue() {
+		if (this.cookieValue == null || this.changed || isLastAccessedTimeOutdated()) {
+			this.cookieValue = this.codec.encode(this.delegate);
+			this.writtenLastAccessedTime = this.delegate.getLastAccessedTime();
+			this.changed = false;
+		}
+		return this.cookieValue;
+	}
+
+	private boolean isLastAccessedTimeOutdated() {
+		Instant lastAccessedTime = this.delegate.getLastAccessedTime();
+		return !lastAccessedTime.equals(this.writtenLastAccessedTime)
+				&& Duration.between(this.writtenLastAccessedTime, lastAccessedTime)
+					.compareTo(this.lastAccessedTimeWriteInterval) >= 0;
+	}
+
+	@Override
+	public String getId() {
+		return this.delegate.getId();
+	}
+
+	@Override
+	public String changeSessionId() {
+		this.changed = true;
+		return this.delegate.changeSessionId();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T getAttribute(String attributeName) {
+		if (COOKIE_VALUE_ATTRIBUTE_NAME.equals(attributeName)) {
+			return (T) getCookieValue();
+		}
+		return this.delegate.getAttribute(attributeName);
+	}
+
+	@Override
+	public Set<String> getAttributeNames() {
+		return this.delegate.getAttributeNames();
+	}
+
+	@Override
+	public void setAttribute(String attributeName, Object attributeValue) {
+		if (COOKIE_VALUE_ATTRIBUTE_NAME.equals(attributeName)) {
+			throw new IllegalArgumentException("Attribute '" + attributeName + "' is read only");
+		}
+		this.delegate.setAttribute(attributeName, attributeValue);
+		this.changed = true;
+	}
+
+	@Override
+	public void removeAttribute(String attributeName) {
+		this.delegate.removeAttribute(attributeName);
+		this.changed = true;
+	}
+
+	@Override
+	public Instant getCreationTime() {
+		return this.delegate.getCreationTime();
+	}
+
+	@Override
+	public void setLastAccessedTime(Instant lastAccessedTime) {
+		this.delegate.setLastAccessedTime(lastAccessedTime);
+	}
+
+	@Override
+	public Instant getLastAccessedTime() {
+		return this.delegate.getLastAccessedTime();
+	}
+
+	@Override
+	public void setMaxInactiveInterval(Duration interval) {
+		this.delegate.setMaxInactiveInterval(interval);
+		this.changed = true;
+	}
+
+	@Override
+	public Duration getMaxInactiveInterval() {
+		return this.delegate.getMaxInactiveInterval();
+	}
+
+	@Override
+	public boolean isExpired() {
+		return this.delegate.isExpired();
+	}
+
+	@Override
+	public boolean hasChanges() {
+		return this.delegate.hasChanges();
+	}
+
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.util.Assert;
+
+/**
+ * Encodes a {@link MapSession} into an encrypted and authenticated cookie value and
+ * decodes it again. Used by {@link CookieSessionRepository} and
+ * {@link ReactiveCookieSessionRepository}.
+ * <p>
+ * The session is written in a compact binary form and encrypted with AES-GCM. The cookie
+ * value is the URL safe Base64 encoding, without padding, of a version byte, a random 12
+ * byte nonce and the ciphertext including its authentication tag. Values are always
+ * encrypted with the first key, and decrypted with each of the keys in order, which
+ * allows keys to be rotated without invalidating existing sessions.
+ * <p>
+ * Since the nonces are random, a single key must not encrypt more than 2^32 sessions,
+ * after which the probability of reusing a nonce is no longer negligible. Sessions are
+ * only encrypted again when they change, but busy applications should still rotate the
+ * key regularly.
+ * <p>
+ * Attribute values other than strings, integers, longs and booleans are written with Java
+ * serialization and only read back if all of their classes match the allowed class
+ * patterns, so that a leaked key cannot be used to deserialize arbitrary classes.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+final class CookieSessionCodec {
+
+	static final int DEFAULT_MAX_COOKIE_VALUE_LENGTH = 4000;
+
+	private static final String ALGORITHM = "AES";
+
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private static final byte VERSION = 2;
+
+	private static final int NONCE_LENGTH = 12;
+
+	private static final int TAG_LENGTH_BITS = 128;
+
+	private static final byte TYPE_STRING = 0;
+
+	private static final byte TYPE_INTEGER = 1;
+
+	private static final byte TYPE_LONG = 2;
+
+	private static final byte TYPE_BOOLEAN = 3;
+
+	private static final byte TYPE_SERIALIZED = 4;
+
+	static final String[] DEFAULT_ALLOWED_CLASS_PATTERNS = { "java.lang.*", "java.math.*", "java.time.*",
+			"java.util.*" };
+
+	private final List<SecretKeySpec> keys;
+
+	private final SecureRandomPool random = new SecureRandomPool(Runtime.getRuntime().availableProcessors());
+
+	private final Converter<Object, byte[]> serializer = new SerializingConverter();
+
+	private ObjectInputFilter deserializationFilter = createDeserializationFilter(DEFAULT_ALLOWED_CLASS_PATTERNS);
+
+	private int maxCookieValueLength = DEFAULT_MAX_COOKIE_VALUE_LENGTH;
+
+	CookieSessionCodec(byte[] key, byte[]... previousKeys) {
+		Assert.notNull(previousKeys, "previousKeys cannot be null");
+		this.keys = new ArrayList<>(previousKeys.length + 1);
+		this.keys.add(createKey(key));
+		for (byte[] previousKey : previousKeys) {
+			this.keys.add(createKey(previousKey));
+		}
+	}
+
+	void setMaxCookieValueLength(int maxCookieValueLength) {
+		Assert.isTrue(maxCookieValueLength > 0, "maxCookieValueLength must be positive");
+		this.maxCookieValueLength = maxCookieValueLength;
+	}
+
+	void setAllowedClassPatterns(String... allowedClassPatterns) {
+		Assert.notNull(allowedClassPatterns, "allowedClassPatterns cannot be null");
+		this.deserializationFilter = createDeserializationFilter(allowedClassPatterns);
+	}
+
+	String encode(MapSession session) {
+		byte[] nonce = new byte[NONCE_LENGTH];
+		this.random.nextBytes(nonce);
+		byte[] ciphertext;
+		try {
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			cipher.init(Cipher.ENCRYPT_MODE, this.keys.get(0), new GCMParameterSpec(TAG_LENGTH_BITS, nonce));
+			cipher.updateAAD(new byte[] { VERSION });
+			ciphertext = cipher.doFinal(write(session));
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Unable to encrypt session", ex);
+		}
+		ByteBuffer value = ByteBuffer.allocate(1 + NONCE_LENGTH + ciphertext.length);
+		value.put(VERSION).put(nonce).put(ciphertext);
+		String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(value.array());
+		if (encoded.length() > this.maxCookieValueLength) {
+			throw new IllegalStateException("Encoded session is " + encoded.length()
+					+ " characters long, which exceeds the maximum cookie value length of "
+					+ this.maxCookieValueLength);
+		}
+		return encoded;
+	}
+
+	MapSession decode(String value) {
+		if (value == null || value.isEmpty() || value.length() > this.maxCookieValueLength) {
+			return null;
+		}
+		byte[] decoded;
+		try {
+			decoded = Base64.getUrlDecoder().decode(value);
+		}
+		catch (IllegalArgumentException ex) {
+			return null;
+		}
+		if (decoded.length <= 1 + NONCE_LENGTH || decoded[0] != VERSION) {
+			return null;
+		}
+		GCMParameterSpec parameters = new GCMParameterSpec(TAG_LENGTH_BITS, decoded, 1, NONCE_LENGTH);
+		for (SecretKeySpec key : this.keys) {
+			byte[] plaintext;
+			try {
+				Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+				cipher.init(Cipher.DECRYPT_MODE, key, parameters);
+				cipher.updateAAD(decoded, 0, 1);
+				plaintext = cipher.doFinal(decoded, 1 + NONCE_LENGTH, decoded.length - 1 - NONCE_LENGTH);
+			}
+			catch (AEADBadTagException ex) {
+				// not encrypted with this key, try the next one
+				continue;
+			}
+			catch (GeneralSecurityException ex) {
+				return null;
+			}
+			return read(plaintext);
+		}
+		return null;
+	}
+
+	private byte[] write(MapSession session) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeUTF(session.getId());
+			out.writeLong(session.getCreationTime().toEpochMilli());
+			out.writeLong(session.getLastAccessedTime().toEpochMilli());
+			out.writeLong(session.getMaxInactiveInterval().getSeconds());
+			out.writeShort(session.getAttributeNames().size());
+			for (String attributeName : session.getAttributeNames()) {
+				out.writeUTF(attributeName);
+				writeAttributeValue(out, attributeName, session.getAttribute(attributeName));
+			}
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Unable to write session", ex);
+		}
+		return bytes.toByteArray();
+	}
+
+	private void writeAttributeValue(DataOutputStream out, String name, Object value) throws IOException {
+		// the common simple types are written directly, anything else uses the serializer
+		if (value instanceof String) {
+			out.writeByte(TYPE_STRING);
+			out.writeUTF((String) value);
+		}
+		else if (value instanceof Integer) {
+			out.writeByte(TYPE_INTEGER);
+			out.writeInt((Integer) value);
+		}
+		else if (value instanceof Long) {
+			out.writeByte(TYPE_LONG);
+			out.writeLong((Long) value);
+		}
+		else if (value instanceof Boolean) {
+			out.writeByte(TYPE_BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		}
+		else {
+			byte[] serialized = this.serializer.convert(value);
+			try {
+				// fail when saving instead of losing the session when it is read
+				deserialize(serialized);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Session attribute '" + name + "' of type " + value.getClass().getName()
+						+ " cannot be read with the allowed class patterns", ex);
+			}
+			out.writeByte(TYPE_SERIALIZED);
+			out.writeInt(serialized.length);
+			out.write(serialized);
+		}
+	}
+
+	private MapSession read(byte[] plaintext) {
+		MapSession session;
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(plaintext))) {
+			session = new MapSession(in.readUTF());
+			session.setCreationTime(Instant.ofEpochMilli(in.readLong()));
+			session.setLastAccessedTime(Instant.ofEpochMilli(in.readLong()));
+			session.setMaxInactiveInterval(Duration.ofSeconds(in.readLong()));
+			int attributeCount = in.readUnsignedShort();
+			for (int i = 0; i < attributeCount; i++) {
+				session.setAttribute(in.readUTF(), readAttributeValue(in));
+			}
+		}
+		catch (IOException ex) {
+			// treat a session that can no longer be read, e.g. because an attribute class
+			// changed, the same as a missing session
+			return null;
+		}
+		// copy so that reading the session is not reported as a change
+		return new MapSession(session);
+	}
+
+	private Object readAttributeValue(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+		switch (type) {
+			case TYPE_STRING:
+				return in.readUTF();
+			case TYPE_INTEGER:
+				return in.readInt();
+			case TYPE_LONG:
+				return in.readLong();
+			case TYPE_BOOLEAN:
+				return in.readBoolean();
+			case TYPE_SERIALIZED:
+				byte[] serialized = new byte[in.readInt()];
+				in.readFully(serialized);
+				return deserialize(serialized);
+			default:
+				throw new IOException("Unknown attribute type " + type);
+		}
+	}
+
+	private Object deserialize(byte[] serialized) throws IOException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+			in.setObjectInputFilter(this.deserializationFilter);
+			return in.readObject();
+		}
+		catch (ClassNotFoundException ex) {
+			throw new IOException(ex);
+		}
+	}
+
+	private static ObjectInputFilter createDeserializationFilter(String... allowedClassPatterns) {
+		// reject every class that is not explicitly allowed
+		return ObjectInputFilter.Config.createFilter(String.join(";", allowedClassPatterns) + ";!*");
+	}
+
+	private static SecretKeySpec createKey(byte[] key) {
+		Assert.notNull(key, "key cannot be null");
+		Assert.isTrue(key.length == 16 || key.length == 24 || key.length == 32, "key must be 16, 24 or 32 bytes long");
+		return new SecretKeySpec(key, ALGORITHM);
+	}
+
+}
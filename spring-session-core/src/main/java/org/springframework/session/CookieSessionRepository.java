@@ -0,0 +1,186 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+
+import org.springframework.session.events.SessionDeletedEvent;
+import org.springframework.session.events.SessionExpiredEvent;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionRepository} that stores the whole {@link CookieSession} encrypted and
+ * authenticated with AES-GCM in the session cookie, so that sessions are loaded and saved
+ * without any I/O and without a store that is shared by the instances of the application.
+ * It is intended for small sessions, since the encrypted session must fit into a single
+ * cookie.
+ * <p>
+ * A {@link CookieSession} has a random id that is stored together with its attributes.
+ * The encrypted session is written to the cookie by the
+ * {@link org.springframework.session.web.http.CookieSessionHttpSessionIdResolver}, which
+ * must be used instead of the
+ * {@link org.springframework.session.web.http.CookieHttpSessionIdResolver}, and
+ * {@link #findById(String)} expects the cookie value rather than the id. The cookie is
+ * only written again when the session changed, see
+ * {@link #setLastAccessedTimeWriteInterval(Duration)}. The value is already URL safe, so
+ * Base64 encoding can be disabled with
+ * {@link org.springframework.session.web.http.DefaultCookieSerializer#setUseBase64Encoding(boolean)}
+ * to keep the cookie small. Since nothing is stored on the server, deleting a session
+ * only removes the cookie from the client and a copy of the cookie remains valid until
+ * the session expires.
+ * </p>
+ * <p>
+ * Attribute values that are not strings, integers, longs or booleans are written with
+ * Java serialization. When a session is read, only the classes allowed by
+ * {@link #setAllowedClassPatterns(String...)} are deserialized, since anyone who obtains
+ * the key could otherwise make the application deserialize arbitrary classes.
+ * </p>
+ * <p>
+ * Sessions are encrypted with the first key and can be decrypted with any of the keys,
+ * which allows the key to be rotated by adding a new key in front of the previous ones.
+ * AES-GCM is used with random nonces, so a key must be rotated before it encrypted 2^32
+ * sessions.
+ * </p>
+ * <p>
+ * The implementation does NOT support firing {@link SessionDeletedEvent} or
+ * {@link SessionExpiredEvent}.
+ * </p>
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+public class CookieSessionRepository implements SessionRepository<CookieSession> {
+
+	private Duration defaultMaxInactiveInterval = Duration.ofSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS);
+
+	private Duration lastAccessedTimeWriteInterval = Duration.ofMinutes(1);
+
+	private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
+
+	private final CookieSessionCodec codec;
+
+	/**
+	 * Creates a new instance.
+	 * @param key the AES key used to encrypt and decrypt sessions. Must be 16, 24 or 32
+	 * bytes long and should be shared by all instances of the application.
+	 * @param previousKeys the AES keys that were used before, which are only used to
+	 * decrypt sessions
+	 */
+	public CookieSessionRepository(byte[] key, byte[]... previousKeys) {
+		this.codec = new CookieSessionCodec(key, previousKeys);
+	}
+
+	/**
+	 * Set the maximum inactive interval in seconds between requests before newly created
+	 * sessions will be invalidated. A negative time indicates that the session will never
+	 * time out. The default is 30 minutes.
+	 * @param defaultMaxInactiveInterval the default maxInactiveInterval
+	 */
+	public void setDefaultMaxInactiveInterval(Duration defaultMaxInactiveInterval) {
+		Assert.notNull(defaultMaxInactiveInterval, "defaultMaxInactiveInterval must not be null");
+		this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+	}
+
+	/**
+	 * Set the minimum time that the last accessed time of a session must move before the
+	 * session is encrypted and written to the cookie again when it has no other changes.
+	 * This avoids writing the cookie on every request, which means a session may expire
+	 * up to this interval earlier than its maximum inactive interval. The default is one
+	 * minute.
+	 * @param lastAccessedTimeWriteInterval the minimum time between writes of an
+	 * unchanged session. Cannot be null or negative.
+	 */
+	public void setLastAccessedTimeWriteInterval(Duration lastAccessedTimeWriteInterval) {
+		Assert.notNull(lastAccessedTimeWriteInterval, "lastAccessedTimeWriteInterval must not be null");
+		Assert.isTrue(!lastAccessedTimeWriteInterval.isNegative(),
+				"lastAccessedTimeWriteInterval must not be negative");
+		this.lastAccessedTimeWriteInterval = lastAccessedTimeWriteInterval;
+	}
+
+	/**
+	 * Set the {@link SessionIdGenerator} to use to generate session ids.
+	 * @param sessionIdGenerator the {@link SessionIdGenerator} to use
+	 */
+	public void setSessionIdGenerator(SessionIdGenerator sessionIdGenerator) {
+		Assert.notNull(sessionIdGenerator, "sessionIdGenerator cannot be null");
+		this.sessionIdGenerator = sessionIdGenerator;
+	}
+
+	/**
+	 * Set the maximum length of the encrypted session written to the cookie. Saving a
+	 * larger session fails with an {@link IllegalStateException}. The default is 4000
+	 * characters, which leaves room for the cookie name and attributes within the 4096
+	 * bytes that browsers support for a single cookie.
+	 * @param maxCookieValueLength the maximum length of the cookie value
+	 */
+	public void setMaxCookieValueLength(int maxCookieValueLength) {
+		this.codec.setMaxCookieValueLength(maxCookieValueLength);
+	}
+
+	/**
+	 * Set the patterns of the classes that may be deserialized when a session is read.
+	 * Attribute values other than {@link String}, {@link Integer}, {@link Long} and
+	 * {@link Boolean} are written with Java serialization, and every class in their
+	 * object graph must match one of these patterns, using the syntax of
+	 * {@link java.io.ObjectInputFilter.Config#createFilter(String)}. Saving a session
+	 * with an attribute that cannot be read back fails with an
+	 * {@link IllegalStateException}. The default allows the classes in {@code java.lang},
+	 * {@code java.math}, {@code java.time} and {@code java.util}.
+	 * <p>
+	 * Only allow classes that are safe to deserialize: anyone who obtains the key can
+	 * make the application deserialize any of the allowed classes.
+	 * @param allowedClassPatterns the patterns of the classes that may be deserialized
+	 */
+	public void setAllowedClassPatterns(String... allowedClassPatterns) {
+		this.codec.setAllowedClassPatterns(allowedClassPatterns);
+	}
+
+	@Override
+	public CookieSession createSession() {
+		MapSession session = new MapSession(this.sessionIdGenerator);
+		session.setMaxInactiveInterval(this.defaultMaxInactiveInterval);
+		return new CookieSession(session, this.codec, this.lastAccessedTimeWriteInterval);
+	}
+
+	@Override
+	public void save(CookieSession session) {
+		// encrypts the session if it changed, which verifies it fits into the cookie
+		session.getCookieValue();
+	}
+
+	/**
+	 * Decrypt the session from the given cookie value.
+	 * @param cookieValue the value of the session cookie
+	 * @return the session or {@code null} if the value cannot be decrypted or the session
+	 * expired
+	 */
+	@Override
+	public CookieSession findById(String cookieValue) {
+		MapSession session = this.codec.decode(cookieValue);
+		if (session == null || session.isExpired()) {
+			return null;
+		}
+		session.setSessionIdGenerator(this.sessionIdGenerator);
+		return new CookieSession(session, this.codec, this.lastAccessedTimeWriteInterval, cookieValue);
+	}
+
+	@Override
+	public void deleteById(String id) {
+		// nothing is stored on the server, the cookie is expired by the resolver
+	}
+
+}
@@ -76,6 +76,8 @@ public final class MapSession implements Session, Serializable {
 
 	private transient SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
 
+	private transient boolean changed;
+
 	/**
 	 * Creates a new instance with a secure randomly generated identifier.
 	 */
@@ -167,6 +169,7 @@ public final class MapSession implements Session, Serializable {
 	@Override
 	public void setMaxInactiveInterval(Duration interval) {
 		this.maxInactiveInterval = interval;
+		this.changed = true;
 	}
 
 	@Override
@@ -204,12 +207,25 @@ public final class MapSession implements Session, Serializable {
 		}
 		else {
 			this.sessionAttrs.put(attributeName, attributeValue);
+			this.changed = true;
 		}
 	}
 
 	@Override
 	public void removeAttribute(String attributeName) {
 		this.sessionAttrs.remove(attributeName);
+		this.changed = true;
+	}
+
+	/**
+	 * Returns whether the attributes or the maximum inactive interval were updated, or
+	 * the id was changed, since this instance was created.
+	 * @return {@code true} if the session has changes other than its last accessed time
+	 * @since 3.5
+	 */
+	@Override
+	public boolean hasChanges() {
+		return this.changed || !this.id.equals(this.originalId);
 	}
 
 	/**
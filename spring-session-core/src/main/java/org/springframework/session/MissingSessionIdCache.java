@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * A bounded, node-local cache of session ids that were recently looked up and not found
+ * in the session repository. This allows clients that keep sending a stale session id to
+ * be answered without a lookup on every request. Each id is remembered for the configured
+ * time to live, and the least recently added ids are evicted once the maximum size is
+ * reached. Ids must be {@link #remove(String) removed} when a session with that id is
+ * saved, so that they are never rejected after the session was created.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ * @see org.springframework.session.web.http.SessionRepositoryFilter#setMissingSessionIdCache(MissingSessionIdCache)
+ * @see org.springframework.session.web.server.session.SpringSessionWebSessionStore#setMissingSessionIdCache(MissingSessionIdCache)
+ */
+public class MissingSessionIdCache {
+
+	private final int maxSize;
+
+	private final Duration timeToLive;
+
+	private final Map<String, Instant> expirations;
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Creates a new instance.
+	 * @param maxSize the maximum number of session ids to remember. Must be positive.
+	 * @param timeToLive how long a missing session id is remembered. Must be positive.
+	 */
+	public MissingSessionIdCache(int maxSize, Duration timeToLive) {
+		Assert.isTrue(maxSize > 0, "maxSize must be positive");
+		Assert.notNull(timeToLive, "timeToLive cannot be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+		this.maxSize = maxSize;
+		this.timeToLive = timeToLive;
+		this.expirations = new LinkedHashMap<>(16, 0.75f, false) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+				return size() > MissingSessionIdCache.this.maxSize;
+			}
+
+		};
+	}
+
+	/**
+	 * Sets the {@link Clock} used to expire the remembered session ids. The default is
+	 * {@link Clock#systemUTC()}.
+	 * @param clock the {@link Clock} to use
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns whether the session id was recently found to be missing.
+	 * @param sessionId the session id
+	 * @return {@code true} if the session id is known to be missing
+	 */
+	public boolean contains(String sessionId) {
+		synchronized (this.expirations) {
+			Instant expiration = this.expirations.get(sessionId);
+			if (expiration == null) {
+				return false;
+			}
+			if (!expiration.isAfter(this.clock.instant())) {
+				this.expirations.remove(sessionId);
+				return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Remembers that no session with the given id was found.
+	 * @param sessionId the session id
+	 */
+	public void add(String sessionId) {
+		Instant expiration = this.clock.instant().plus(this.timeToLive);
+		synchronized (this.expirations) {
+			this.expirations.remove(sessionId);
+			this.expirations.put(sessionId, expiration);
+		}
+	}
+
+	/**
+	 * Forgets the given session id, which must be done when a session with the id is
+	 * saved.
+	 * @param sessionId the session id
+	 */
+	public void remove(String sessionId) {
+		synchronized (this.expirations) {
+			this.expirations.remove(sessionId);
+		}
+	}
+
+}
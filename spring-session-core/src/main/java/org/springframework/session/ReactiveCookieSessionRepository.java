@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.session.events.SessionDeletedEvent;
+import org.springframework.session.events.SessionExpiredEvent;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ReactiveSessionRepository} that stores the whole {@link CookieSession}
+ * encrypted and authenticated with AES-GCM in the session cookie. This is the reactive
+ * counterpart of {@link CookieSessionRepository}, see its documentation for details. The
+ * encrypted session is written to the cookie by the
+ * {@link org.springframework.session.web.server.session.CookieSessionWebSessionIdResolver}.
+ *
+ * <p>
+ * The implementation does NOT support firing {@link SessionDeletedEvent} or
+ * {@link SessionExpiredEvent}.
+ * </p>
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+public class ReactiveCookieSessionRepository implements ReactiveSessionRepository<CookieSession> {
+
+	private Duration defaultMaxInactiveInterval = Duration.ofSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS);
+
+	private Duration lastAccessedTimeWriteInterval = Duration.ofMinutes(1);
+
+	private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
+
+	private final CookieSessionCodec codec;
+
+	/**
+	 * Creates a new instance.
+	 * @param key the AES key used to encrypt and decrypt sessions. Must be 16, 24 or 32
+	 * bytes long and should be shared by all instances of the application.
+	 * @param previousKeys the AES keys that were used before, which are only used to
+	 * decrypt sessions
+	 */
+	public ReactiveCookieSessionRepository(byte[] key, byte[]... previousKeys) {
+		this.codec = new CookieSessionCodec(key, previousKeys);
+	}
+
+	/**
+	 * Set the maximum inactive interval in seconds between requests before newly created
+	 * sessions will be invalidated. A negative time indicates that the session will never
+	 * time out. The default is 30 minutes.
+	 * @param defaultMaxInactiveInterval the default maxInactiveInterval
+	 */
+	public void setDefaultMaxInactiveInterval(Duration defaultMaxInactiveInterval) {
+		Assert.notNull(defaultMaxInactiveInterval, "defaultMaxInactiveInterval must not be null");
+		this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+	}
+
+	/**
+	 * Set the minimum time that the last accessed time of a session must move before the
+	 * session is encrypted and written to the cookie again when it has no other changes.
+	 * This avoids writing the cookie on every request, which means a session may expire
+	 * up to this interval earlier than its maximum inactive interval. The default is one
+	 * minute.
+	 * @param lastAccessedTimeWriteInterval the minimum time between writes of an
+	 * unchanged session. Cannot be null or negative.
+	 * @see CookieSessionRepository#setLastAccessedTimeWriteInterval(Duration)
+	 */
+	public void setLastAccessedTimeWriteInterval(Duration lastAccessedTimeWriteInterval) {
+		Assert.notNull(lastAccessedTimeWriteInterval, "lastAccessedTimeWriteInterval must not be null");
+		Assert.isTrue(!lastAccessedTimeWriteInterval.isNegative(),
+				"lastAccessedTimeWriteInterval must not be negative");
+		this.lastAccessedTimeWriteInterval = lastAccessedTimeWriteInterval;
+	}
+
+	/**
+	 * Set the {@link SessionIdGenerator} to use to generate session ids.
+	 * @param sessionIdGenerator the {@link SessionIdGenerator} to use
+	 */
+	public void setSessionIdGenerator(SessionIdGenerator sessionIdGenerator) {
+		Assert.notNull(sessionIdGenerator, "sessionIdGenerator cannot be null");
+		this.sessionIdGenerator = sessionIdGenerator;
+	}
+
+	/**
+	 * Set the maximum length of the encrypted session written to the cookie. Saving a
+	 * larger session fails with an {@link IllegalStateException}. The default is 4000
+	 * characters.
+	 * @param maxCookieValueLength the maximum length of the cookie value
+	 */
+	public void setMaxCookieValueLength(int maxCookieValueLength) {
+		this.codec.setMaxCookieValueLength(maxCookieValueLength);
+	}
+
+	/**
+	 * Set the patterns of the classes that may be deserialized when a session is read.
+	 * The default allows the classes in {@code java.lang}, {@code java.math},
+	 * {@code java.time} and {@code java.util}.
+	 * @param allowedClassPatterns the patterns of the classes that may be deserialized
+	 * @see CookieSessionRepository#setAllowedClassPatterns(String...)
+	 */
+	public void setAllowedClassPatterns(String... allowedClassPatterns) {
+		this.codec.setAllowedClassPatterns(allowedClassPatterns);
+	}
+
+	@Override
+	public Mono<CookieSession> createSession() {
+		return Mono.fromSupplier(() -> {
+			MapSession session = new MapSession(this.sessionIdGenerator);
+			session.setMaxInactiveInterval(this.defaultMaxInactiveInterval);
+			return new CookieSession(session, this.codec, this.lastAccessedTimeWriteInterval);
+		});
+	}
+
+	@Override
+	public Mono<Void> save(CookieSession session) {
+		// encrypts the session if it changed, which verifies it fits into the cookie
+		return Mono.fromRunnable(session::getCookieValue);
+	}
+
+	/**
+	 * Decrypt the session from the given cookie value.
+	 * @param cookieValue the value of the session cookie
+	 * @return the session or an empty {@link Mono} if the value cannot be decrypted or
+	 * the session expired
+	 */
+	@Override
+	public Mono<CookieSession> findById(String cookieValue) {
+		// @formatter:off
+		return Mono.fromSupplier(() -> this.codec.decode(cookieValue))
+				.filter((session) -> !session.isExpired())
+				.map((session) -> {
+					session.setSessionIdGenerator(this.sessionIdGenerator);
+					return new CookieSession(session, this.codec, this.lastAccessedTimeWriteInterval, cookieValue);
+				});
+		// @formatter:on
+	}
+
+	@Override
+	public Mono<Void> deleteById(String id) {
+		// nothing is stored on the server, the cookie is expired by the resolver
+		return Mono.empty();
+	}
+
+}
@@ -20,7 +20,6 @@ import java.time.Duration;
 import java.util.Map;
 
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import org.springframework.session.events.SessionDeletedEvent;
 import org.springframework.session.events.SessionExpiredEvent;
@@ -101,9 +100,7 @@ public class ReactiveMapSessionRepository implements ReactiveSessionRepository<M
 	@Override
 	public Mono<MapSession> createSession() {
 		// @formatter:off
-		return Mono.fromSupplier(() -> this.sessionIdGenerator.generate())
-				.subscribeOn(Schedulers.boundedElastic())
-				.publishOn(Schedulers.parallel())
+		return ReactiveSessionIdGeneratorUtils.generateSessionId(this.sessionIdGenerator)
 				.map((sessionId) -> {
 					MapSession result = new MapSession(sessionId);
 					result.setMaxInactiveInterval(this.defaultMaxInactiveInterval);
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Utility methods for generating session ids in a {@link ReactiveSessionRepository}.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+public final class ReactiveSessionIdGeneratorUtils {
+
+	private ReactiveSessionIdGeneratorUtils() {
+	}
+
+	/**
+	 * Generates a session id with the given {@link SessionIdGenerator}. If
+	 * {@link SessionIdGenerator#isBlocking()} returns {@code true}, the id is generated
+	 * on {@link Schedulers#boundedElastic()} and emitted on
+	 * {@link Schedulers#parallel()}, otherwise it is generated on the subscribing thread.
+	 * @param sessionIdGenerator the {@link SessionIdGenerator} to use
+	 * @return a {@link Mono} that emits the generated session id
+	 */
+	public static Mono<String> generateSessionId(SessionIdGenerator sessionIdGenerator) {
+		Mono<String> sessionId = Mono.fromSupplier(sessionIdGenerator::generate);
+		if (!sessionIdGenerator.isBlocking()) {
+			return sessionId;
+		}
+		return sessionId.subscribeOn(Schedulers.boundedElastic()).publishOn(Schedulers.parallel());
+	}
+
+}
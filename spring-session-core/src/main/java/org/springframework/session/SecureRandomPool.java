@@ -0,0 +1,71 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * A pool of {@link SecureRandom} instances that are seeded when the pool is created, so
+ * that random bytes can be generated without blocking and without the calling threads
+ * contending for a single instance. Each instance uses the {@code DRBG} algorithm, or
+ * {@code SHA1PRNG} if it is not available, rather than the default {@code NativePRNG},
+ * whose instances all read from a single source guarded by a global lock.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+final class SecureRandomPool {
+
+	private final SecureRandom[] randoms;
+
+	SecureRandomPool(int poolSize) {
+		Assert.isTrue(poolSize > 0, "poolSize must be greater than 0");
+		this.randoms = new SecureRandom[poolSize];
+		for (int i = 0; i < poolSize; i++) {
+			SecureRandom random = createSecureRandom();
+			random.nextBytes(new byte[1]);
+			this.randoms[i] = random;
+		}
+	}
+
+	void nextBytes(byte[] bytes) {
+		this.randoms[ThreadLocalRandom.current().nextInt(this.randoms.length)].nextBytes(bytes);
+	}
+
+	String getAlgorithm() {
+		return this.randoms[0].getAlgorithm();
+	}
+
+	private static SecureRandom createSecureRandom() {
+		try {
+			return SecureRandom.getInstance("DRBG");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			try {
+				return SecureRandom.getInstance("SHA1PRNG");
+			}
+			catch (NoSuchAlgorithmException ex2) {
+				return new SecureRandom();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * A {@link SessionIdGenerator} that generates a random UUID to be used as the session id,
+ * like {@link UuidSessionIdGenerator}, using a pool of {@link SecureRandom} instances.
+ * Every instance is seeded when the generator is created, so {@link #generate()} does not
+ * block, and the calling threads are spread over the instances so that they do not
+ * contend for a single one.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+public final class SecureRandomSessionIdGenerator implements SessionIdGenerator {
+
+	private final SecureRandomPool random;
+
+	/**
+	 * Creates a new instance with one {@link SecureRandom} per available processor.
+	 */
+	public SecureRandomSessionIdGenerator() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a new instance with the given number of {@link SecureRandom} instances.
+	 * @param poolSize the number of {@link SecureRandom} instances
+	 */
+	public SecureRandomSessionIdGenerator(int poolSize) {
+		this.random = new SecureRandomPool(poolSize);
+	}
+
+	@Override
+	@NonNull
+	public String generate() {
+		byte[] bytes = new byte[16];
+		this.random.nextBytes(bytes);
+		bytes[6] &= 0x0f;
+		bytes[6] |= 0x40;
+		bytes[8] &= 0x3f;
+		bytes[8] |= (byte) 0x80;
+		long mostSigBits = 0;
+		long leastSigBits = 0;
+		for (int i = 0; i < 8; i++) {
+			mostSigBits = (mostSigBits << 8) | (bytes[i] & 0xff);
+			leastSigBits = (leastSigBits << 8) | (bytes[i + 8] & 0xff);
+		}
+		return new UUID(mostSigBits, leastSigBits).toString();
+	}
+
+	@Override
+	public boolean isBlocking() {
+		return false;
+	}
+
+}
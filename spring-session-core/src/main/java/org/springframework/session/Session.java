@@ -147,4 +147,16 @@ public interface Session {
 	 */
 	boolean isExpired();
 
+	/**
+	 * Returns whether this session has changes that have not been saved yet, ignoring
+	 * updates of the {@link #getLastAccessedTime() last accessed time}. This allows
+	 * callers to skip saving a session when only its last accessed time was updated. The
+	 * default implementation returns {@code true} since it does not track changes.
+	 * @return {@code true} if the session has changes other than its last accessed time
+	 * @since 3.5
+	 */
+	default boolean hasChanges() {
+		return true;
+	}
+
 }
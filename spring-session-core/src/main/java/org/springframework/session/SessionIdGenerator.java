@@ -29,4 +29,16 @@ public interface SessionIdGenerator {
 	@NonNull
 	String generate();
 
+	/**
+	 * Whether {@link #generate()} may block the calling thread, for example while waiting
+	 * for a {@link java.security.SecureRandom} to be seeded. Reactive session
+	 * repositories only generate session ids on a scheduler that allows blocking calls
+	 * when this returns {@code true}. Defaults to {@code true}.
+	 * @return {@code true} if {@link #generate()} may block
+	 * @since 3.5
+	 */
+	default boolean isBlocking() {
+		return true;
+	}
+
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.session.CookieSession;
+
+/**
+ * A {@link HttpSessionIdResolver} for the
+ * {@link org.springframework.session.CookieSessionRepository}, which reads the encrypted
+ * session from the session cookie and writes the
+ * {@link CookieSession#COOKIE_VALUE_ATTRIBUTE_NAME encrypted value} of the current
+ * {@link CookieSession} to the cookie instead of its id. The cookie is only written when
+ * the encrypted value differs from the value sent by the client, so that a session that
+ * did not change does not cause a {@code Set-Cookie} header on every response.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+public final class CookieSessionHttpSessionIdResolver implements HttpSessionIdResolver {
+
+	private final CookieHttpSessionIdResolver delegate = new CookieHttpSessionIdResolver();
+
+	private CookieSerializer cookieSerializer = new DefaultCookieSerializer();
+
+	@Override
+	public List<String> resolveSessionIds(HttpServletRequest request) {
+		return this.cookieSerializer.readCookieValues(request);
+	}
+
+	@Override
+	public void setSessionId(HttpServletRequest request, HttpServletResponse response, String sessionId) {
+		HttpSession session = request.getSession(false);
+		Object cookieValue = (session != null) ? session.getAttribute(CookieSession.COOKIE_VALUE_ATTRIBUTE_NAME) : null;
+		if (!(cookieValue instanceof String)) {
+			// not a cookie session, fall back to writing the id
+			this.delegate.setSessionId(request, response, sessionId);
+			return;
+		}
+		if (!resolveSessionIds(request).contains(cookieValue)) {
+			this.delegate.setSessionId(request, response, (String) cookieValue);
+		}
+	}
+
+	@Override
+	public void expireSession(HttpServletRequest request, HttpServletResponse response) {
+		this.delegate.expireSession(request, response);
+	}
+
+	/**
+	 * Sets the {@link CookieSerializer} to be used.
+	 * @param cookieSerializer the cookieSerializer to set. Cannot be null.
+	 */
+	public void setCookieSerializer(CookieSerializer cookieSerializer) {
+		this.delegate.setCookieSerializer(cookieSerializer);
+		this.cookieSerializer = cookieSerializer;
+	}
+
+}
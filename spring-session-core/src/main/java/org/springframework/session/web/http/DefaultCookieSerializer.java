@@ -19,12 +19,13 @@ package org.springframework.session.web.http;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.BitSet;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -48,6 +49,9 @@ public class DefaultCookieSerializer implements CookieSerializer {
 
 	private static final BitSet domainValid = new BitSet(128);
 
+	private static final String EPOCH_EXPIRES = DateTimeFormatter.RFC_1123_DATE_TIME
+		.format(Instant.EPOCH.atZone(ZoneOffset.UTC));
+
 	static {
 		for (char c = '0'; c <= '9'; c++) {
 			domainValid.set(c);
@@ -80,6 +84,8 @@ public class DefaultCookieSerializer implements CookieSerializer {
 
 	private String jvmRoute;
 
+	private JvmRouteResolver jvmRouteResolver;
+
 	private boolean useBase64Encoding = true;
 
 	private String rememberMeRequestAttribute;
@@ -88,6 +94,16 @@ public class DefaultCookieSerializer implements CookieSerializer {
 
 	private boolean partitioned;
 
+	private boolean readCookieHeader;
+
+	private volatile CookieAttributes cookieAttributes;
+
+	private volatile CachedExpires cachedExpires;
+
+	private volatile CachedValue cachedDomain;
+
+	private volatile CachedValue cachedPath;
+
 	/*
 	 * @see
 	 * org.springframework.session.web.http.CookieSerializer#readCookieValues(jakarta.
@@ -95,25 +111,78 @@ public class DefaultCookieSerializer implements CookieSerializer {
 	 */
 	@Override
 	public List<String> readCookieValues(HttpServletRequest request) {
+		if (this.readCookieHeader) {
+			return readCookieHeaderValues(request);
+		}
 		Cookie[] cookies = request.getCookies();
 		List<String> matchingCookieValues = new ArrayList<>();
 		if (cookies != null) {
 			for (Cookie cookie : cookies) {
 				if (this.cookieName.equals(cookie.getName())) {
-					String sessionId = (this.useBase64Encoding ? base64Decode(cookie.getValue()) : cookie.getValue());
-					if (sessionId == null) {
-						continue;
-					}
-					if (this.jvmRoute != null && sessionId.endsWith(this.jvmRoute)) {
-						sessionId = sessionId.substring(0, sessionId.length() - this.jvmRoute.length());
+					addSessionId(cookie.getValue(), matchingCookieValues);
+				}
+			}
+		}
+		return matchingCookieValues;
+	}
+
+	// scans the Cookie headers for the configured cookie name, so that cookies with other
+	// names are neither parsed nor allocated
+	private List<String> readCookieHeaderValues(HttpServletRequest request) {
+		List<String> matchingCookieValues = new ArrayList<>(1);
+		Enumeration<String> headers = request.getHeaders("Cookie");
+		if (headers == null) {
+			return matchingCookieValues;
+		}
+		int nameLength = this.cookieName.length();
+		while (headers.hasMoreElements()) {
+			String header = headers.nextElement();
+			int length = header.length();
+			int start = 0;
+			while (start < length) {
+				int end = header.indexOf(';', start);
+				if (end == -1) {
+					end = length;
+				}
+				while (start < end && isWhitespace(header.charAt(start))) {
+					start++;
+				}
+				int valueStart = start + nameLength + 1;
+				if (valueStart <= end && header.charAt(valueStart - 1) == '='
+						&& header.regionMatches(start, this.cookieName, 0, nameLength)) {
+					int valueEnd = end;
+					while (valueEnd > valueStart && isWhitespace(header.charAt(valueEnd - 1))) {
+						valueEnd--;
 					}
-					matchingCookieValues.add(sessionId);
+					addSessionId(header.substring(valueStart, valueEnd), matchingCookieValues);
 				}
+				start = end + 1;
 			}
 		}
 		return matchingCookieValues;
 	}
 
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t';
+	}
+
+	private void addSessionId(String cookieValue, List<String> sessionIds) {
+		String sessionId = (this.useBase64Encoding ? base64Decode(cookieValue) : cookieValue);
+		if (sessionId == null) {
+			return;
+		}
+		if (this.jvmRoute != null && sessionId.endsWith(this.jvmRoute)) {
+			sessionId = sessionId.substring(0, sessionId.length() - this.jvmRoute.length());
+		}
+		else if (this.jvmRouteResolver != null) {
+			int routeIndex = sessionId.lastIndexOf('.');
+			if (routeIndex != -1) {
+				sessionId = sessionId.substring(0, routeIndex);
+			}
+		}
+		sessionIds.add(sessionId);
+	}
+
 	/*
 	 * @see org.springframework.session.web.http.CookieWriter#writeCookieValue(org.
 	 * springframework.session.web.http.CookieWriter.CookieValue)
@@ -122,9 +191,10 @@ public class DefaultCookieSerializer implements CookieSerializer {
 	public void writeCookieValue(CookieValue cookieValue) {
 		HttpServletRequest request = cookieValue.getRequest();
 		HttpServletResponse response = cookieValue.getResponse();
-		StringBuilder sb = new StringBuilder();
-		sb.append(this.cookieName).append('=');
+		CookieAttributes attributes = getCookieAttributes();
 		String value = getValue(cookieValue);
+		StringBuilder sb = new StringBuilder(this.cookieName.length() + ((value != null) ? value.length() : 0) + 128);
+		sb.append(this.cookieName).append('=');
 		if (value != null && value.length() > 0) {
 			validateValue(value);
 			sb.append(value);
@@ -132,33 +202,95 @@ public class DefaultCookieSerializer implements CookieSerializer {
 		int maxAge = getMaxAge(cookieValue);
 		if (maxAge > -1) {
 			sb.append("; Max-Age=").append(cookieValue.getCookieMaxAge());
-			ZonedDateTime expires = (maxAge != 0) ? ZonedDateTime.now(this.clock).plusSeconds(maxAge)
-					: Instant.EPOCH.atZone(ZoneOffset.UTC);
-			sb.append("; Expires=").append(expires.format(DateTimeFormatter.RFC_1123_DATE_TIME));
+			sb.append("; Expires=").append((maxAge != 0) ? getExpires(maxAge) : EPOCH_EXPIRES);
 		}
-		String domain = getDomainName(request);
-		if (domain != null && domain.length() > 0) {
-			validateDomain(domain);
-			sb.append("; Domain=").append(domain);
+		sb.append((attributes.domain != null) ? attributes.domain : getDomainAttribute(request));
+		sb.append((attributes.path != null) ? attributes.path : getPathAttribute(request));
+		sb.append(isSecureCookie(request) ? attributes.secureSuffix : attributes.suffix);
+		response.addHeader("Set-Cookie", sb.toString());
+	}
+
+	// the attributes that only depend on the configuration are rendered once and reset
+	// whenever the configuration changes
+	private CookieAttributes getCookieAttributes() {
+		CookieAttributes attributes = this.cookieAttributes;
+		if (attributes == null) {
+			attributes = new CookieAttributes();
+			if (this.domainNamePattern == null) {
+				attributes.domain = renderDomain(this.domainName);
+			}
+			if (this.cookiePath != null) {
+				attributes.path = renderPath(this.cookiePath);
+			}
+			StringBuilder suffix = new StringBuilder();
+			if (this.useHttpOnlyCookie) {
+				suffix.append("; HttpOnly");
+			}
+			if (this.sameSite != null) {
+				suffix.append("; SameSite=").append(this.sameSite);
+			}
+			if (this.partitioned) {
+				suffix.append("; Partitioned");
+			}
+			attributes.suffix = suffix.toString();
+			attributes.secureSuffix = "; Secure" + attributes.suffix;
+			this.cookieAttributes = attributes;
 		}
-		String path = getCookiePath(request);
-		if (path != null && path.length() > 0) {
-			validatePath(path);
-			sb.append("; Path=").append(path);
+		return attributes;
+	}
+
+	private void resetCookieAttributes() {
+		this.cookieAttributes = null;
+		this.cachedDomain = null;
+		this.cachedPath = null;
+	}
+
+	private String getExpires(int maxAge) {
+		long expiresSecond = this.clock.instant().getEpochSecond() + maxAge;
+		CachedExpires expires = this.cachedExpires;
+		if (expires == null || expires.second != expiresSecond) {
+			String formatted = DateTimeFormatter.RFC_1123_DATE_TIME
+				.format(Instant.ofEpochSecond(expiresSecond).atZone(ZoneOffset.UTC));
+			expires = new CachedExpires(expiresSecond, formatted);
+			this.cachedExpires = expires;
 		}
-		if (isSecureCookie(request)) {
-			sb.append("; Secure");
+		return expires.value;
+	}
+
+	private String getDomainAttribute(HttpServletRequest request) {
+		String serverName = request.getServerName();
+		CachedValue domain = this.cachedDomain;
+		if (domain == null || !Objects.equals(domain.key, serverName)) {
+			domain = new CachedValue(serverName, renderDomain(getDomainName(request)));
+			this.cachedDomain = domain;
 		}
-		if (this.useHttpOnlyCookie) {
-			sb.append("; HttpOnly");
+		return domain.value;
+	}
+
+	private String getPathAttribute(HttpServletRequest request) {
+		String contextPath = request.getContextPath();
+		CachedValue path = this.cachedPath;
+		if (path == null || !Objects.equals(path.key, contextPath)) {
+			path = new CachedValue(contextPath, renderPath(getCookiePath(request)));
+			this.cachedPath = path;
 		}
-		if (this.sameSite != null) {
-			sb.append("; SameSite=").append(this.sameSite);
+		return path.value;
+	}
+
+	private String renderDomain(String domain) {
+		if (domain == null || domain.length() == 0) {
+			return "";
 		}
-		if (this.partitioned) {
-			sb.append("; Partitioned");
+		validateDomain(domain);
+		return "; Domain=" + domain;
+	}
+
+	private String renderPath(String path) {
+		if (path == null || path.length() == 0) {
+			return "";
 		}
-		response.addHeader("Set-Cookie", sb.toString());
+		validatePath(path);
+		return "; Path=" + path;
 	}
 
 	/**
@@ -192,7 +324,13 @@ public class DefaultCookieSerializer implements CookieSerializer {
 	private String getValue(CookieValue cookieValue) {
 		String requestedCookieValue = cookieValue.getCookieValue();
 		String actualCookieValue = requestedCookieValue;
-		if (this.jvmRoute != null) {
+		if (this.jvmRouteResolver != null && !requestedCookieValue.isEmpty()) {
+			String route = this.jvmRouteResolver.resolveJvmRoute(requestedCookieValue);
+			if (route != null) {
+				actualCookieValue = requestedCookieValue + "." + route;
+			}
+		}
+		else if (this.jvmRoute != null) {
 			actualCookieValue = requestedCookieValue + this.jvmRoute;
 		}
 		if (this.useBase64Encoding) {
@@ -208,9 +346,8 @@ public class DefaultCookieSerializer implements CookieSerializer {
 			start = 1;
 			end--;
 		}
-		char[] chars = value.toCharArray();
 		for (int i = start; i < end; i++) {
-			char c = chars[i];
+			char c = value.charAt(i);
 			if (c < 0x21 || c == 0x22 || c == 0x2c || c == 0x3b || c == 0x5c || c == 0x7f) {
 				throw new IllegalArgumentException("Invalid character in cookie value: " + c);
 			}
@@ -263,6 +400,7 @@ public class DefaultCookieSerializer implements CookieSerializer {
 
 	void setClock(Clock clock) {
 		this.clock = clock.withZone(ZoneOffset.UTC);
+		this.cachedExpires = null;
 	}
 
 	/**
@@ -272,6 +410,7 @@ public class DefaultCookieSerializer implements CookieSerializer {
 	 */
 	public void setUseSecureCookie(boolean useSecureCookie) {
 		this.useSecureCookie = useSecureCookie;
+		resetCookieAttributes();
 	}
 
 	/**
@@ -280,6 +419,7 @@ public class DefaultCookieSerializer implements CookieSerializer {
 	 */
 	public void setUseHttpOnlyCookie(boolean useHttpOnlyCookie) {
 		this.useHttpOnlyCookie = useHttpOnlyCookie;
+		resetCookieAttributes();
 	}
 
 	private boolean isSecureCookie(HttpServletRequest request) {
@@ -297,6 +437,7 @@ public class DefaultCookieSerializer implements CookieSerializer {
 	 */
 	public void setCookiePath(String cookiePath) {
 		this.cookiePath = cookiePath;
+		resetCookieAttributes();
 	}
 
 	public void setCookieName(String cookieName) {
@@ -327,6 +468,7 @@ public class DefaultCookieSerializer implements CookieSerializer {
 			throw new IllegalStateException("Cannot set both domainName and domainNamePattern");
 		}
 		this.domainName = domainName;
+		resetCookieAttributes();
 	}
 
 	/**
@@ -363,6 +505,7 @@ public class DefaultCookieSerializer implements CookieSerializer {
 			throw new IllegalStateException("Cannot set both domainName and domainNamePattern");
 		}
 		this.domainNamePattern = Pattern.compile(domainNamePattern, Pattern.CASE_INSENSITIVE);
+		resetCookieAttributes();
 	}
 
 	/**
@@ -385,6 +528,24 @@ public class DefaultCookieSerializer implements CookieSerializer {
 		this.jvmRoute = "." + jvmRoute;
 	}
 
+	/**
+	 * Sets the {@link JvmRouteResolver} used to resolve a route for each session rather
+	 * than using a fixed {@link #setJvmRoute(String) JVM route}. The value of the cookie
+	 * is formatted as <code>
+	 * sessionId + "." route
+	 * </code>
+	 * <p>
+	 * The route is resolved only when the cookie is written, so a frontend proxy should
+	 * treat it as a hint and fall back to any instance if the route is unknown. Session
+	 * ids must not contain a {@code "."} when a resolver is used.
+	 * </p>
+	 * @param jvmRouteResolver the {@link JvmRouteResolver} to use
+	 * @since 3.5
+	 */
+	public void setJvmRouteResolver(JvmRouteResolver jvmRouteResolver) {
+		this.jvmRouteResolver = jvmRouteResolver;
+	}
+
 	/**
 	 * Set if the Base64 encoding of cookie value should be used. This is valuable in
 	 * order to support <a href="https://tools.ietf.org/html/rfc6265">RFC 6265</a> which
@@ -416,6 +577,7 @@ public class DefaultCookieSerializer implements CookieSerializer {
 	 */
 	public void setSameSite(String sameSite) {
 		this.sameSite = sameSite;
+		resetCookieAttributes();
 	}
 
 	private String getDomainName(HttpServletRequest request) {
@@ -456,6 +618,59 @@ public class DefaultCookieSerializer implements CookieSerializer {
 	 */
 	public void setPartitioned(boolean partitioned) {
 		this.partitioned = partitioned;
+		resetCookieAttributes();
+	}
+
+	/**
+	 * Sets whether the cookie values are read by scanning the {@code Cookie} request
+	 * headers for the configured cookie name instead of using
+	 * {@link HttpServletRequest#getCookies()}. This avoids parsing and allocating every
+	 * cookie sent with the request, which helps when requests carry many unrelated
+	 * cookies. The headers are split on {@code ;} and values are used as sent, without
+	 * removing quotes. The default is {@code false}.
+	 * @param readCookieHeader whether to read the {@code Cookie} headers directly
+	 * @since 3.5
+	 */
+	public void setReadCookieHeader(boolean readCookieHeader) {
+		this.readCookieHeader = readCookieHeader;
+	}
+
+	private static final class CookieAttributes {
+
+		private String domain;
+
+		private String path;
+
+		private String suffix;
+
+		private String secureSuffix;
+
+	}
+
+	private static final class CachedValue {
+
+		private final String key;
+
+		private final String value;
+
+		private CachedValue(String key, String value) {
+			this.key = key;
+			this.value = value;
+		}
+
+	}
+
+	private static final class CachedExpires {
+
+		private final long second;
+
+		private final String value;
+
+		private CachedExpires(long second, String value) {
+			this.second = second;
+			this.value = value;
+		}
+
 	}
 
 }
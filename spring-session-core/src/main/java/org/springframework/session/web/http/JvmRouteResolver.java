@@ -0,0 +1,41 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy for resolving the route of a session at the time its cookie is written. This
+ * allows {@link DefaultCookieSerializer} to append a per-session route rather than a
+ * fixed JVM route, for example the node that currently owns the session data.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ * @see DefaultCookieSerializer#setJvmRouteResolver(JvmRouteResolver)
+ */
+@FunctionalInterface
+public interface JvmRouteResolver {
+
+	/**
+	 * Resolve the route for the provided session id.
+	 * @param sessionId the session id
+	 * @return the route, or {@code null} if the session has no route
+	 */
+	@Nullable
+	String resolveJvmRoute(String sessionId);
+
+}
@@ -17,8 +17,14 @@
 package org.springframework.session.web.http;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.RequestDispatcher;
@@ -34,6 +40,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.annotation.Order;
+import org.springframework.session.MissingSessionIdCache;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
 
@@ -105,6 +112,14 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 
 	private HttpSessionIdResolver httpSessionIdResolver = new CookieHttpSessionIdResolver();
 
+	private Duration lastAccessedTimeSaveInterval = Duration.ZERO;
+
+	private Executor saveExecutor;
+
+	private MissingSessionIdCache missingSessionIdCache;
+
+	private final ConcurrentMap<String, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new instance.
 	 * @param sessionRepository the <code>SessionRepository</code> to use. Cannot be null.
@@ -129,6 +144,115 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 		this.httpSessionIdResolver = httpSessionIdResolver;
 	}
 
+	/**
+	 * Sets the minimum time that must pass before the last accessed time of an existing
+	 * session is saved when the session has no other changes, as reported by
+	 * {@link Session#hasChanges()}. Requests within this interval of the last saved
+	 * access do not save the session at all, which means a session may expire up to this
+	 * interval earlier than its maximum inactive interval. Attribute values that are
+	 * modified without calling {@link Session#setAttribute(String, Object)} are not
+	 * detected as changes. The default is {@link Duration#ZERO}, which saves the session
+	 * on every request.
+	 * @param lastAccessedTimeSaveInterval the minimum time between saves of an unchanged
+	 * session. Cannot be null or negative.
+	 * @since 3.5
+	 */
+	public void setLastAccessedTimeSaveInterval(Duration lastAccessedTimeSaveInterval) {
+		if (lastAccessedTimeSaveInterval == null || lastAccessedTimeSaveInterval.isNegative()) {
+			throw new IllegalArgumentException("lastAccessedTimeSaveInterval cannot be null or negative");
+		}
+		this.lastAccessedTimeSaveInterval = lastAccessedTimeSaveInterval;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to save existing sessions once the request has been
+	 * processed, so that the client does not wait for the write to the session store.
+	 * Only sessions that keep the requested session id are saved asynchronously, since
+	 * new sessions and sessions with a changed id have to be written to the response.
+	 * Saves of the same session are performed in order, and the filter waits for pending
+	 * saves before it reads or deletes a session, so later requests handled by this
+	 * filter never see older state. There is no such guarantee across application
+	 * instances: a request for the same session that is handled by another instance may
+	 * still see the state before the pending save. If the executor rejects a save, the
+	 * session is saved synchronously instead. A failed save is logged and retried by the
+	 * next request for the same session on this instance, which fails if the retry fails
+	 * too. By default, no executor is set and sessions are saved before the filter
+	 * returns.
+	 * @param saveExecutor the {@link Executor} to use, for example
+	 * {@code Executors.newVirtualThreadPerTaskExecutor()}. Cannot be null.
+	 * @since 3.5
+	 */
+	public void setSaveExecutor(Executor saveExecutor) {
+		if (saveExecutor == null) {
+			throw new IllegalArgumentException("saveExecutor cannot be null");
+		}
+		this.saveExecutor = saveExecutor;
+	}
+
+	/**
+	 * Sets the {@link MissingSessionIdCache} used to remember requested session ids that
+	 * were not found, so that later requests with the same session id do not look it up
+	 * in the {@link SessionRepository} again until it expires from the cache. Session ids
+	 * are removed from the cache whenever a session is saved. By default, no cache is
+	 * used.
+	 * @param missingSessionIdCache the {@link MissingSessionIdCache} to use. Cannot be
+	 * null.
+	 * @since 3.5
+	 */
+	public void setMissingSessionIdCache(MissingSessionIdCache missingSessionIdCache) {
+		if (missingSessionIdCache == null) {
+			throw new IllegalArgumentException("missingSessionIdCache cannot be null");
+		}
+		this.missingSessionIdCache = missingSessionIdCache;
+	}
+
+	private void saveAsync(S session) {
+		String sessionId = session.getId();
+		PendingSave pendingSave = new PendingSave(session);
+		PendingSave previous = this.pendingSaves.put(sessionId, pendingSave);
+		pendingSave.saved.whenComplete((result, ex) -> {
+			if (ex == null) {
+				this.pendingSaves.remove(sessionId, pendingSave);
+			}
+			else {
+				SESSION_LOGGER.error("Failed to save session with id " + sessionId
+						+ ", the save is retried by the next request for the session", ex);
+			}
+		});
+		if (previous == null) {
+			executeSave(pendingSave);
+			return;
+		}
+		// chain onto the pending save of the same session to keep saves in order
+		previous.saved.whenComplete((result, ex) -> {
+			if (ex != null) {
+				pendingSave.failedPrevious = previous;
+			}
+			executeSave(pendingSave);
+		});
+	}
+
+	private void executeSave(PendingSave pendingSave) {
+		try {
+			this.saveExecutor.execute(pendingSave::save);
+		}
+		catch (RejectedExecutionException ex) {
+			pendingSave.save();
+		}
+	}
+
+	private void awaitPendingSave(String sessionId) {
+		PendingSave pendingSave = this.pendingSaves.get(sessionId);
+		if (pendingSave == null) {
+			return;
+		}
+		pendingSave.saved.handle((result, ex) -> null).join();
+		if (pendingSave.saved.isCompletedExceptionally() && this.pendingSaves.remove(sessionId, pendingSave)) {
+			// retry the failed save, so that a second failure is thrown to this request
+			pendingSave.saveNow();
+		}
+	}
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
@@ -142,7 +266,7 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 			filterChain.doFilter(wrappedRequest, wrappedResponse);
 		}
 		finally {
-			wrappedRequest.commitSession();
+			wrappedRequest.commitSession(this.saveExecutor != null);
 		}
 	}
 
@@ -206,6 +330,8 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 
 		private boolean hasCommittedInInclude;
 
+		private Instant requestedSessionLastAccessedTime;
+
 		private SessionRepositoryRequestWrapper(HttpServletRequest request, HttpServletResponse response) {
 			super(request);
 			this.response = response;
@@ -216,6 +342,10 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 		 * and persist the Session.
 		 */
 		private void commitSession() {
+			commitSession(false);
+		}
+
+		private void commitSession(boolean saveAsync) {
 			HttpSessionWrapper wrappedSession = getCurrentSession();
 			if (wrappedSession == null) {
 				if (isInvalidateClientSession()) {
@@ -226,14 +356,37 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 				S session = wrappedSession.getSession();
 				String requestedSessionId = getRequestedSessionId();
 				clearRequestedSessionCache();
-				SessionRepositoryFilter.this.sessionRepository.save(session);
 				String sessionId = session.getId();
-				if (!isRequestedSessionIdValid() || !sessionId.equals(requestedSessionId)) {
+				boolean sessionIdChanged = !isRequestedSessionIdValid() || !sessionId.equals(requestedSessionId);
+				if (!isUnchanged(wrappedSession, session, requestedSessionId)) {
+					if (SessionRepositoryFilter.this.missingSessionIdCache != null) {
+						SessionRepositoryFilter.this.missingSessionIdCache.remove(sessionId);
+					}
+					if (saveAsync && !sessionIdChanged) {
+						saveAsync(session);
+					}
+					else {
+						SessionRepositoryFilter.this.sessionRepository.save(session);
+					}
+				}
+				if (sessionIdChanged) {
 					SessionRepositoryFilter.this.httpSessionIdResolver.setSessionId(this, this.response, sessionId);
 				}
 			}
 		}
 
+		private boolean isUnchanged(HttpSessionWrapper wrappedSession, S session, String requestedSessionId) {
+			// an existing session that keeps its id and only had its last accessed time
+			// updated within the configured interval does not need to be saved
+			Duration interval = SessionRepositoryFilter.this.lastAccessedTimeSaveInterval;
+			if (interval.isZero() || wrappedSession.isNew() || this.requestedSessionLastAccessedTime == null
+					|| !session.getId().equals(requestedSessionId) || session.hasChanges()) {
+				return false;
+			}
+			return Duration.between(this.requestedSessionLastAccessedTime, session.getLastAccessedTime())
+				.compareTo(interval) < 0;
+		}
+
 		@SuppressWarnings("unchecked")
 		private HttpSessionWrapper getCurrentSession() {
 			return (HttpSessionWrapper) getAttribute(CURRENT_SESSION_ATTR);
@@ -349,11 +502,20 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 					if (this.requestedSessionId == null) {
 						this.requestedSessionId = sessionId;
 					}
+					MissingSessionIdCache missingSessionIdCache = SessionRepositoryFilter.this.missingSessionIdCache;
+					if (missingSessionIdCache != null && missingSessionIdCache.contains(sessionId)) {
+						continue;
+					}
+					awaitPendingSave(sessionId);
 					S session = SessionRepositoryFilter.this.sessionRepository.findById(sessionId);
 					if (session != null) {
 						this.requestedSession = session;
+						this.requestedSessionLastAccessedTime = session.getLastAccessedTime();
 						break;
 					}
+					if (missingSessionIdCache != null) {
+						missingSessionIdCache.add(sessionId);
+					}
 				}
 				this.requestedSessionCached = true;
 			}
@@ -384,6 +546,7 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 				SessionRepositoryRequestWrapper.this.requestedSessionInvalidated = true;
 				setCurrentSession(null);
 				clearRequestedSessionCache();
+				awaitPendingSave(getId());
 				SessionRepositoryFilter.this.sessionRepository.deleteById(getId());
 			}
 
@@ -420,4 +583,41 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 
 	}
 
+	/**
+	 * A save of a session that is performed by the save executor. A failed save is kept,
+	 * so that it is retried by the next request for the session.
+	 */
+	private final class PendingSave {
+
+		private final S session;
+
+		private final CompletableFuture<Void> saved = new CompletableFuture<>();
+
+		private volatile PendingSave failedPrevious;
+
+		PendingSave(S session) {
+			this.session = session;
+		}
+
+		void save() {
+			try {
+				saveNow();
+				this.saved.complete(null);
+			}
+			catch (RuntimeException | Error ex) {
+				this.saved.completeExceptionally(ex);
+			}
+		}
+
+		void saveNow() {
+			PendingSave failedPrevious = this.failedPrevious;
+			if (failedPrevious != null) {
+				failedPrevious.saveNow();
+				this.failedPrevious = null;
+			}
+			SessionRepositoryFilter.this.sessionRepository.save(this.session);
+		}
+
+	}
+
 }
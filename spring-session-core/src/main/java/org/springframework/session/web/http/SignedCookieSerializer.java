@@ -0,0 +1,196 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link CookieSerializer} that signs the session id written to the cookie with an
+ * HMAC-SHA256 signature and the time it was issued, and only returns session ids with a
+ * valid signature when the cookie is read. This allows malformed, forged or unknown
+ * session ids to be rejected without looking them up in the
+ * {@link org.springframework.session.SessionRepository}. The cookie itself is written and
+ * read by the delegate {@link CookieSerializer}.
+ * <p>
+ * The cookie value is formatted as <code>
+ * sessionId + "~" + issuedAtEpochSeconds + "~" + signature
+ * </code>, where the signature is the URL safe Base64 encoded HMAC of the rest of the
+ * value. Since the value passed to the delegate is the signed value, a
+ * {@link JvmRouteResolver} of the delegate receives the signed value as well.
+ * </p>
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+public class SignedCookieSerializer implements CookieSerializer {
+
+	private static final String ALGORITHM = "HmacSHA256";
+
+	private static final int MIN_KEY_LENGTH = 32;
+
+	private static final char SEPARATOR = '~';
+
+	private final CookieSerializer delegate;
+
+	private final SecretKeySpec key;
+
+	private final Mac mac;
+
+	private Duration maxAge;
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Creates a new instance.
+	 * @param delegate the {@link CookieSerializer} that writes and reads the signed
+	 * cookie value. Cannot be null.
+	 * @param key the secret key used to sign the session ids. Must be at least 32 bytes
+	 * long and should be shared by all instances of the application.
+	 */
+	public SignedCookieSerializer(CookieSerializer delegate, byte[] key) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("delegate cannot be null");
+		}
+		if (key == null || key.length < MIN_KEY_LENGTH) {
+			throw new IllegalArgumentException("key must be at least " + MIN_KEY_LENGTH + " bytes");
+		}
+		this.delegate = delegate;
+		this.key = new SecretKeySpec(key, ALGORITHM);
+		this.mac = newMac();
+	}
+
+	/**
+	 * Sets the maximum time after a session id was issued that it is accepted. Since the
+	 * cookie is only written when a session is created or its id is changed, this should
+	 * be no less than the longest time a session is expected to remain in use. The
+	 * default is to accept session ids regardless of when they were issued.
+	 * @param maxAge the maximum age of a session id. Cannot be null or negative.
+	 */
+	public void setMaxAge(Duration maxAge) {
+		if (maxAge == null || maxAge.isNegative()) {
+			throw new IllegalArgumentException("maxAge cannot be null or negative");
+		}
+		this.maxAge = maxAge;
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public void writeCookieValue(CookieValue cookieValue) {
+		String sessionId = cookieValue.getCookieValue();
+		if (sessionId == null || sessionId.isEmpty()) {
+			this.delegate.writeCookieValue(cookieValue);
+			return;
+		}
+		String payload = sessionId + SEPARATOR + this.clock.instant().getEpochSecond();
+		String signature = Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload));
+		CookieValue signedCookieValue = new CookieValue(cookieValue.getRequest(), cookieValue.getResponse(),
+				payload + SEPARATOR + signature);
+		signedCookieValue.setCookieMaxAge(cookieValue.getCookieMaxAge());
+		this.delegate.writeCookieValue(signedCookieValue);
+	}
+
+	@Override
+	public List<String> readCookieValues(HttpServletRequest request) {
+		List<String> cookieValues = this.delegate.readCookieValues(request);
+		List<String> sessionIds = new ArrayList<>(cookieValues.size());
+		for (String cookieValue : cookieValues) {
+			String sessionId = verify(cookieValue);
+			if (sessionId != null) {
+				sessionIds.add(sessionId);
+			}
+		}
+		return sessionIds;
+	}
+
+	@Nullable
+	private String verify(String cookieValue) {
+		int signatureIndex = cookieValue.lastIndexOf(SEPARATOR);
+		int issuedAtIndex = (signatureIndex > 0) ? cookieValue.lastIndexOf(SEPARATOR, signatureIndex - 1) : -1;
+		if (issuedAtIndex <= 0) {
+			return null;
+		}
+		String payload = cookieValue.substring(0, signatureIndex);
+		byte[] signature;
+		try {
+			signature = Base64.getUrlDecoder().decode(cookieValue.substring(signatureIndex + 1));
+		}
+		catch (IllegalArgumentException ex) {
+			return null;
+		}
+		if (!MessageDigest.isEqual(sign(payload), signature)) {
+			return null;
+		}
+		if (this.maxAge != null) {
+			long issuedAt;
+			try {
+				issuedAt = Long.parseLong(payload, issuedAtIndex + 1, payload.length(), 10);
+			}
+			catch (NumberFormatException ex) {
+				return null;
+			}
+			if (this.clock.instant().getEpochSecond() - issuedAt > this.maxAge.getSeconds()) {
+				return null;
+			}
+		}
+		return payload.substring(0, issuedAtIndex);
+	}
+
+	private byte[] sign(String payload) {
+		Mac mac = createMac();
+		return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// Mac instances are not thread safe, so each signature uses a copy of the
+	// initialized prototype
+	private Mac createMac() {
+		try {
+			return (Mac) this.mac.clone();
+		}
+		catch (CloneNotSupportedException ex) {
+			return newMac();
+		}
+	}
+
+	private Mac newMac() {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(this.key);
+			return mac;
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Unable to create " + ALGORITHM + " signer", ex);
+		}
+	}
+
+}
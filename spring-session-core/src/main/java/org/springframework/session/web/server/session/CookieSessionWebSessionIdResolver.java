@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.server.session;
+
+import java.util.List;
+
+import org.springframework.session.CookieSession;
+import org.springframework.util.Assert;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebSession;
+import org.springframework.web.server.session.CookieWebSessionIdResolver;
+import org.springframework.web.server.session.WebSessionIdResolver;
+
+/**
+ * A {@link WebSessionIdResolver} for the
+ * {@link org.springframework.session.ReactiveCookieSessionRepository}, which reads the
+ * encrypted session from the session cookie and writes the
+ * {@link CookieSession#COOKIE_VALUE_ATTRIBUTE_NAME encrypted value} of the current
+ * {@link CookieSession} to the cookie instead of its id. The cookie is only written when
+ * the encrypted value differs from the value sent by the client. Reading and writing the
+ * cookie is delegated to a {@link CookieWebSessionIdResolver}, which can be used to
+ * customize the cookie.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+public class CookieSessionWebSessionIdResolver implements WebSessionIdResolver {
+
+	private final CookieWebSessionIdResolver delegate;
+
+	/**
+	 * Create a new instance that uses a default {@link CookieWebSessionIdResolver}.
+	 */
+	public CookieSessionWebSessionIdResolver() {
+		this(new CookieWebSessionIdResolver());
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param delegate the {@link CookieWebSessionIdResolver} that reads and writes the
+	 * cookie
+	 */
+	public CookieSessionWebSessionIdResolver(CookieWebSessionIdResolver delegate) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		this.delegate = delegate;
+	}
+
+	@Override
+	public List<String> resolveSessionIds(ServerWebExchange exchange) {
+		return this.delegate.resolveSessionIds(exchange);
+	}
+
+	@Override
+	public void setSessionId(ServerWebExchange exchange, String sessionId) {
+		// the session is saved after it was resolved, so the cached session is available
+		WebSession session = exchange.getSession().toFuture().getNow(null);
+		String cookieValue = (session != null) ? session.getAttribute(CookieSession.COOKIE_VALUE_ATTRIBUTE_NAME) : null;
+		if (cookieValue == null) {
+			// not a cookie session, fall back to writing the id
+			this.delegate.setSessionId(exchange, sessionId);
+			return;
+		}
+		if (!resolveSessionIds(exchange).contains(cookieValue)) {
+			this.delegate.setSessionId(exchange, cookieValue);
+		}
+	}
+
+	@Override
+	public void expireSession(ServerWebExchange exchange) {
+		this.delegate.expireSession(exchange);
+	}
+
+}
@@ -33,6 +33,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import reactor.core.publisher.Mono;
 
 import org.springframework.lang.Nullable;
+import org.springframework.session.MissingSessionIdCache;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.Session;
 import org.springframework.util.Assert;
@@ -55,6 +56,10 @@ public class SpringSessionWebSessionStore<S extends Session> implements WebSessi
 
 	private Clock clock = Clock.system(ZoneOffset.UTC);
 
+	private Duration lastAccessedTimeSaveInterval = Duration.ZERO;
+
+	private MissingSessionIdCache missingSessionIdCache;
+
 	public SpringSessionWebSessionStore(ReactiveSessionRepository<S> reactiveSessionRepository) {
 		Assert.notNull(reactiveSessionRepository, "reactiveSessionRepository cannot be null");
 		this.sessions = reactiveSessionRepository;
@@ -76,6 +81,39 @@ public class SpringSessionWebSessionStore<S extends Session> implements WebSessi
 		this.clock = clock;
 	}
 
+	/**
+	 * Sets the minimum time that must pass before the last accessed time of an existing
+	 * session is saved when the session has no other changes, as reported by
+	 * {@link Session#hasChanges()}. Saving such a session within this interval of the
+	 * last saved access completes without calling the {@link ReactiveSessionRepository},
+	 * which means a session may expire up to this interval earlier than its maximum
+	 * inactive interval. Attribute values that are modified without calling
+	 * {@link Session#setAttribute(String, Object)} are not detected as changes. The
+	 * default is {@link Duration#ZERO}, which saves the session every time.
+	 * @param lastAccessedTimeSaveInterval the minimum time between saves of an unchanged
+	 * session. Cannot be null or negative.
+	 * @since 3.5
+	 */
+	public void setLastAccessedTimeSaveInterval(Duration lastAccessedTimeSaveInterval) {
+		Assert.notNull(lastAccessedTimeSaveInterval, "lastAccessedTimeSaveInterval cannot be null");
+		Assert.isTrue(!lastAccessedTimeSaveInterval.isNegative(), "lastAccessedTimeSaveInterval cannot be negative");
+		this.lastAccessedTimeSaveInterval = lastAccessedTimeSaveInterval;
+	}
+
+	/**
+	 * Sets the {@link MissingSessionIdCache} used to remember requested session ids that
+	 * were not found, so that later requests with the same session id do not look it up
+	 * in the {@link ReactiveSessionRepository} again until it expires from the cache.
+	 * Session ids are removed from the cache whenever a session is created or saved. By
+	 * default, no cache is used.
+	 * @param missingSessionIdCache the {@link MissingSessionIdCache} to use
+	 * @since 3.5
+	 */
+	public void setMissingSessionIdCache(MissingSessionIdCache missingSessionIdCache) {
+		Assert.notNull(missingSessionIdCache, "missingSessionIdCache cannot be null");
+		this.missingSessionIdCache = missingSessionIdCache;
+	}
+
 	@Override
 	public Mono<WebSession> createWebSession() {
 		return this.sessions.createSession().map(this::createSession);
@@ -91,9 +129,16 @@ public class SpringSessionWebSessionStore<S extends Session> implements WebSessi
 
 	@Override
 	public Mono<WebSession> retrieveSession(String sessionId) {
+		MissingSessionIdCache missingSessionIdCache = this.missingSessionIdCache;
+		if (missingSessionIdCache == null) {
+			return this.sessions.findById(sessionId).map(this::existingSession);
+		}
+		if (missingSessionIdCache.contains(sessionId)) {
+			return Mono.empty();
+		}
 		return this.sessions.findById(sessionId)
-			.doOnNext((session) -> session.setLastAccessedTime(this.clock.instant()))
-			.map(this::existingSession);
+			.<WebSession>map(this::existingSession)
+			.switchIfEmpty(Mono.fromRunnable(() -> missingSessionIdCache.add(sessionId)));
 	}
 
 	@Override
@@ -102,11 +147,20 @@ public class SpringSessionWebSessionStore<S extends Session> implements WebSessi
 	}
 
 	private SpringSessionWebSession createSession(S session) {
+		forgetMissingSessionId(session.getId());
 		return new SpringSessionWebSession(session, State.NEW);
 	}
 
+	private void forgetMissingSessionId(String sessionId) {
+		if (this.missingSessionIdCache != null) {
+			this.missingSessionIdCache.remove(sessionId);
+		}
+	}
+
 	private SpringSessionWebSession existingSession(S session) {
-		return new SpringSessionWebSession(session, State.STARTED);
+		SpringSessionWebSession webSession = new SpringSessionWebSession(session, State.STARTED);
+		session.setLastAccessedTime(this.clock.instant());
+		return webSession;
 	}
 
 	/**
@@ -120,11 +174,20 @@ public class SpringSessionWebSessionStore<S extends Session> implements WebSessi
 
 		private AtomicReference<State> state = new AtomicReference<>();
 
+		private final String originalId;
+
+		private final Instant originalLastAccessedTime;
+
+		private final boolean isNew;
+
 		SpringSessionWebSession(S session, State state) {
 			Assert.notNull(session, "session cannot be null");
 			this.session = session;
 			this.attributes = new SpringSessionMap(session);
 			this.state.set(state);
+			this.originalId = session.getId();
+			this.originalLastAccessedTime = session.getLastAccessedTime();
+			this.isNew = State.NEW.equals(state);
 		}
 
 		@Override
@@ -164,9 +227,25 @@ public class SpringSessionWebSessionStore<S extends Session> implements WebSessi
 
 		@Override
 		public Mono<Void> save() {
+			if (isUnchanged()) {
+				return Mono.empty();
+			}
+			forgetMissingSessionId(this.session.getId());
 			return SpringSessionWebSessionStore.this.sessions.save(this.session);
 		}
 
+		private boolean isUnchanged() {
+			// an existing session that keeps its id and only had its last accessed time
+			// updated within the configured interval does not need to be saved
+			Duration interval = SpringSessionWebSessionStore.this.lastAccessedTimeSaveInterval;
+			if (interval.isZero() || this.isNew || !this.originalId.equals(this.session.getId())
+					|| this.session.hasChanges()) {
+				return false;
+			}
+			return Duration.between(this.originalLastAccessedTime, this.session.getLastAccessedTime())
+				.compareTo(interval) < 0;
+		}
+
 		@Override
 		public boolean isExpired() {
 			if (this.state.get().equals(State.EXPIRED)) {
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link Base64SessionIdGenerator}.
+ *
+ * @author agent (agent@local)
+ */
+class Base64SessionIdGeneratorTests {
+
+	@Test
+	void generateWhenDefaultByteLengthThen22UrlSafeCharacters() {
+		String sessionId = new Base64SessionIdGenerator().generate();
+		assertThat(sessionId).hasSize(22).matches("[A-Za-z0-9_-]+");
+		assertThat(Base64.getUrlDecoder().decode(sessionId)).hasSize(16);
+	}
+
+	@Test
+	void generateWhen24BytesThen32Characters() {
+		String sessionId = new Base64SessionIdGenerator(24).generate();
+		assertThat(sessionId).hasSize(32).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void generateWhenCalledMultipleTimesThenReturnsDistinctIds() {
+		Base64SessionIdGenerator generator = new Base64SessionIdGenerator(16, 2);
+		Set<String> sessionIds = new HashSet<>();
+		for (int i = 0; i < 1000; i++) {
+			sessionIds.add(generator.generate());
+		}
+		assertThat(sessionIds).hasSize(1000);
+	}
+
+	@Test
+	void isBlockingThenFalse() {
+		assertThat(new Base64SessionIdGenerator().isBlocking()).isFalse();
+	}
+
+	@Test
+	void constructorWhenByteLengthLessThan16ThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new Base64SessionIdGenerator(8))
+			.withMessage("byteLength must be at least 16");
+	}
+
+	@Test
+	void constructorWhenByteLengthGreaterThan24ThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new Base64SessionIdGenerator(32))
+			.withMessage("byteLength must be at most 24");
+	}
+
+}
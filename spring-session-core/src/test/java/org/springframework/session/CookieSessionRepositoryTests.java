@@ -0,0 +1,295 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link CookieSessionRepository}.
+ *
+ * @author agent (agent@local)
+ */
+class CookieSessionRepositoryTests {
+
+	private static final byte[] KEY = key(1);
+
+	private CookieSessionRepository repository;
+
+	@BeforeEach
+	void setup() {
+		this.repository = new CookieSessionRepository(KEY);
+	}
+
+	@Test
+	void constructorWhenKeyNullThenThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CookieSessionRepository(null))
+			.withMessage("key cannot be null");
+	}
+
+	@Test
+	void constructorWhenKeyInvalidLengthThenThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CookieSessionRepository(new byte[20]))
+			.withMessage("key must be 16, 24 or 32 bytes long");
+	}
+
+	@Test
+	void findByIdWhenSavedThenRestoresSession() {
+		CookieSession session = this.repository.createSession();
+		session.setAttribute("string", "value");
+		session.setAttribute("integer", 1);
+		session.setAttribute("long", 2L);
+		session.setAttribute("boolean", true);
+		session.setAttribute("list", Arrays.asList("a", "b"));
+		session.setMaxInactiveInterval(Duration.ofMinutes(10));
+		this.repository.save(session);
+
+		CookieSession found = this.repository.findById(session.getCookieValue());
+
+		assertThat(found).isNotNull();
+		assertThat(found.getId()).isEqualTo(session.getId());
+		assertThat(found.getAttributeNames()).containsOnly("string", "integer", "long", "boolean", "list");
+		assertThat(found.<String>getAttribute("string")).isEqualTo("value");
+		assertThat(found.<Integer>getAttribute("integer")).isEqualTo(1);
+		assertThat(found.<Long>getAttribute("long")).isEqualTo(2L);
+		assertThat(found.<Boolean>getAttribute("boolean")).isTrue();
+		assertThat(found.<Object>getAttribute("list")).isEqualTo(Arrays.asList("a", "b"));
+		assertThat(found.getMaxInactiveInterval()).isEqualTo(Duration.ofMinutes(10));
+		assertThat(found.getCreationTime()).isEqualTo(session.getCreationTime().truncatedTo(ChronoUnit.MILLIS));
+		assertThat(found.hasChanges()).isFalse();
+	}
+
+	@Test
+	void getIdWhenChangedThenSameId() {
+		CookieSession session = this.repository.createSession();
+		String id = session.getId();
+
+		session.setAttribute("name", "value");
+
+		assertThat(session.getId()).isEqualTo(id);
+	}
+
+	@Test
+	void getCookieValueWhenUnchangedThenSameValue() {
+		CookieSession session = this.repository.createSession();
+
+		assertThat(session.getCookieValue()).isEqualTo(session.getCookieValue());
+	}
+
+	@Test
+	void getCookieValueWhenChangedThenNewValue() {
+		CookieSession session = this.repository.createSession();
+		String cookieValue = session.getCookieValue();
+
+		session.setAttribute("name", "value");
+
+		assertThat(session.getCookieValue()).isNotEqualTo(cookieValue);
+	}
+
+	@Test
+	void getCookieValueWhenLastAccessedTimeChangedWithinWriteIntervalThenSameValue() {
+		CookieSession session = this.repository.createSession();
+		String cookieValue = session.getCookieValue();
+
+		session.setLastAccessedTime(session.getLastAccessedTime().plusSeconds(30));
+
+		assertThat(session.getCookieValue()).isEqualTo(cookieValue);
+	}
+
+	@Test
+	void getCookieValueWhenLastAccessedTimeChangedAfterWriteIntervalThenNewValue() {
+		this.repository.setLastAccessedTimeWriteInterval(Duration.ofSeconds(10));
+		CookieSession session = this.repository.createSession();
+		String cookieValue = session.getCookieValue();
+
+		session.setLastAccessedTime(session.getLastAccessedTime().plusSeconds(30));
+
+		assertThat(session.getCookieValue()).isNotEqualTo(cookieValue);
+	}
+
+	@Test
+	void getAttributeWhenCookieValueThenReturnsCookieValue() {
+		CookieSession session = this.repository.createSession();
+
+		assertThat(session.<String>getAttribute(CookieSession.COOKIE_VALUE_ATTRIBUTE_NAME))
+			.isEqualTo(session.getCookieValue());
+		assertThat(session.getAttributeNames()).isEmpty();
+	}
+
+	@Test
+	void setAttributeWhenCookieValueThenThrowsIllegalArgumentException() {
+		CookieSession session = this.repository.createSession();
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> session.setAttribute(CookieSession.COOKIE_VALUE_ATTRIBUTE_NAME, "value"));
+	}
+
+	@Test
+	void setLastAccessedTimeWriteIntervalWhenNegativeThenThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.repository.setLastAccessedTimeWriteInterval(Duration.ofSeconds(-1)))
+			.withMessage("lastAccessedTimeWriteInterval must not be negative");
+	}
+
+	@Test
+	void createSessionWhenSessionIdGeneratorThenUsesGenerator() {
+		this.repository.setSessionIdGenerator(() -> "custom");
+
+		CookieSession session = this.repository.createSession();
+
+		assertThat(session.getId()).isEqualTo("custom");
+		assertThat(this.repository.findById(session.getCookieValue()).getId()).isEqualTo("custom");
+	}
+
+	@Test
+	void changeSessionIdThenNewIdFound() {
+		CookieSession session = this.repository.createSession();
+		String id = session.getId();
+		String cookieValue = session.getCookieValue();
+
+		String changedId = session.changeSessionId();
+
+		assertThat(changedId).isNotEqualTo(id).isEqualTo(session.getId());
+		assertThat(session.getCookieValue()).isNotEqualTo(cookieValue);
+		assertThat(this.repository.findById(session.getCookieValue()).getId()).isEqualTo(changedId);
+	}
+
+	@Test
+	void findByIdWhenTamperedThenNull() {
+		byte[] decoded = Base64.getUrlDecoder().decode(this.repository.createSession().getCookieValue());
+		decoded[decoded.length / 2] ^= 1;
+		String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(decoded);
+
+		assertThat(this.repository.findById(tampered)).isNull();
+	}
+
+	@Test
+	void findByIdWhenMalformedThenNull() {
+		assertThat(this.repository.findById("not a session")).isNull();
+		assertThat(this.repository.findById("")).isNull();
+	}
+
+	@Test
+	void findByIdWhenExpiredThenNull() {
+		CookieSession session = this.repository.createSession();
+		session.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+
+		assertThat(this.repository.findById(session.getCookieValue())).isNull();
+	}
+
+	@Test
+	void findByIdWhenEncryptedWithPreviousKeyThenFound() {
+		String cookieValue = this.repository.createSession().getCookieValue();
+		this.repository = new CookieSessionRepository(key(2), KEY);
+
+		assertThat(this.repository.findById(cookieValue)).isNotNull();
+	}
+
+	@Test
+	void findByIdWhenEncryptedWithUnknownKeyThenNull() {
+		String cookieValue = this.repository.createSession().getCookieValue();
+		this.repository = new CookieSessionRepository(key(2));
+
+		assertThat(this.repository.findById(cookieValue)).isNull();
+	}
+
+	@Test
+	void saveWhenSessionTooLargeThenThrowsIllegalStateException() {
+		this.repository.setMaxCookieValueLength(100);
+		CookieSession session = this.repository.createSession();
+		session.setAttribute("name", String.join("", Collections.nCopies(100, "a")));
+
+		assertThatIllegalStateException().isThrownBy(() -> this.repository.save(session))
+			.withMessageContaining("exceeds the maximum cookie value length of 100");
+	}
+
+	@Test
+	void setMaxCookieValueLengthWhenNotPositiveThenThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repository.setMaxCookieValueLength(0))
+			.withMessage("maxCookieValueLength must be positive");
+	}
+
+	@Test
+	void saveWhenAttributeClassNotAllowedThenThrowsIllegalStateException() {
+		CookieSession session = this.repository.createSession();
+		session.setAttribute("name", new CustomAttribute("value"));
+
+		assertThatIllegalStateException().isThrownBy(() -> this.repository.save(session))
+			.withMessageContaining("Session attribute 'name' of type " + CustomAttribute.class.getName());
+	}
+
+	@Test
+	void findByIdWhenAttributeClassAllowedThenRestoresAttribute() {
+		this.repository.setAllowedClassPatterns("java.lang.*", CustomAttribute.class.getName());
+		CookieSession session = this.repository.createSession();
+		session.setAttribute("name", new CustomAttribute("value"));
+		this.repository.save(session);
+
+		CookieSession found = this.repository.findById(session.getCookieValue());
+
+		assertThat(found).isNotNull();
+		assertThat(found.<CustomAttribute>getAttribute("name").value).isEqualTo("value");
+	}
+
+	@Test
+	void findByIdWhenAttributeClassNoLongerAllowedThenNull() {
+		this.repository.setAllowedClassPatterns("java.lang.*", CustomAttribute.class.getName());
+		CookieSession session = this.repository.createSession();
+		session.setAttribute("name", new CustomAttribute("value"));
+		this.repository.save(session);
+		this.repository = new CookieSessionRepository(KEY);
+
+		assertThat(this.repository.findById(session.getCookieValue())).isNull();
+	}
+
+	@Test
+	void setAllowedClassPatternsWhenNullThenThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repository.setAllowedClassPatterns((String[]) null))
+			.withMessage("allowedClassPatterns cannot be null");
+	}
+
+	private static byte[] key(int value) {
+		byte[] key = new byte[32];
+		Arrays.fill(key, (byte) value);
+		return key;
+	}
+
+	static class CustomAttribute implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String value;
+
+		CustomAttribute(String value) {
+			this.value = value;
+		}
+
+	}
+
+}
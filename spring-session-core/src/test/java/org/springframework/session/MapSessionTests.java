@@ -157,6 +157,27 @@ class MapSessionTests {
 		assertThat(this.session.getAttributeNames()).isEmpty();
 	}
 
+	@Test
+	void hasChangesWhenOnlyLastAccessedTimeUpdatedThenFalse() {
+		MapSession session = new MapSession(this.session);
+		session.setLastAccessedTime(Instant.now());
+		assertThat(session.hasChanges()).isFalse();
+	}
+
+	@Test
+	void hasChangesWhenAttributeSetThenTrue() {
+		MapSession session = new MapSession(this.session);
+		session.setAttribute("attribute1", "value1");
+		assertThat(session.hasChanges()).isTrue();
+	}
+
+	@Test
+	void hasChangesWhenSessionIdChangedThenTrue() {
+		MapSession session = new MapSession(this.session);
+		session.changeSessionId();
+		assertThat(session.hasChanges()).isTrue();
+	}
+
 	@Test
 	void changeSessionIdWhenSessionIdStrategyThenUsesStrategy() {
 		MapSession session = new MapSession(new IncrementalSessionIdGenerator());
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link MissingSessionIdCache}.
+ *
+ * @author agent (agent@local)
+ */
+class MissingSessionIdCacheTests {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+	private MissingSessionIdCache cache;
+
+	@BeforeEach
+	void setup() {
+		this.cache = new MissingSessionIdCache(2, Duration.ofSeconds(10));
+		this.cache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	void constructorWhenMaxSizeNotPositiveThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new MissingSessionIdCache(0, Duration.ofSeconds(10)))
+			.withMessage("maxSize must be positive");
+	}
+
+	@Test
+	void constructorWhenTimeToLiveZeroThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new MissingSessionIdCache(10, Duration.ZERO))
+			.withMessage("timeToLive must be positive");
+	}
+
+	@Test
+	void containsWhenAddedThenTrue() {
+		this.cache.add("a");
+		assertThat(this.cache.contains("a")).isTrue();
+		assertThat(this.cache.contains("b")).isFalse();
+	}
+
+	@Test
+	void containsWhenRemovedThenFalse() {
+		this.cache.add("a");
+		this.cache.remove("a");
+		assertThat(this.cache.contains("a")).isFalse();
+	}
+
+	@Test
+	void containsWhenTimeToLiveElapsedThenFalse() {
+		this.cache.add("a");
+		this.cache.setClock(Clock.fixed(NOW.plusSeconds(10), ZoneOffset.UTC));
+		assertThat(this.cache.contains("a")).isFalse();
+	}
+
+	@Test
+	void addWhenMaxSizeExceededThenEldestEvicted() {
+		this.cache.add("a");
+		this.cache.add("b");
+		this.cache.add("c");
+		assertThat(this.cache.contains("a")).isFalse();
+		assertThat(this.cache.contains("b")).isTrue();
+		assertThat(this.cache.contains("c")).isTrue();
+	}
+
+}
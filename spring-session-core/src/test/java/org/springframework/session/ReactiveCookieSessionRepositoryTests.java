@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReactiveCookieSessionRepository}.
+ *
+ * @author agent (agent@local)
+ */
+class ReactiveCookieSessionRepositoryTests {
+
+	private ReactiveCookieSessionRepository repository;
+
+	@BeforeEach
+	void setup() {
+		byte[] key = new byte[16];
+		Arrays.fill(key, (byte) 1);
+		this.repository = new ReactiveCookieSessionRepository(key);
+	}
+
+	@Test
+	void findByIdWhenSavedThenFound() {
+		CookieSession session = this.repository.createSession().block();
+		session.setAttribute("name", "value");
+		this.repository.save(session).block();
+
+		CookieSession found = this.repository.findById(session.getCookieValue()).block();
+
+		assertThat(found).isNotNull();
+		assertThat(found.getId()).isEqualTo(session.getId());
+		assertThat(found.<String>getAttribute("name")).isEqualTo("value");
+	}
+
+	@Test
+	void findByIdWhenMalformedThenEmpty() {
+		assertThat(this.repository.findById("not a session").block()).isNull();
+	}
+
+	@Test
+	void findByIdWhenExpiredThenEmpty() {
+		CookieSession session = this.repository.createSession().block();
+		session.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+
+		assertThat(this.repository.findById(session.getCookieValue()).block()).isNull();
+	}
+
+}
@@ -22,6 +22,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -152,6 +153,38 @@ class ReactiveMapSessionRepositoryTests {
 		assertThat(session.getAttributeNames()).isEmpty();
 	}
 
+	@Test
+	void createSessionWhenSessionIdGeneratorNotBlockingThenGeneratesOnCallingThread() {
+		AtomicReference<Thread> generatingThread = new AtomicReference<>();
+		this.repository.setSessionIdGenerator(new SessionIdGenerator() {
+
+			@Override
+			public String generate() {
+				generatingThread.set(Thread.currentThread());
+				return "test";
+			}
+
+			@Override
+			public boolean isBlocking() {
+				return false;
+			}
+
+		});
+		this.repository.createSession().block();
+		assertThat(generatingThread.get()).isSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void createSessionWhenSessionIdGeneratorBlockingThenGeneratesOnBoundedElastic() {
+		AtomicReference<Thread> generatingThread = new AtomicReference<>();
+		this.repository.setSessionIdGenerator(() -> {
+			generatingThread.set(Thread.currentThread());
+			return "test";
+		});
+		this.repository.createSession().block();
+		assertThat(generatingThread.get().getName()).startsWith("boundedElastic");
+	}
+
 	@Test
 	void createSessionWhenSessionIdGeneratorThenUses() {
 		this.repository.setSessionIdGenerator(() -> "test");
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReactiveSessionIdGeneratorUtils}.
+ *
+ * @author agent (agent@local)
+ */
+class ReactiveSessionIdGeneratorUtilsTests {
+
+	@Test
+	void generateSessionIdWhenBlockingThenGeneratesOnBoundedElastic() {
+		AtomicReference<String> thread = new AtomicReference<>();
+		SessionIdGenerator generator = () -> {
+			thread.set(Thread.currentThread().getName());
+			return "id";
+		};
+
+		String sessionId = ReactiveSessionIdGeneratorUtils.generateSessionId(generator).block();
+
+		assertThat(sessionId).isEqualTo("id");
+		assertThat(thread.get()).startsWith("boundedElastic");
+	}
+
+	@Test
+	void generateSessionIdWhenNotBlockingThenGeneratesOnSubscribingThread() {
+		AtomicReference<String> thread = new AtomicReference<>();
+		SessionIdGenerator generator = new SessionIdGenerator() {
+
+			@Override
+			public String generate() {
+				thread.set(Thread.currentThread().getName());
+				return "id";
+			}
+
+			@Override
+			public boolean isBlocking() {
+				return false;
+			}
+
+		};
+
+		String sessionId = ReactiveSessionIdGeneratorUtils.generateSessionId(generator).block();
+
+		assertThat(sessionId).isEqualTo("id");
+		assertThat(thread.get()).isEqualTo(Thread.currentThread().getName());
+	}
+
+}
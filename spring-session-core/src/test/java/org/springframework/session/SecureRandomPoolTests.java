@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link SecureRandomPool}.
+ *
+ * @author agent (agent@local)
+ */
+class SecureRandomPoolTests {
+
+	@Test
+	void constructorWhenPoolSizeNotPositiveThenThrowsIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SecureRandomPool(0))
+			.withMessage("poolSize must be greater than 0");
+	}
+
+	@Test
+	void getAlgorithmThenDrbg() {
+		assertThat(new SecureRandomPool(2).getAlgorithm()).isEqualTo("DRBG");
+	}
+
+	@Test
+	void nextBytesThenFillsBytes() {
+		SecureRandomPool pool = new SecureRandomPool(2);
+		byte[] first = new byte[16];
+		byte[] second = new byte[16];
+
+		pool.nextBytes(first);
+		pool.nextBytes(second);
+
+		assertThat(first).isNotEqualTo(second).isNotEqualTo(new byte[16]);
+	}
+
+}
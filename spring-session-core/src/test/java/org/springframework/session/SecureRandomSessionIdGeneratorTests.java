@@ -0,0 +1,67 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link SecureRandomSessionIdGenerator}.
+ *
+ * @author agent (agent@local)
+ */
+class SecureRandomSessionIdGeneratorTests {
+
+	private final SecureRandomSessionIdGenerator generator = new SecureRandomSessionIdGenerator(2);
+
+	@Test
+	void generateThenReturnsRandomVersion4Uuid() {
+		String sessionId = this.generator.generate();
+		UUID uuid = UUID.fromString(sessionId);
+		assertThat(uuid.toString()).isEqualTo(sessionId);
+		assertThat(uuid.version()).isEqualTo(4);
+		assertThat(uuid.variant()).isEqualTo(2);
+	}
+
+	@Test
+	void generateWhenCalledMultipleTimesThenReturnsDistinctIds() {
+		Set<String> sessionIds = new HashSet<>();
+		for (int i = 0; i < 1000; i++) {
+			sessionIds.add(this.generator.generate());
+		}
+		assertThat(sessionIds).hasSize(1000);
+	}
+
+	@Test
+	void isBlockingThenFalse() {
+		assertThat(this.generator.isBlocking()).isFalse();
+		assertThat(UuidSessionIdGenerator.getInstance().isBlocking()).isTrue();
+	}
+
+	@Test
+	void constructorWhenPoolSizeZeroThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SecureRandomSessionIdGenerator(0))
+			.withMessage("poolSize must be greater than 0");
+	}
+
+}
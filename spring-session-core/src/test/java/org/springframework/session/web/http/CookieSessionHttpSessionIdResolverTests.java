@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.session.CookieSession;
+import org.springframework.session.CookieSessionRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CookieSessionHttpSessionIdResolver}.
+ *
+ * @author agent (agent@local)
+ */
+class CookieSessionHttpSessionIdResolverTests {
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	private CookieSessionHttpSessionIdResolver resolver;
+
+	@BeforeEach
+	void setup() {
+		this.request = new MockHttpServletRequest();
+		this.response = new MockHttpServletResponse();
+		this.resolver = new CookieSessionHttpSessionIdResolver();
+		DefaultCookieSerializer cookieSerializer = new DefaultCookieSerializer();
+		cookieSerializer.setUseBase64Encoding(false);
+		this.resolver.setCookieSerializer(cookieSerializer);
+	}
+
+	@Test
+	void resolveSessionIdsThenReturnsCookieValues() {
+		this.request.setCookies(new Cookie("SESSION", "encrypted"));
+
+		assertThat(this.resolver.resolveSessionIds(this.request)).containsExactly("encrypted");
+	}
+
+	@Test
+	void setSessionIdWhenCookieSessionThenWritesCookieValue() {
+		setCookieValue("encrypted");
+
+		this.resolver.setSessionId(this.request, this.response, "id");
+
+		assertThat(this.response.getCookie("SESSION").getValue()).isEqualTo("encrypted");
+	}
+
+	@Test
+	void setSessionIdWhenCookieValueUnchangedThenNoCookie() {
+		this.request.setCookies(new Cookie("SESSION", "encrypted"));
+		setCookieValue("encrypted");
+
+		this.resolver.setSessionId(this.request, this.response, "id");
+
+		assertThat(this.response.getCookies()).isEmpty();
+	}
+
+	@Test
+	void setSessionIdWhenCookieValueChangedThenWritesCookieValue() {
+		this.request.setCookies(new Cookie("SESSION", "encrypted"));
+		setCookieValue("changed");
+
+		this.resolver.setSessionId(this.request, this.response, "id");
+
+		assertThat(this.response.getCookie("SESSION").getValue()).isEqualTo("changed");
+	}
+
+	@Test
+	void setSessionIdWhenNotCookieSessionThenWritesId() {
+		this.request.setSession(new MockHttpSession());
+
+		this.resolver.setSessionId(this.request, this.response, "id");
+
+		assertThat(this.response.getCookie("SESSION").getValue()).isEqualTo("id");
+	}
+
+	@Test
+	void expireSessionThenWritesEmptyCookie() {
+		this.resolver.expireSession(this.request, this.response);
+
+		assertThat(this.response.getCookie("SESSION").getValue()).isEmpty();
+	}
+
+	@Test
+	void doFilterWhenSessionUnchangedThenKeepsIdAndCookie() throws Exception {
+		SessionRepositoryFilter<CookieSession> filter = new SessionRepositoryFilter<>(
+				new CookieSessionRepository(new byte[16]));
+		filter.setHttpSessionIdResolver(this.resolver);
+		String[] ids = new String[2];
+		filter.doFilter(this.request, this.response, new MockFilterChain(new HttpServlet() {
+		}, (Filter) (request, response, chain) -> ids[0] = ((HttpServletRequest) request).getSession().getId()));
+		Cookie cookie = this.response.getCookie("SESSION");
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(cookie);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+		}, (Filter) (req, res, chain) -> ids[1] = ((HttpServletRequest) req).getSession().getId()));
+
+		assertThat(ids[1]).isEqualTo(ids[0]).isNotEqualTo(cookie.getValue());
+		assertThat(response.getCookies()).isEmpty();
+	}
+
+	private void setCookieValue(String cookieValue) {
+		MockHttpSession session = new MockHttpSession();
+		session.setAttribute(CookieSession.COOKIE_VALUE_ATTRIBUTE_NAME, cookieValue);
+		this.request.setSession(session);
+	}
+
+}
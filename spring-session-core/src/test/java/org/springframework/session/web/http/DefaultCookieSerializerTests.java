@@ -120,6 +120,42 @@ class DefaultCookieSerializerTests {
 		assertThat(this.serializer.readCookieValues(this.request)).containsExactly(this.sessionId, secondSession);
 	}
 
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void readCookieValuesWhenReadCookieHeaderThenMatchingValues(boolean useBase64Encoding) {
+		this.serializer.setUseBase64Encoding(useBase64Encoding);
+		this.serializer.setReadCookieHeader(true);
+		String secondSession = "secondSessionId";
+		this.request.addHeader("Cookie", "_ga=GA1.2.3; " + this.cookieName + "INVALID=invalid;" + this.cookieName + "="
+				+ createCookie(this.cookieName, this.sessionId, useBase64Encoding).getValue() + " ; theme=dark");
+		this.request.addHeader("Cookie",
+				this.cookieName + "=" + createCookie(this.cookieName, secondSession, useBase64Encoding).getValue());
+		assertThat(this.serializer.readCookieValues(this.request)).containsExactly(this.sessionId, secondSession);
+	}
+
+	@Test
+	void readCookieValuesWhenReadCookieHeaderAndJvmRouteThenRouteRemoved() {
+		this.serializer.setReadCookieHeader(true);
+		this.serializer.setUseBase64Encoding(false);
+		this.serializer.setJvmRoute("route");
+		this.request.addHeader("Cookie", "other=value; " + this.cookieName + "=" + this.sessionId + ".route");
+		assertThat(this.serializer.readCookieValues(this.request)).containsOnly(this.sessionId);
+	}
+
+	@Test
+	void readCookieValuesWhenReadCookieHeaderAndNoHeaderThenEmpty() {
+		this.serializer.setReadCookieHeader(true);
+		assertThat(this.serializer.readCookieValues(this.request)).isEmpty();
+	}
+
+	@Test
+	void readCookieValuesWhenReadCookieHeaderAndNameIsPrefixThenEmpty() {
+		this.serializer.setReadCookieHeader(true);
+		this.serializer.setUseBase64Encoding(false);
+		this.request.addHeader("Cookie", "X" + this.cookieName + "=value; " + this.cookieName);
+		assertThat(this.serializer.readCookieValues(this.request)).isEmpty();
+	}
+
 	// gh-392
 	@ParameterizedTest
 	@ValueSource(booleans = { true, false })
@@ -411,6 +447,42 @@ class DefaultCookieSerializerTests {
 		assertThat(this.serializer.readCookieValues(this.request)).containsOnly("");
 	}
 
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void writeCookieJvmRouteResolver(boolean useBase64Encoding) {
+		this.serializer.setUseBase64Encoding(useBase64Encoding);
+		this.serializer.setJvmRouteResolver((sessionId) -> "route-" + sessionId.length());
+		this.serializer.writeCookieValue(cookieValue(this.sessionId));
+		assertThat(getCookieValue(useBase64Encoding)).isEqualTo(this.sessionId + ".route-" + this.sessionId.length());
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void writeCookieJvmRouteResolverNoRoute(boolean useBase64Encoding) {
+		this.serializer.setUseBase64Encoding(useBase64Encoding);
+		this.serializer.setJvmRouteResolver((sessionId) -> null);
+		this.serializer.writeCookieValue(cookieValue(this.sessionId));
+		assertThat(getCookieValue(useBase64Encoding)).isEqualTo(this.sessionId);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void readCookieJvmRouteResolver(boolean useBase64Encoding) {
+		this.serializer.setUseBase64Encoding(useBase64Encoding);
+		this.serializer.setJvmRouteResolver((sessionId) -> "route");
+		this.request.setCookies(createCookie(this.cookieName, this.sessionId + ".other", useBase64Encoding));
+		assertThat(this.serializer.readCookieValues(this.request)).containsOnly(this.sessionId);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void readCookieJvmRouteResolverRouteMissing(boolean useBase64Encoding) {
+		this.serializer.setUseBase64Encoding(useBase64Encoding);
+		this.serializer.setJvmRouteResolver((sessionId) -> "route");
+		this.request.setCookies(createCookie(this.cookieName, this.sessionId, useBase64Encoding));
+		assertThat(this.serializer.readCookieValues(this.request)).containsOnly(this.sessionId);
+	}
+
 	// --- rememberMe ---
 
 	@Test
@@ -479,6 +551,56 @@ class DefaultCookieSerializerTests {
 		return new Cookie(name, value);
 	}
 
+	@Test
+	void writeCookieWhenConfigurationChangedAfterWriteThenUsesNewConfiguration() {
+		this.serializer.writeCookieValue(cookieValue(this.sessionId));
+		this.serializer.setDomainName("example.com");
+		this.serializer.setCookiePath("/custom");
+		this.serializer.setUseSecureCookie(true);
+		this.serializer.setUseHttpOnlyCookie(false);
+		this.serializer.setSameSite("Strict");
+		this.serializer.setPartitioned(true);
+		this.response = new MockHttpServletResponse();
+
+		this.serializer.writeCookieValue(cookieValue(this.sessionId));
+
+		MockCookie cookie = getCookie();
+		assertThat(cookie.getDomain()).isEqualTo("example.com");
+		assertThat(cookie.getPath()).isEqualTo("/custom");
+		assertThat(cookie.getSecure()).isTrue();
+		assertThat(cookie.isHttpOnly()).isFalse();
+		assertThat(cookie.getSameSite()).isEqualTo("Strict");
+		assertThat(cookie.isPartitioned()).isTrue();
+	}
+
+	@Test
+	void writeCookieWhenContextPathChangesThenUsesContextPath() {
+		this.request.setContextPath("/first");
+		this.serializer.writeCookieValue(cookieValue(this.sessionId));
+		assertThat(getCookie().getPath()).isEqualTo("/first");
+		this.response = new MockHttpServletResponse();
+		this.request.setContextPath("/second");
+
+		this.serializer.writeCookieValue(cookieValue(this.sessionId));
+
+		assertThat(getCookie().getPath()).isEqualTo("/second");
+	}
+
+	@Test
+	void writeCookieWhenClockAdvancesThenExpiresAdvances() {
+		Instant now = Instant.parse("2019-10-07T20:10:00Z");
+		this.serializer.setCookieMaxAge(100);
+		this.serializer.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		this.serializer.writeCookieValue(cookieValue(this.sessionId));
+		this.response = new MockHttpServletResponse();
+		this.serializer.setClock(Clock.fixed(now.plusSeconds(1), ZoneOffset.UTC));
+
+		this.serializer.writeCookieValue(cookieValue(this.sessionId));
+
+		assertThat(getCookie().getExpires().format(DateTimeFormatter.RFC_1123_DATE_TIME))
+			.isEqualTo("Mon, 7 Oct 2019 20:11:41 GMT");
+	}
+
 	private MockCookie getCookie() {
 		return (MockCookie) this.response.getCookie(this.cookieName);
 	}
@@ -17,14 +17,17 @@
 package org.springframework.session.web.http;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -53,6 +56,7 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.session.MapSession;
 import org.springframework.session.MapSessionRepository;
+import org.springframework.session.MissingSessionIdCache;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -66,6 +70,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
@@ -1203,6 +1208,327 @@ class SessionRepositoryFilterTests {
 			.withMessage("httpSessionIdResolver cannot be null");
 	}
 
+	@Test
+	void setLastAccessedTimeSaveIntervalWhenNegativeThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.filter.setLastAccessedTimeSaveInterval(Duration.ofSeconds(-1)))
+			.withMessage("lastAccessedTimeSaveInterval cannot be null or negative");
+	}
+
+	@Test
+	void doFilterWhenLastAccessedTimeSaveIntervalAndSessionUnchangedThenDoesNotSave() throws Exception {
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setLastAccessedTimeSaveInterval(Duration.ofMinutes(1));
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession().setAttribute("a", "b");
+			}
+		});
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				assertThat(wrappedRequest.getSession().getAttribute("a")).isEqualTo("b");
+			}
+		});
+
+		verify(this.sessionRepository, times(1)).save(any());
+	}
+
+	@Test
+	void doFilterWhenLastAccessedTimeSaveIntervalAndAttributeSetThenSaves() throws Exception {
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setLastAccessedTimeSaveInterval(Duration.ofMinutes(1));
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession();
+			}
+		});
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession().setAttribute("a", "b");
+			}
+		});
+
+		verify(this.sessionRepository, times(2)).save(any());
+		assertThat(this.sessions.values().iterator().next().<String>getAttribute("a")).isEqualTo("b");
+	}
+
+	@Test
+	void doFilterWhenLastAccessedTimeSaveIntervalElapsedThenSaves() throws Exception {
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setLastAccessedTimeSaveInterval(Duration.ofMinutes(1));
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession();
+			}
+		});
+		Session saved = this.sessions.values().iterator().next();
+		saved.setLastAccessedTime(Instant.now().minus(Duration.ofMinutes(2)));
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession();
+			}
+		});
+
+		verify(this.sessionRepository, times(2)).save(any());
+		assertThat(this.sessions.get(saved.getId()).getLastAccessedTime())
+			.isAfter(Instant.now().minus(Duration.ofMinutes(1)));
+	}
+
+	@Test
+	void setSaveExecutorWhenNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.filter.setSaveExecutor(null))
+			.withMessage("saveExecutor cannot be null");
+	}
+
+	@Test
+	void doFilterWhenSaveExecutorAndNewSessionThenSavesSynchronously() throws Exception {
+		List<Runnable> saves = new ArrayList<>();
+		this.filter.setSaveExecutor(saves::add);
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession().setAttribute("a", "b");
+			}
+		});
+
+		assertThat(saves).isEmpty();
+		assertThat(this.sessions.values().iterator().next().<String>getAttribute("a")).isEqualTo("b");
+		assertThat(this.response.getCookie("SESSION")).isNotNull();
+	}
+
+	@Test
+	void doFilterWhenSaveExecutorAndExistingSessionThenSavesAsynchronously() throws Exception {
+		List<Runnable> saves = new ArrayList<>();
+		this.filter.setSaveExecutor(saves::add);
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession();
+			}
+		});
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession().setAttribute("a", "b");
+			}
+		});
+
+		Session saved = this.sessions.values().iterator().next();
+		assertThat(saved.<String>getAttribute("a")).isNull();
+		assertThat(saves).hasSize(1);
+		assertThat(this.response.getCookie("SESSION")).isNull();
+		saves.get(0).run();
+		assertThat(this.sessions.get(saved.getId()).<String>getAttribute("a")).isEqualTo("b");
+	}
+
+	@Test
+	void doFilterWhenSaveExecutorAndChangeSessionIdThenSavesSynchronously() throws Exception {
+		List<Runnable> saves = new ArrayList<>();
+		this.filter.setSaveExecutor(saves::add);
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession();
+			}
+		});
+		String originalId = this.sessions.keySet().iterator().next();
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.changeSessionId();
+			}
+		});
+
+		assertThat(saves).isEmpty();
+		assertThat(this.sessions).doesNotContainKey(originalId).hasSize(1);
+		assertThat(this.response.getCookie("SESSION")).isNotNull();
+	}
+
+	@Test
+	void doFilterWhenSaveExecutorRejectsSaveThenSavesSynchronously() throws Exception {
+		this.filter.setSaveExecutor((save) -> {
+			throw new RejectedExecutionException("shutdown");
+		});
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession();
+			}
+		});
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession().setAttribute("a", "b");
+			}
+		});
+
+		assertThat(this.sessions.values().iterator().next().<String>getAttribute("a")).isEqualTo("b");
+	}
+
+	@Test
+	void doFilterWhenAsynchronousSaveFailsThenNextRequestRetriesSave() throws Exception {
+		List<Runnable> saves = new ArrayList<>();
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setSaveExecutor(saves::add);
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession();
+			}
+		});
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession().setAttribute("a", "b");
+			}
+		});
+		willThrow(new IllegalStateException("unavailable")).willCallRealMethod()
+			.given(this.sessionRepository)
+			.save(any());
+		saves.get(0).run();
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				assertThat(wrappedRequest.getSession().getAttribute("a")).isEqualTo("b");
+			}
+		});
+	}
+
+	@Test
+	void doFilterWhenAsynchronousSaveRetryFailsThenNextRequestFails() throws Exception {
+		List<Runnable> saves = new ArrayList<>();
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setSaveExecutor(saves::add);
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession();
+			}
+		});
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession().setAttribute("a", "b");
+			}
+		});
+		willThrow(new IllegalStateException("unavailable")).given(this.sessionRepository).save(any());
+		saves.get(0).run();
+		nextRequest();
+
+		assertThatIllegalStateException().isThrownBy(() -> doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession();
+			}
+		})).withMessage("unavailable");
+	}
+
+	@Test
+	void doFilterWhenSaveExecutorThenNextRequestWaitsForPendingSave() throws Exception {
+		this.filter.setSaveExecutor((save) -> new Thread(() -> {
+			try {
+				// delay the save so that the next request starts before it completes
+				Thread.sleep(100);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			save.run();
+		}).start());
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession();
+			}
+		});
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession().setAttribute("a", "b");
+			}
+		});
+		nextRequest();
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				assertThat(wrappedRequest.getSession().getAttribute("a")).isEqualTo("b");
+			}
+		});
+	}
+
+	@Test
+	void setMissingSessionIdCacheWhenNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.filter.setMissingSessionIdCache(null))
+			.withMessage("missingSessionIdCache cannot be null");
+	}
+
+	@Test
+	void doFilterWhenMissingSessionIdCacheThenStaleSessionIdLookedUpOnce() throws Exception {
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setMissingSessionIdCache(new MissingSessionIdCache(10, Duration.ofMinutes(1)));
+		setSessionCookie("stale");
+
+		for (int i = 0; i < 2; i++) {
+			doFilter(new DoInFilter() {
+				@Override
+				public void doFilter(HttpServletRequest wrappedRequest) {
+					assertThat(wrappedRequest.getSession(false)).isNull();
+				}
+			});
+			setupRequest();
+			setSessionCookie("stale");
+		}
+
+		verify(this.sessionRepository, times(1)).findById("stale");
+	}
+
+	@Test
+	void doFilterWhenMissingSessionIdCacheAndSessionSavedThenSessionIdRemoved() throws Exception {
+		MissingSessionIdCache missingSessionIdCache = new MissingSessionIdCache(10, Duration.ofMinutes(1));
+		this.filter.setMissingSessionIdCache(missingSessionIdCache);
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				missingSessionIdCache.add(wrappedRequest.getSession().getId());
+			}
+		});
+
+		assertThat(missingSessionIdCache.contains(this.sessions.keySet().iterator().next())).isFalse();
+	}
+
 	@Test
 	void bindingListenerBindListener() throws Exception {
 		String bindingListenerName = "bindingListener";
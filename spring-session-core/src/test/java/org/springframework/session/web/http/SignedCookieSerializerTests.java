@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.session.web.http.CookieSerializer.CookieValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link SignedCookieSerializer}.
+ *
+ * @author agent (agent@local)
+ */
+class SignedCookieSerializerTests {
+
+	private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	private DefaultCookieSerializer delegate;
+
+	private SignedCookieSerializer serializer;
+
+	@BeforeEach
+	void setup() {
+		this.request = new MockHttpServletRequest();
+		this.response = new MockHttpServletResponse();
+		this.delegate = new DefaultCookieSerializer();
+		this.delegate.setUseBase64Encoding(false);
+		this.serializer = new SignedCookieSerializer(this.delegate, KEY);
+		this.serializer.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	void constructorWhenNullDelegateThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SignedCookieSerializer(null, KEY))
+			.withMessage("delegate cannot be null");
+	}
+
+	@Test
+	void constructorWhenShortKeyThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SignedCookieSerializer(this.delegate, new byte[16]))
+			.withMessage("key must be at least 32 bytes");
+	}
+
+	@Test
+	void setMaxAgeWhenNegativeThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.serializer.setMaxAge(Duration.ofSeconds(-1)))
+			.withMessage("maxAge cannot be null or negative");
+	}
+
+	@Test
+	void writeCookieValueThenSignedValueWritten() {
+		this.serializer.writeCookieValue(cookieValue("session-id"));
+
+		assertThat(writtenValue()).startsWith("session-id~" + NOW.getEpochSecond() + "~");
+	}
+
+	@Test
+	void readCookieValuesWhenSignedThenSessionId() {
+		writeAndSendCookie("session-id");
+
+		assertThat(this.serializer.readCookieValues(this.request)).containsExactly("session-id");
+	}
+
+	@Test
+	void readCookieValuesWhenSessionIdContainsSeparatorThenSessionId() {
+		writeAndSendCookie("session~id");
+
+		assertThat(this.serializer.readCookieValues(this.request)).containsExactly("session~id");
+	}
+
+	@Test
+	void readCookieValuesWhenUnsignedThenEmpty() {
+		this.request.setCookies(new Cookie("SESSION", "session-id"));
+
+		assertThat(this.serializer.readCookieValues(this.request)).isEmpty();
+	}
+
+	@Test
+	void readCookieValuesWhenSessionIdChangedThenEmpty() {
+		this.serializer.writeCookieValue(cookieValue("session-id"));
+		this.request.setCookies(new Cookie("SESSION", writtenValue().replace("session-id", "other-id")));
+
+		assertThat(this.serializer.readCookieValues(this.request)).isEmpty();
+	}
+
+	@Test
+	void readCookieValuesWhenSignedWithOtherKeyThenEmpty() {
+		SignedCookieSerializer other = new SignedCookieSerializer(this.delegate,
+				"fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8));
+		other.writeCookieValue(cookieValue("session-id"));
+		this.request.setCookies(new Cookie("SESSION", writtenValue()));
+
+		assertThat(this.serializer.readCookieValues(this.request)).isEmpty();
+	}
+
+	@Test
+	void readCookieValuesWhenMaxAgeExceededThenEmpty() {
+		this.serializer.setMaxAge(Duration.ofHours(1));
+		writeAndSendCookie("session-id");
+		this.serializer.setClock(Clock.fixed(NOW.plus(Duration.ofHours(2)), ZoneOffset.UTC));
+
+		assertThat(this.serializer.readCookieValues(this.request)).isEmpty();
+	}
+
+	@Test
+	void readCookieValuesWhenWithinMaxAgeThenSessionId() {
+		this.serializer.setMaxAge(Duration.ofHours(1));
+		writeAndSendCookie("session-id");
+		this.serializer.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(30)), ZoneOffset.UTC));
+
+		assertThat(this.serializer.readCookieValues(this.request)).containsExactly("session-id");
+	}
+
+	@Test
+	void writeCookieValueWhenEmptyThenCookieExpired() {
+		this.serializer.writeCookieValue(cookieValue(""));
+
+		Cookie cookie = this.response.getCookie("SESSION");
+		assertThat(cookie.getValue()).isEmpty();
+		assertThat(cookie.getMaxAge()).isZero();
+	}
+
+	private void writeAndSendCookie(String sessionId) {
+		this.serializer.writeCookieValue(cookieValue(sessionId));
+		this.request.setCookies(new Cookie("SESSION", writtenValue()));
+	}
+
+	private String writtenValue() {
+		return this.response.getCookie("SESSION").getValue();
+	}
+
+	private CookieValue cookieValue(String cookieValue) {
+		return new CookieValue(this.request, this.response, cookieValue);
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.server.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpCookie;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.session.CookieSession;
+import org.springframework.web.server.WebSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link CookieSessionWebSessionIdResolver}.
+ *
+ * @author agent (agent@local)
+ */
+class CookieSessionWebSessionIdResolverTests {
+
+	private CookieSessionWebSessionIdResolver resolver;
+
+	private WebSession session;
+
+	@BeforeEach
+	void setup() {
+		this.resolver = new CookieSessionWebSessionIdResolver();
+		this.session = mock(WebSession.class);
+	}
+
+	@Test
+	void resolveSessionIdsThenReturnsCookieValues() {
+		MockServerWebExchange exchange = exchange(new HttpCookie("SESSION", "encrypted"));
+
+		assertThat(this.resolver.resolveSessionIds(exchange)).containsExactly("encrypted");
+	}
+
+	@Test
+	void setSessionIdWhenCookieSessionThenWritesCookieValue() {
+		given(this.session.getAttribute(CookieSession.COOKIE_VALUE_ATTRIBUTE_NAME)).willReturn("encrypted");
+		MockServerWebExchange exchange = exchange();
+
+		this.resolver.setSessionId(exchange, "id");
+
+		assertThat(exchange.getResponse().getCookies().getFirst("SESSION").getValue()).isEqualTo("encrypted");
+	}
+
+	@Test
+	void setSessionIdWhenCookieValueUnchangedThenNoCookie() {
+		given(this.session.getAttribute(CookieSession.COOKIE_VALUE_ATTRIBUTE_NAME)).willReturn("encrypted");
+		MockServerWebExchange exchange = exchange(new HttpCookie("SESSION", "encrypted"));
+
+		this.resolver.setSessionId(exchange, "id");
+
+		assertThat(exchange.getResponse().getCookies()).isEmpty();
+	}
+
+	@Test
+	void setSessionIdWhenNotCookieSessionThenWritesId() {
+		MockServerWebExchange exchange = exchange();
+
+		this.resolver.setSessionId(exchange, "id");
+
+		assertThat(exchange.getResponse().getCookies().getFirst("SESSION").getValue()).isEqualTo("id");
+	}
+
+	private MockServerWebExchange exchange(HttpCookie... cookies) {
+		MockServerHttpRequest request = MockServerHttpRequest.get("/").cookie(cookies).build();
+		return MockServerWebExchange.builder(request).session(this.session).build();
+	}
+
+}
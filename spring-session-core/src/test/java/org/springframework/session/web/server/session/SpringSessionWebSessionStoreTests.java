@@ -16,6 +16,8 @@
 
 package org.springframework.session.web.server.session;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.Map;
@@ -28,6 +30,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 
+import org.springframework.session.MapSession;
+import org.springframework.session.MissingSessionIdCache;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.Session;
 import org.springframework.web.server.WebSession;
@@ -36,6 +40,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -251,6 +256,91 @@ class SpringSessionWebSessionStoreTests<S extends Session> {
 			.withMessage("clock cannot be null");
 	}
 
+	@Test
+	void setLastAccessedTimeSaveIntervalWhenNegativeThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.webSessionStore.setLastAccessedTimeSaveInterval(Duration.ofSeconds(-1)))
+			.withMessage("lastAccessedTimeSaveInterval cannot be negative");
+	}
+
+	@Test
+	void saveWhenLastAccessedTimeSaveIntervalAndSessionUnchangedThenDoesNotSave() {
+		this.webSessionStore.setLastAccessedTimeSaveInterval(Duration.ofMinutes(1));
+		given(this.sessionRepository.findById(any())).willReturn(Mono.just(mapSession(Instant.now())));
+
+		this.webSessionStore.retrieveSession("id").flatMap(WebSession::save).block();
+
+		verify(this.sessionRepository, never()).save(any());
+	}
+
+	@Test
+	void saveWhenLastAccessedTimeSaveIntervalAndAttributeSetThenSaves() {
+		this.webSessionStore.setLastAccessedTimeSaveInterval(Duration.ofMinutes(1));
+		given(this.sessionRepository.findById(any())).willReturn(Mono.just(mapSession(Instant.now())));
+		given(this.sessionRepository.save(any())).willReturn(Mono.empty());
+
+		WebSession webSession = this.webSessionStore.retrieveSession("id").block();
+		webSession.getAttributes().put("a", "b");
+		webSession.save().block();
+
+		verify(this.sessionRepository).save(any());
+	}
+
+	@Test
+	void saveWhenLastAccessedTimeSaveIntervalElapsedThenSaves() {
+		this.webSessionStore.setLastAccessedTimeSaveInterval(Duration.ofMinutes(1));
+		given(this.sessionRepository.findById(any()))
+			.willReturn(Mono.just(mapSession(Instant.now().minus(Duration.ofMinutes(2)))));
+		given(this.sessionRepository.save(any())).willReturn(Mono.empty());
+
+		this.webSessionStore.retrieveSession("id").flatMap(WebSession::save).block();
+
+		verify(this.sessionRepository).save(any());
+	}
+
+	@Test
+	void saveWhenLastAccessedTimeSaveIntervalAndNewSessionThenSaves() {
+		this.webSessionStore.setLastAccessedTimeSaveInterval(Duration.ofMinutes(1));
+		given(this.sessionRepository.createSession()).willReturn(Mono.just(mapSession(Instant.now())));
+		given(this.sessionRepository.save(any())).willReturn(Mono.empty());
+
+		this.webSessionStore.createWebSession().flatMap(WebSession::save).block();
+
+		verify(this.sessionRepository).save(any());
+	}
+
+	@Test
+	void retrieveSessionWhenMissingSessionIdCacheThenMissingSessionIdLookedUpOnce() {
+		this.webSessionStore.setMissingSessionIdCache(new MissingSessionIdCache(10, Duration.ofMinutes(1)));
+		given(this.sessionRepository.findById("stale")).willReturn(Mono.empty());
+
+		assertThat(this.webSessionStore.retrieveSession("stale").block()).isNull();
+		assertThat(this.webSessionStore.retrieveSession("stale").block()).isNull();
+
+		verify(this.sessionRepository).findById("stale");
+	}
+
+	@Test
+	void saveWhenMissingSessionIdCacheThenSessionIdRemoved() {
+		MissingSessionIdCache missingSessionIdCache = new MissingSessionIdCache(10, Duration.ofMinutes(1));
+		this.webSessionStore.setMissingSessionIdCache(missingSessionIdCache);
+		given(this.sessionRepository.createSession()).willReturn(Mono.just(mapSession(Instant.now())));
+		given(this.sessionRepository.save(any())).willReturn(Mono.empty());
+		WebSession webSession = this.webSessionStore.createWebSession().block();
+		missingSessionIdCache.add(webSession.getId());
+
+		webSession.save().block();
+
+		assertThat(missingSessionIdCache.contains(webSession.getId())).isFalse();
+	}
+
+	@SuppressWarnings("unchecked")
+	private S mapSession(Instant lastAccessedTime) {
+		MapSession session = new MapSession("id");
+		session.setLastAccessedTime(lastAccessedTime);
+		return (S) session;
+	}
+
 	@Test // gh-1114
 	void createSessionThenSessionIsNotExpired() {
 		WebSession createdWebSession = this.webSessionStore.createWebSession().block();
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.mongo;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.MongoClientSettings;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.util.Assert;
+
+/**
+ * {@code AbstractMongoSessionConverter} implementation that writes session attributes
+ * directly to BSON. Attributes whose type is registered with the converter are encoded
+ * using the {@link Codec} resolved from a {@link CodecRegistry} when the converter is
+ * created, so no intermediate JSON representation or reflection based type discovery is
+ * needed. Attributes of any other type fall back to standard Java serialization.
+ * <p>
+ * Standard session elements like id, access time, etc are written as plain Mongo objects
+ * and can be read and queried without additional effort.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+public class BsonMongoSessionConverter extends AbstractMongoSessionConverter {
+
+	/**
+	 * The attribute types encoded with a {@link Codec} by default.
+	 */
+	public static final List<Class<?>> DEFAULT_TYPES = List.of(String.class, Boolean.class, Integer.class, Long.class,
+			Double.class, Float.class, Short.class, Byte.class, Character.class, BigDecimal.class, byte[].class,
+			Date.class, LocalDate.class, ObjectId.class);
+
+	private static final String ID = "_id";
+
+	private static final String CREATION_TIME = "created";
+
+	private static final String LAST_ACCESSED_TIME = "accessed";
+
+	private static final String MAX_INTERVAL = "interval";
+
+	private static final String ATTRIBUTES = "attributes";
+
+	private static final String PRINCIPAL_FIELD_NAME = "principal";
+
+	private static final String ATTRIBUTE_TYPE = "type";
+
+	private static final String ATTRIBUTE_VALUE = "value";
+
+	private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+
+	private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+	private final Map<String, Codec<Object>> codecs;
+
+	private final Converter<Object, byte[]> serializer;
+
+	private final Converter<byte[], Object> deserializer;
+
+	private final Duration maxInactiveInterval;
+
+	public BsonMongoSessionConverter(Duration maxInactiveInterval) {
+		this(MongoClientSettings.getDefaultCodecRegistry(), DEFAULT_TYPES, maxInactiveInterval);
+	}
+
+	public BsonMongoSessionConverter(CodecRegistry codecRegistry, Collection<Class<?>> types,
+			Duration maxInactiveInterval) {
+		this(codecRegistry, types, new SerializingConverter(), new DeserializingConverter(), maxInactiveInterval);
+	}
+
+	@SuppressWarnings("unchecked")
+	public BsonMongoSessionConverter(CodecRegistry codecRegistry, Collection<Class<?>> types,
+			Converter<Object, byte[]> serializer, Converter<byte[], Object> deserializer,
+			Duration maxInactiveInterval) {
+
+		Assert.notNull(codecRegistry, "codecRegistry cannot be null");
+		Assert.notNull(types, "types cannot be null");
+		Assert.notNull(serializer, "serializer cannot be null");
+		Assert.notNull(deserializer, "deserializer cannot be null");
+		Assert.notNull(maxInactiveInterval, "maxInactiveInterval cannot be null");
+
+		Map<String, Codec<Object>> codecs = new HashMap<>();
+		for (Class<?> type : types) {
+			codecs.put(type.getName(), (Codec<Object>) codecRegistry.get(type));
+		}
+		this.codecs = codecs;
+		this.serializer = serializer;
+		this.deserializer = deserializer;
+		this.maxInactiveInterval = maxInactiveInterval;
+	}
+
+	@Override
+	@Nullable
+	public Query getQueryForIndex(String indexName, Object indexValue) {
+
+		if (FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+			return Query.query(Criteria.where(PRINCIPAL_FIELD_NAME).is(indexValue));
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	protected DBObject convert(MongoSession session) {
+
+		BasicDBObject basicDBObject = new BasicDBObject();
+
+		basicDBObject.put(ID, session.getId());
+		basicDBObject.put(CREATION_TIME, Date.from(session.getCreationTime()));
+		basicDBObject.put(LAST_ACCESSED_TIME, Date.from(session.getLastAccessedTime()));
+		basicDBObject.put(MAX_INTERVAL, session.getMaxInactiveInterval().getSeconds());
+		basicDBObject.put(PRINCIPAL_FIELD_NAME, extractPrincipal(session));
+		basicDBObject.put(EXPIRE_AT_FIELD_NAME, session.getExpireAt());
+		basicDBObject.put(ATTRIBUTES, writeAttributes(session));
+
+		return basicDBObject;
+	}
+
+	@Override
+	protected MongoSession convert(Document sessionWrapper) {
+
+		Object maxInterval = sessionWrapper.get(MAX_INTERVAL);
+		long maxIntervalSeconds = (maxInterval instanceof Number) ? ((Number) maxInterval).longValue()
+				: this.maxInactiveInterval.getSeconds();
+
+		MongoSession session = new MongoSession(sessionWrapper.getString(ID), maxIntervalSeconds);
+
+		Date creationTime = sessionWrapper.getDate(CREATION_TIME);
+		if (creationTime != null) {
+			session.setCreationTime(creationTime.getTime());
+		}
+
+		Date lastAccessedTime = sessionWrapper.getDate(LAST_ACCESSED_TIME);
+		if (lastAccessedTime != null) {
+			session.setLastAccessedTime(lastAccessedTime.toInstant());
+		}
+
+		session.setExpireAt(sessionWrapper.getDate(EXPIRE_AT_FIELD_NAME));
+
+		Object attributes = sessionWrapper.get(ATTRIBUTES);
+		if (attributes != null) {
+			readAttributes((attributes instanceof Binary) ? ((Binary) attributes).getData() : (byte[]) attributes,
+					session);
+		}
+
+		return session;
+	}
+
+	private byte[] writeAttributes(MongoSession session) {
+
+		BasicOutputBuffer buffer = new BasicOutputBuffer();
+
+		try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+			writer.writeStartDocument();
+			for (String attrName : session.getAttributeNames()) {
+				Object attrValue = session.getAttribute(attrName);
+				Codec<Object> codec = this.codecs.get(attrValue.getClass().getName());
+
+				writer.writeName(attrName);
+				writer.writeStartDocument();
+				if (codec != null) {
+					writer.writeString(ATTRIBUTE_TYPE, attrValue.getClass().getName());
+					writer.writeName(ATTRIBUTE_VALUE);
+					codec.encode(writer, attrValue, ENCODER_CONTEXT);
+				}
+				else {
+					writer.writeBinaryData(ATTRIBUTE_VALUE, new BsonBinary(this.serializer.convert(attrValue)));
+				}
+				writer.writeEndDocument();
+			}
+			writer.writeEndDocument();
+		}
+
+		return buffer.toByteArray();
+	}
+
+	private void readAttributes(byte[] attributes, MongoSession session) {
+
+		try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(attributes))) {
+			reader.readStartDocument();
+			while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+				String attrName = reader.readName();
+
+				reader.readStartDocument();
+				reader.readBsonType();
+				Object attrValue;
+				if (ATTRIBUTE_TYPE.equals(reader.readName())) {
+					Codec<Object> codec = getCodec(reader.readString());
+					reader.readName(ATTRIBUTE_VALUE);
+					attrValue = codec.decode(reader, DECODER_CONTEXT);
+				}
+				else {
+					attrValue = this.deserializer.convert(reader.readBinaryData().getData());
+				}
+				reader.readEndDocument();
+
+				session.setAttribute(attrName, attrValue);
+			}
+			reader.readEndDocument();
+		}
+	}
+
+	private Codec<Object> getCodec(String type) {
+
+		Codec<Object> codec = this.codecs.get(type);
+		if (codec == null) {
+			throw new IllegalStateException("No Codec registered for attribute type " + type);
+		}
+		return codec;
+	}
+
+}
@@ -17,7 +17,9 @@
 package org.springframework.session.data.mongo;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -31,8 +33,12 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.lang.Nullable;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.MapSession;
@@ -104,6 +110,7 @@ public class MongoIndexedSessionRepository
 		DBObject dbObject = MongoSessionUtils.convertToDBObject(this.mongoSessionConverter, session);
 		Assert.notNull(dbObject, "dbObject must not be null");
 		this.mongoOperations.save(dbObject, this.collectionName);
+		session.clearChangeFlags();
 	}
 
 	@Override
@@ -125,6 +132,7 @@ public class MongoIndexedSessionRepository
 				return null;
 			}
 			session.setSessionIdGenerator(this.sessionIdGenerator);
+			session.clearChangeFlags();
 		}
 
 		return session;
@@ -163,6 +171,60 @@ public class MongoIndexedSessionRepository
 		});
 	}
 
+	/**
+	 * Save the provided sessions using a single unordered bulk write rather than a round
+	 * trip per session. Sessions that have changed their id also have the document stored
+	 * under their original id removed.
+	 * @param sessions the sessions to save
+	 * @since 3.5
+	 */
+	public void saveAll(Collection<MongoSession> sessions) {
+		Assert.notNull(sessions, "sessions must not be null");
+		if (sessions.isEmpty()) {
+			return;
+		}
+		BulkOperations bulkOperations = this.mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED,
+				this.collectionName);
+		MongoSessionUtils.addSaveOperations(this.mongoSessionConverter, sessions, bulkOperations::remove, (query,
+				document) -> bulkOperations.replaceOne(query, document, FindAndReplaceOptions.options().upsert()));
+		bulkOperations.execute();
+		sessions.forEach(MongoSession::clearChangeFlags);
+	}
+
+	/**
+	 * Delete the sessions with the provided ids. If an {@link ApplicationEventPublisher}
+	 * is set, the sessions are read with a single query and removed with a single
+	 * unordered bulk write, and a {@link SessionDeletedEvent} is published for each
+	 * removed session. Otherwise they are removed with a single query without being read.
+	 * @param ids the ids of the sessions to delete
+	 * @since 3.5
+	 */
+	public void deleteAllById(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.isEmpty()) {
+			return;
+		}
+		Query query = Query.query(Criteria.where("_id").in(ids));
+		if (this.eventPublisher == null) {
+			this.mongoOperations.remove(query, this.collectionName);
+			return;
+		}
+		List<Document> documents = this.mongoOperations.find(query, Document.class, this.collectionName);
+		if (documents.isEmpty()) {
+			return;
+		}
+		List<Object> removedIds = documents.stream().map((document) -> document.get("_id")).toList();
+		this.mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, this.collectionName)
+			.remove(Query.query(Criteria.where("_id").in(removedIds)))
+			.execute();
+		for (Document document : documents) {
+			MongoSession session = MongoSessionUtils.convertToSession(this.mongoSessionConverter, document);
+			if (session != null) {
+				publishEvent(new SessionDeletedEvent(this, session));
+			}
+		}
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 
@@ -67,6 +67,8 @@ public final class MongoSession implements Session {
 
 	private final Map<String, Object> attrs = new HashMap<>();
 
+	private boolean changed;
+
 	private transient SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
 
 	/**
@@ -151,12 +153,14 @@ public final class MongoSession implements Session {
 		}
 		else {
 			this.attrs.put(coverDot(attributeName), attributeValue);
+			this.changed = true;
 		}
 	}
 
 	@Override
 	public void removeAttribute(String attributeName) {
 		this.attrs.remove(coverDot(attributeName));
+		this.changed = true;
 	}
 
 	@Override
@@ -187,6 +191,7 @@ public final class MongoSession implements Session {
 	@Override
 	public void setMaxInactiveInterval(Duration interval) {
 		this.intervalSeconds = interval.getSeconds();
+		this.changed = true;
 	}
 
 	@Override
@@ -194,6 +199,11 @@ public final class MongoSession implements Session {
 		return this.intervalSeconds >= 0 && new Date().after(this.expireAt);
 	}
 
+	@Override
+	public boolean hasChanges() {
+		return this.changed || hasChangedSessionId();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 
@@ -233,6 +243,10 @@ public final class MongoSession implements Session {
 		return this.originalSessionId;
 	}
 
+	void clearChangeFlags() {
+		this.changed = false;
+	}
+
 	/**
 	 * Sets the session id.
 	 * @param id the id to set
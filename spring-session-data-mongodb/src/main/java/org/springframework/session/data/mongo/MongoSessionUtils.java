@@ -16,11 +16,18 @@
 
 package org.springframework.session.data.mongo;
 
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 import com.mongodb.DBObject;
 import org.bson.Document;
 
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Utility for MongoSession.
@@ -39,6 +46,39 @@ final class MongoSessionUtils {
 				TypeDescriptor.valueOf(DBObject.class));
 	}
 
+	static Document convertToDocument(AbstractMongoSessionConverter mongoSessionConverter, MongoSession session) {
+		DBObject dbObject = convertToDBObject(mongoSessionConverter, session);
+		Assert.notNull(dbObject, "dbObject must not be null");
+		Document document = new Document();
+		for (String key : dbObject.keySet()) {
+			document.put(key, dbObject.get(key));
+		}
+		return document;
+	}
+
+	/**
+	 * Adds the operations that save the given sessions to a bulk operation. The
+	 * previously stored document of a session whose id changed is removed.
+	 * @param mongoSessionConverter the converter used to convert the sessions
+	 * @param sessions the sessions to save
+	 * @param remove adds the removal of the documents matching a query
+	 * @param upsert adds the replacement or insertion of the document matching a query
+	 */
+	static void addSaveOperations(AbstractMongoSessionConverter mongoSessionConverter,
+			Collection<MongoSession> sessions, Consumer<Query> remove, BiConsumer<Query, Document> upsert) {
+		for (MongoSession session : sessions) {
+			Document document = convertToDocument(mongoSessionConverter, session);
+			if (session.hasChangedSessionId()) {
+				remove.accept(queryForId(session.getOriginalSessionId()));
+			}
+			upsert.accept(queryForId(session.getId()), document);
+		}
+	}
+
+	private static Query queryForId(String id) {
+		return Query.query(Criteria.where("_id").is(id));
+	}
+
 	@Nullable
 	static MongoSession convertToSession(AbstractMongoSessionConverter mongoSessionConverter, Document session) {
 
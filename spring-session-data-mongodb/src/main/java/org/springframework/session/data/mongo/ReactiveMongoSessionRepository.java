@@ -17,23 +17,28 @@
 package org.springframework.session.data.mongo;
 
 import java.time.Duration;
+import java.util.Collection;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.bson.Document;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.session.MapSession;
+import org.springframework.session.ReactiveSessionIdGeneratorUtils;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.SessionIdGenerator;
 import org.springframework.session.UuidSessionIdGenerator;
@@ -99,16 +104,14 @@ public class ReactiveMongoSessionRepository
 	@Override
 	public Mono<MongoSession> createSession() {
 		// @formatter:off
-		return Mono.fromSupplier(() -> this.sessionIdGenerator.generate())
+		return ReactiveSessionIdGeneratorUtils.generateSessionId(this.sessionIdGenerator)
 				.zipWith(Mono.just(this.defaultMaxInactiveInterval.toSeconds()))
 				.map((tuple) -> new MongoSession(tuple.getT1(), tuple.getT2()))
 				.doOnNext((mongoSession) -> mongoSession.setMaxInactiveInterval(this.defaultMaxInactiveInterval))
 				.doOnNext(
 						(mongoSession) -> mongoSession.setSessionIdGenerator(this.sessionIdGenerator))
 				.doOnNext((mongoSession) -> publishEvent(new SessionCreatedEvent(this, mongoSession)))
-				.switchIfEmpty(Mono.just(new MongoSession(this.sessionIdGenerator)))
-				.subscribeOn(Schedulers.boundedElastic())
-				.publishOn(Schedulers.parallel());
+				.switchIfEmpty(Mono.just(new MongoSession(this.sessionIdGenerator)));
 		// @formatter:on
 	}
 
@@ -130,7 +133,7 @@ public class ReactiveMongoSessionRepository
 					return this.mongoOperations.save(dbObject, this.collectionName);
 				}
 			}) //
-			.then();
+			.then(Mono.fromRunnable(session::clearChangeFlags));
 	}
 
 	@Override
@@ -139,7 +142,10 @@ public class ReactiveMongoSessionRepository
 		return findSession(id) //
 			.map((document) -> MongoSessionUtils.convertToSession(this.mongoSessionConverter, document)) //
 			.filter((mongoSession) -> !mongoSession.isExpired()) //
-			.doOnNext((mongoSession) -> mongoSession.setSessionIdGenerator(this.sessionIdGenerator))
+			.doOnNext((mongoSession) -> {
+				mongoSession.setSessionIdGenerator(this.sessionIdGenerator);
+				mongoSession.clearChangeFlags();
+			})
 			.switchIfEmpty(Mono.defer(() -> this.deleteById(id).then(Mono.empty())));
 	}
 
@@ -154,6 +160,60 @@ public class ReactiveMongoSessionRepository
 			.then();
 	}
 
+	/**
+	 * Save the provided sessions using a single unordered bulk write rather than a round
+	 * trip per session. Sessions that have changed their id also have the document stored
+	 * under their original id removed.
+	 * @param sessions the sessions to save
+	 * @return indicator of operation completion
+	 * @since 3.5
+	 */
+	public Mono<Void> saveAll(Collection<MongoSession> sessions) {
+		Assert.notNull(sessions, "sessions must not be null");
+		if (sessions.isEmpty()) {
+			return Mono.empty();
+		}
+		return Mono.defer(() -> {
+			ReactiveBulkOperations bulkOperations = this.mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED,
+					this.collectionName);
+			MongoSessionUtils.addSaveOperations(this.mongoSessionConverter, sessions, bulkOperations::remove, (query,
+					document) -> bulkOperations.replaceOne(query, document, FindAndReplaceOptions.options().upsert()));
+			return bulkOperations.execute();
+		}).then(Mono.fromRunnable(() -> sessions.forEach(MongoSession::clearChangeFlags)));
+	}
+
+	/**
+	 * Delete the sessions with the provided ids. If an {@link ApplicationEventPublisher}
+	 * is set, the sessions are read with a single query and removed with a single
+	 * unordered bulk write, and a {@link SessionDeletedEvent} is published for each
+	 * removed session. Otherwise they are removed with a single query without being read.
+	 * @param ids the ids of the sessions to delete
+	 * @return indicator of operation completion
+	 * @since 3.5
+	 */
+	public Mono<Void> deleteAllById(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.isEmpty()) {
+			return Mono.empty();
+		}
+		Query query = Query.query(Criteria.where("_id").in(ids));
+		if (this.eventPublisher == null) {
+			return Mono.defer(() -> this.mongoOperations.remove(query, this.collectionName)).then();
+		}
+		return Flux.defer(() -> this.mongoOperations.find(query, Document.class, this.collectionName))
+			.collectList()
+			.filter((documents) -> !documents.isEmpty())
+			.flatMapMany((documents) -> this.mongoOperations
+				.bulkOps(BulkOperations.BulkMode.UNORDERED, this.collectionName)
+				.remove(Query.query(
+						Criteria.where("_id").in(documents.stream().map((document) -> document.get("_id")).toList())))
+				.execute()
+				.thenMany(Flux.fromIterable(documents))) //
+			.mapNotNull((document) -> MongoSessionUtils.convertToSession(this.mongoSessionConverter, document)) //
+			.doOnNext((mongoSession) -> publishEvent(new SessionDeletedEvent(this, mongoSession))) //
+			.then();
+	}
+
 	/**
 	 * Do not use
 	 * {@link org.springframework.data.mongodb.core.index.ReactiveIndexOperations} to
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.mongo;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import com.mongodb.DBObject;
+import com.mongodb.MongoClientSettings;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * @author agent (agent@local)
+ */
+class BsonMongoSessionConverterTests extends AbstractMongoSessionConverterTests {
+
+	Duration inactiveInterval = Duration.ofMinutes(30);
+
+	BsonMongoSessionConverter mongoSessionConverter = new BsonMongoSessionConverter(this.inactiveInterval);
+
+	@Override
+	AbstractMongoSessionConverter getMongoSessionConverter() {
+		return this.mongoSessionConverter;
+	}
+
+	@Test
+	void constructorNullCodecRegistry() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new BsonMongoSessionConverter(null, Collections.emptyList(), this.inactiveInterval));
+	}
+
+	@Test
+	void constructorNullTypes() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new BsonMongoSessionConverter(MongoClientSettings.getDefaultCodecRegistry(), null,
+					this.inactiveInterval));
+	}
+
+	@Test
+	void verifyRoundTripOfRegisteredTypes() {
+
+		// given
+		MongoSession toSerialize = new MongoSession();
+		toSerialize.setAttribute("string", "value");
+		toSerialize.setAttribute("long", 1L);
+		toSerialize.setAttribute("decimal", new BigDecimal("1.5"));
+		toSerialize.setAttribute("bytes", new byte[] { 1, 2, 3 });
+		toSerialize.setAttribute("date", new Date());
+		toSerialize.setAttribute("localDate", LocalDate.now());
+		toSerialize.setAttribute("dotted.name", 1);
+
+		// when
+		MongoSession deserialized = convertToSession(convertToDBObject(toSerialize));
+
+		// then
+		assertThat(deserialized).usingRecursiveComparison().isEqualTo(toSerialize);
+	}
+
+	@Test
+	void convertWhenTypeNoLongerRegisteredThenIllegalStateException() {
+
+		// given
+		MongoSession toSerialize = new MongoSession();
+		toSerialize.setAttribute("string", "value");
+		DBObject dbObject = convertToDBObject(toSerialize);
+		BsonMongoSessionConverter converter = new BsonMongoSessionConverter(
+				MongoClientSettings.getDefaultCodecRegistry(), List.of(Long.class), this.inactiveInterval);
+
+		// when/then
+		assertThatIllegalStateException().isThrownBy(() -> converter.convert(new Document(dbObject.toMap())))
+			.withMessageContaining(String.class.getName());
+	}
+
+}
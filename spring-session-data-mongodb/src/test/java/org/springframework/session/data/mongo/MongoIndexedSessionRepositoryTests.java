@@ -19,6 +19,7 @@ package org.springframework.session.data.mongo;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -31,12 +32,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.MapSession;
 import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.events.SessionDeletedEvent;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -45,7 +51,10 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.verifyNoInteractions;
+import static org.mockito.BDDMockito.verifyNoMoreInteractions;
 
 /**
  * Tests for {@link MongoIndexedSessionRepository}.
@@ -178,6 +187,89 @@ class MongoIndexedSessionRepositoryTests {
 				eq(MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME));
 	}
 
+	@Test
+	void saveAllShouldUseSingleUnorderedBulkOperation() {
+
+		// given
+		MongoSession session1 = new MongoSession();
+		MongoSession session2 = new MongoSession();
+		session2.changeSessionId();
+		BulkOperations bulkOperations = mock(BulkOperations.class);
+
+		given(this.converter.convert(any(MongoSession.class), eq(TypeDescriptor.valueOf(MongoSession.class)),
+				eq(TypeDescriptor.valueOf(DBObject.class))))
+			.willReturn(new BasicDBObject());
+		given(this.mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED,
+				MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(bulkOperations);
+
+		// when
+		this.repository.saveAll(List.of(session1, session2));
+
+		// then
+		verify(bulkOperations, times(2)).replaceOne(any(Query.class), any(Document.class),
+				any(FindAndReplaceOptions.class));
+		verify(bulkOperations).remove(Query.query(Criteria.where("_id").is(session2.getOriginalSessionId())));
+		verify(bulkOperations).execute();
+		verifyNoMoreInteractions(bulkOperations);
+	}
+
+	@Test
+	void saveAllWhenEmptyThenNoInteractions() {
+
+		// when
+		this.repository.saveAll(Collections.emptyList());
+
+		// then
+		verifyNoInteractions(this.mongoOperations);
+	}
+
+	@Test
+	void deleteAllByIdShouldRemoveUsingSingleBulkWrite() {
+
+		// given
+		List<String> ids = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+		Document document = new Document("_id", ids.get(0));
+		MongoSession session = new MongoSession();
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		this.repository.setApplicationEventPublisher(eventPublisher);
+		BulkOperations bulkOperations = mock(BulkOperations.class);
+
+		given(this.mongoOperations.find(Query.query(Criteria.where("_id").in(ids)), Document.class,
+				MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(List.of(document));
+		given(this.mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED,
+				MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(bulkOperations);
+		given(bulkOperations.remove(any(Query.class))).willReturn(bulkOperations);
+		given(this.converter.convert(document, TypeDescriptor.valueOf(Document.class),
+				TypeDescriptor.valueOf(MongoSession.class)))
+			.willReturn(session);
+
+		// when
+		this.repository.deleteAllById(ids);
+
+		// then
+		verify(bulkOperations).remove(Query.query(Criteria.where("_id").in(List.of(ids.get(0)))));
+		verify(bulkOperations).execute();
+		verify(eventPublisher).publishEvent(any(SessionDeletedEvent.class));
+	}
+
+	@Test
+	void deleteAllByIdWhenNoEventPublisherShouldRemoveWithoutReading() {
+
+		// given
+		List<String> ids = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+		// when
+		this.repository.deleteAllById(ids);
+
+		// then
+		verify(this.mongoOperations).remove(Query.query(Criteria.where("_id").in(ids)),
+				MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME);
+		verifyNoMoreInteractions(this.mongoOperations);
+	}
+
 	@Test
 	void shouldGetSessionsMapByPrincipal() {
 
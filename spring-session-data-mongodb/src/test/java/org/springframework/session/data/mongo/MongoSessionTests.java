@@ -39,4 +39,22 @@ class MongoSessionTests {
 		assertThat(session.isExpired()).isFalse();
 	}
 
+	@Test
+	void hasChangesWhenOnlyLastAccessedTimeUpdatedThenFalse() {
+
+		MongoSession session = new MongoSession();
+		session.setLastAccessedTime(Instant.now());
+
+		assertThat(session.hasChanges()).isFalse();
+	}
+
+	@Test
+	void hasChangesWhenAttributeSetThenTrue() {
+
+		MongoSession session = new MongoSession();
+		session.setAttribute("attribute", "value");
+
+		assertThat(session.hasChanges()).isTrue();
+	}
+
 }
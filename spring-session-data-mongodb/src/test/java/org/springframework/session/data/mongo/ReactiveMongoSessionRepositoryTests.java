@@ -18,10 +18,12 @@ package org.springframework.session.data.mongo;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.result.DeleteResult;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,23 +31,33 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.session.MapSession;
 import org.springframework.session.events.SessionDeletedEvent;
+import org.springframework.session.web.server.session.SpringSessionWebSessionStore;
+import org.springframework.web.server.WebSession;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyString;
 import static org.mockito.BDDMockito.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 
@@ -140,6 +152,86 @@ class ReactiveMongoSessionRepositoryTests {
 			.verifyComplete();
 	}
 
+	@Test
+	void findByIdWhenOnlyLastAccessedTimeUpdatedThenHasNoChanges() {
+
+		// given
+		JdkMongoSessionConverter converter = new JdkMongoSessionConverter(Duration.ofMinutes(30));
+		this.repository.setMongoSessionConverter(converter);
+		MongoSession saved = new MongoSession();
+		saved.setAttribute("attribute1", "value1");
+		Document sessionDocument = MongoSessionUtils.convertToDocument(converter, saved);
+
+		given(this.mongoOperations.findById(saved.getId(), Document.class,
+				ReactiveMongoSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(Mono.just(sessionDocument));
+
+		// when
+		this.repository.findById(saved.getId()) //
+			.as(StepVerifier::create) //
+			.consumeNextWith((session) -> {
+				// then
+				assertThat(session.hasChanges()).isFalse();
+				session.setLastAccessedTime(Instant.now());
+				assertThat(session.hasChanges()).isFalse();
+				session.setAttribute("attribute1", "value2");
+				assertThat(session.hasChanges()).isTrue();
+			}) //
+			.verifyComplete();
+	}
+
+	@Test
+	void saveThenHasNoChanges() {
+
+		// given
+		MongoSession session = new MongoSession();
+		session.setAttribute("attribute1", "value1");
+		BasicDBObject dbSession = new BasicDBObject();
+
+		given(this.converter.convert(session, TypeDescriptor.valueOf(MongoSession.class),
+				TypeDescriptor.valueOf(DBObject.class)))
+			.willReturn(dbSession);
+
+		given(this.mongoOperations.save(dbSession, "sessions")).willReturn(Mono.just(dbSession));
+		assertThat(session.hasChanges()).isTrue();
+
+		// when
+		this.repository.save(session) //
+			.as(StepVerifier::create) //
+			.verifyComplete();
+
+		// then
+		assertThat(session.hasChanges()).isFalse();
+	}
+
+	@Test
+	void webSessionStoreWhenOnlyLastAccessedTimeUpdatedThenDoesNotSave() {
+
+		// given
+		JdkMongoSessionConverter converter = new JdkMongoSessionConverter(Duration.ofMinutes(30));
+		this.repository.setMongoSessionConverter(converter);
+		MongoSession saved = new MongoSession();
+		saved.setAttribute("attribute1", "value1");
+		Document sessionDocument = MongoSessionUtils.convertToDocument(converter, saved);
+
+		given(this.mongoOperations.findById(saved.getId(), Document.class,
+				ReactiveMongoSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(Mono.just(sessionDocument));
+
+		SpringSessionWebSessionStore<MongoSession> webSessionStore = new SpringSessionWebSessionStore<>(
+				this.repository);
+		webSessionStore.setLastAccessedTimeSaveInterval(Duration.ofMinutes(1));
+
+		// when
+		webSessionStore.retrieveSession(saved.getId()) //
+			.flatMap(WebSession::save) //
+			.as(StepVerifier::create) //
+			.verifyComplete();
+
+		// then
+		verify(this.mongoOperations, never()).save(any(DBObject.class), anyString());
+	}
+
 	@Test
 	void shouldHandleExpiredSession() {
 
@@ -202,6 +294,87 @@ class ReactiveMongoSessionRepositoryTests {
 		verify(this.eventPublisher).publishEvent(any(SessionDeletedEvent.class));
 	}
 
+	@Test
+	void saveAllShouldUseSingleUnorderedBulkOperation() {
+
+		// given
+		MongoSession session1 = new MongoSession();
+		MongoSession session2 = new MongoSession();
+		session2.changeSessionId();
+		ReactiveBulkOperations bulkOperations = mock(ReactiveBulkOperations.class);
+
+		given(this.converter.convert(any(MongoSession.class), eq(TypeDescriptor.valueOf(MongoSession.class)),
+				eq(TypeDescriptor.valueOf(DBObject.class))))
+			.willReturn(new BasicDBObject());
+		given(this.mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED,
+				ReactiveMongoSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(bulkOperations);
+		given(bulkOperations.execute()).willReturn(Mono.just(BulkWriteResult.unacknowledged()));
+
+		// when
+		this.repository.saveAll(List.of(session1, session2)) //
+			.as(StepVerifier::create) //
+			.verifyComplete();
+
+		// then
+		verify(bulkOperations, times(2)).replaceOne(any(Query.class), any(Document.class),
+				any(FindAndReplaceOptions.class));
+		verify(bulkOperations).remove(Query.query(Criteria.where("_id").is(session2.getOriginalSessionId())));
+		verify(bulkOperations).execute();
+	}
+
+	@Test
+	void deleteAllByIdShouldRemoveUsingSingleBulkWrite() {
+
+		// given
+		List<String> ids = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+		Document sessionDocument = new Document("_id", ids.get(0));
+		Document unreadableDocument = new Document("_id", ids.get(1));
+		ReactiveBulkOperations bulkOperations = mock(ReactiveBulkOperations.class);
+
+		given(this.mongoOperations.find(Query.query(Criteria.where("_id").in(ids)), Document.class,
+				ReactiveMongoSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(Flux.just(sessionDocument, unreadableDocument));
+		given(this.mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED,
+				ReactiveMongoSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(bulkOperations);
+		given(bulkOperations.remove(any(Query.class))).willReturn(bulkOperations);
+		given(bulkOperations.execute()).willReturn(Mono.just(BulkWriteResult.unacknowledged()));
+
+		MongoSession session = mock(MongoSession.class);
+
+		given(this.converter.convert(sessionDocument, TypeDescriptor.valueOf(Document.class),
+				TypeDescriptor.valueOf(MongoSession.class)))
+			.willReturn(session);
+
+		// when
+		this.repository.deleteAllById(ids) //
+			.as(StepVerifier::create) //
+			.verifyComplete();
+
+		verify(bulkOperations).remove(Query.query(Criteria.where("_id").in(ids)));
+		verify(this.eventPublisher).publishEvent(any(SessionDeletedEvent.class));
+	}
+
+	@Test
+	void deleteAllByIdWhenNoEventPublisherShouldRemoveWithoutReading() {
+
+		// given
+		List<String> ids = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+		ReactiveMongoSessionRepository repository = new ReactiveMongoSessionRepository(this.mongoOperations);
+
+		given(this.mongoOperations.remove(Query.query(Criteria.where("_id").in(ids)),
+				ReactiveMongoSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(Mono.just(DeleteResult.acknowledged(2)));
+
+		// when
+		repository.deleteAllById(ids) //
+			.as(StepVerifier::create) //
+			.verifyComplete();
+
+		verify(this.mongoOperations, never()).find(any(Query.class), eq(Document.class), anyString());
+	}
+
 	@Test
 	void shouldInvokeMethodToCreateIndexesImperatively() {
 
@@ -95,6 +95,23 @@ class ReactiveRedisIndexedSessionRepositoryConfigurationITests {
 		});
 	}
 
+	@Test
+	void cleanUpTaskWhenMoreExpiredSessionsThanBatchSizeThenAllPagesAreRemoved() {
+		registerConfig(OneSecCleanUpIntervalSmallBatchConfig.class);
+		double expiredScore = Instant.now().minusSeconds(60).toEpochMilli();
+		for (int i = 0; i < 10; i++) {
+			this.sessionRedisOperations.opsForZSet()
+				.add("spring:session:sessions:expirations", UUID.randomUUID().toString(), expiredScore)
+				.block();
+		}
+		await().atMost(Duration.ofSeconds(3)).untilAsserted(() -> {
+			Long expirationsSize = this.sessionRedisOperations.opsForZSet()
+				.size("spring:session:sessions:expirations")
+				.block();
+			assertThat(expirationsSize).isZero();
+		});
+	}
+
 	@Test
 	void onSessionCreatedWhenUsingJsonSerializerThenEventDeserializedCorrectly() throws InterruptedException {
 		registerConfig(SessionEventRegistryJsonSerializerConfig.class);
@@ -147,6 +164,18 @@ class ReactiveRedisIndexedSessionRepositoryConfigurationITests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@EnableRedisIndexedWebSession(cleanupBatchSize = 3, cleanupConcurrency = 2)
+	@Import(AbstractRedisITests.BaseConfig.class)
+	static class OneSecCleanUpIntervalSmallBatchConfig {
+
+		@Bean
+		ReactiveSessionRepositoryCustomizer<ReactiveRedisIndexedSessionRepository> customizer() {
+			return (sessionRepository) -> sessionRepository.setCleanupInterval(Duration.ofSeconds(1));
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@EnableRedisIndexedWebSession
 	@Import(AbstractRedisITests.BaseConfig.class)
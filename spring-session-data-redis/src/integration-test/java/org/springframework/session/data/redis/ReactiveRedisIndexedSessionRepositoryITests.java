@@ -96,6 +96,33 @@ class ReactiveRedisIndexedSessionRepositoryITests {
 		assertThat(savedSession.<String>getAttribute("foo")).isEqualTo("bar");
 	}
 
+	@Test
+	void findByIdWhenOnlyLastAccessedTimeUpdatedThenHasNoChanges() {
+		RedisSession session = this.repository.createSession().block();
+		assertThat(session.hasChanges()).isTrue();
+		session.setAttribute("foo", "bar");
+		this.repository.save(session).block();
+		assertThat(session.hasChanges()).isFalse();
+
+		RedisSession savedSession = this.repository.findById(session.getId()).block();
+		assertThat(savedSession.hasChanges()).isFalse();
+		savedSession.setLastAccessedTime(savedSession.getLastAccessedTime().plusSeconds(10));
+		assertThat(savedSession.hasChanges()).isFalse();
+		savedSession.setAttribute("foo", "baz");
+		assertThat(savedSession.hasChanges()).isTrue();
+	}
+
+	@Test
+	void hasChangesWhenSessionIdChangedThenTrue() {
+		RedisSession session = this.repository.createSession().block();
+		this.repository.save(session).block();
+		RedisSession savedSession = this.repository.findById(session.getId()).block();
+
+		savedSession.changeSessionId();
+
+		assertThat(savedSession.hasChanges()).isTrue();
+	}
+
 	@Test
 	void saveWhenHasSecurityContextAttributeThenPrincipalIndexKeySaved() {
 		RedisSession session = this.repository.createSession().block();
@@ -289,6 +316,27 @@ class ReactiveRedisIndexedSessionRepositoryITests {
 		assertThat(findByPrincipalName).isEmpty();
 	}
 
+	@Test
+	void findByPrincipalNameWhenStoredIndexDiffersFromLoadedAndPrincipalChangedThenRemovesStoredIndex() {
+		String principalName = "findByStoredPrincipalName" + UUID.randomUUID();
+		String storedPrincipalName = "findByStoredPrincipalName" + UUID.randomUUID();
+		RedisSession session = this.repository.createSession().block();
+		session.setAttribute(INDEX_NAME, principalName);
+		this.repository.save(session).block();
+		String storedIndexKey = "spring:session:sessions:index:" + INDEX_NAME + ":" + storedPrincipalName;
+		this.redis.opsForSet().add(storedIndexKey, session.getId()).block();
+		this.redis.opsForSet().add("spring:session:sessions:" + session.getId() + ":idx", storedIndexKey).block();
+
+		session = this.repository.findById(session.getId()).block();
+		session.setAttribute(INDEX_NAME, principalName + "changed");
+		this.repository.save(session).block();
+
+		assertThat(this.repository.findByIndexNameAndIndexValue(INDEX_NAME, storedPrincipalName).block()).isEmpty();
+		assertThat(this.repository.findByIndexNameAndIndexValue(INDEX_NAME, principalName).block()).isEmpty();
+		assertThat(this.repository.findByIndexNameAndIndexValue(INDEX_NAME, principalName + "changed").block())
+			.containsOnlyKeys(session.getId());
+	}
+
 	@Test
 	void findByPrincipalNameWhenChangedSecurityContextAttributeThenIndexMovedToNewPrincipal() {
 		String principalName = this.context.getAuthentication().getName();
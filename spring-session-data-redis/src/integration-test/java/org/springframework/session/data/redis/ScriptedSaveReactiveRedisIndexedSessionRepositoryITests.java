@@ -0,0 +1,44 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.config.ReactiveSessionRepositoryCustomizer;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Runs the {@link ReactiveRedisIndexedSessionRepositoryITests} with
+ * {@link ReactiveRedisIndexedSessionRepository#setScriptedSaveEnabled(boolean) scripted
+ * saves} enabled.
+ *
+ * @author agent (agent@local)
+ */
+@ContextConfiguration
+class ScriptedSaveReactiveRedisIndexedSessionRepositoryITests extends ReactiveRedisIndexedSessionRepositoryITests {
+
+	@Configuration(proxyBeanMethods = false)
+	static class ScriptedSaveConfig {
+
+		@Bean
+		ReactiveSessionRepositoryCustomizer<ReactiveRedisIndexedSessionRepository> scriptedSaveCustomizer() {
+			return (sessionRepository) -> sessionRepository.setScriptedSaveEnabled(true);
+		}
+
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.session.data.redis;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -33,7 +34,6 @@ import org.apache.commons.logging.LogFactory;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
@@ -42,9 +42,18 @@ import org.springframework.core.NestedExceptionUtils;
 import org.springframework.data.redis.connection.ReactiveSubscription;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.session.IndexResolver;
 import org.springframework.session.MapSession;
 import org.springframework.session.ReactiveFindByIndexNameSessionRepository;
+import org.springframework.session.ReactiveSessionIdGeneratorUtils;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
@@ -211,6 +220,16 @@ import org.springframework.util.StringUtils;
  * </pre>
  *
  * <p>
+ * The task fetches the expired session ids in pages of {@link #setCleanupBatchSize(int)}
+ * entries, accesses at most {@link #setCleanupConcurrency(int)} of them at a time and
+ * then removes the whole page from the sorted set with a single script. Entries whose
+ * expiration time was moved past the highest one of the page in the meantime are kept,
+ * since their sessions were saved again. It keeps fetching pages while they are full,
+ * until {@link #setCleanupTimeBudget(Duration)} has elapsed, so a backlog of expired
+ * sessions is drained without flooding Redis.
+ * </p>
+ *
+ * <p>
  * <b>NOTE</b>: We do not explicitly delete the keys since in some instances there may be
  * a race condition that incorrectly identifies a key as expired when it is not. Short of
  * using distributed locks (which would kill our performance) there is no way to ensure
@@ -228,6 +247,16 @@ import org.springframework.util.StringUtils;
  *
  * Therefore, you can check all indexes for a given session by getting the members of the
  * {@code "spring:session:sessions:648377f7-c76f-4f45-b847-c0268bb48381:idx"} Redis set.
+ * When a session is saved, the indexes that are resolved for it are compared with the
+ * indexes that were resolved when it was loaded, so the set is neither read nor written
+ * unless an index changed. If one did, the set is read first and the indexes are updated
+ * against its members, since they may differ from the indexes resolved on load.
+ *
+ * <h3>Scripted Saves</h3> By default, saving a session issues the commands described
+ * above one after the other. When {@link #setScriptedSaveEnabled(boolean)} is set to
+ * {@code true}, all of them are instead sent as a single Lua script, so that a session is
+ * saved with one round trip. Since the script accesses keys that are not passed as script
+ * keys, this mode cannot be used with Redis Cluster.
  *
  * @author Marcus da Coregio
  * @since 3.3
@@ -239,6 +268,50 @@ public class ReactiveRedisIndexedSessionRepository
 
 	private static final Log logger = LogFactory.getLog(ReactiveRedisIndexedSessionRepository.class);
 
+	// @formatter:off
+	private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of(
+			"local sessionKey, expiredKey, expirationsKey, sessionIndexesKey = KEYS[1], KEYS[2], KEYS[3], KEYS[4]\n"
+			+ "local sessionId = ARGV[4]\n"
+			+ "local i = 10\n"
+			+ "local fieldCount = tonumber(ARGV[5])\n"
+			+ "if fieldCount > 0 then\n"
+			+ "  for f = 1, fieldCount do\n"
+			+ "    redis.call('HSET', sessionKey, ARGV[i], ARGV[i + 1])\n"
+			+ "    i = i + 2\n"
+			+ "  end\n"
+			+ "  local sessionTtl = tonumber(ARGV[1])\n"
+			+ "  if sessionTtl >= 0 then\n"
+			+ "    redis.call('EXPIRE', sessionKey, sessionTtl)\n"
+			+ "    redis.call('APPEND', expiredKey, '')\n"
+			+ "    redis.call('EXPIRE', expiredKey, tonumber(ARGV[2]))\n"
+			+ "  else\n"
+			+ "    redis.call('PERSIST', sessionKey)\n"
+			+ "    redis.call('DEL', expiredKey)\n"
+			+ "  end\n"
+			+ "  if ARGV[8] ~= '' then\n"
+			+ "    redis.call('PUBLISH', ARGV[8], ARGV[9])\n"
+			+ "  end\n"
+			+ "end\n"
+			+ "for r = 1, tonumber(ARGV[6]) do\n"
+			+ "  redis.call('SREM', ARGV[i], sessionId)\n"
+			+ "  redis.call('SREM', sessionIndexesKey, ARGV[i + 1])\n"
+			+ "  i = i + 2\n"
+			+ "end\n"
+			+ "for a = 1, tonumber(ARGV[7]) do\n"
+			+ "  redis.call('SADD', ARGV[i], sessionId)\n"
+			+ "  redis.call('SADD', sessionIndexesKey, ARGV[i + 1])\n"
+			+ "  i = i + 2\n"
+			+ "end\n"
+			+ "redis.call('ZADD', expirationsKey, ARGV[3], sessionId)\n"
+			+ "return 1\n", Long.class);
+	// @formatter:on
+
+	private static final RedisElementWriter<byte[]> SCRIPT_ARGS_WRITER = RedisElementWriter
+		.from(RedisSerializer.byteArray());
+
+	private static final RedisElementReader<Long> SCRIPT_RESULT_READER = RedisElementReader
+		.from(new GenericToStringSerializer<>(Long.class));
+
 	/**
 	 * The default namespace for each key and channel in Redis used by Spring Session.
 	 */
@@ -249,6 +322,25 @@ public class ReactiveRedisIndexedSessionRepository
 	 */
 	public static final int DEFAULT_DATABASE = 0;
 
+	/**
+	 * The default maximum number of expired sessions that are cleaned up per page.
+	 * @since 3.5
+	 */
+	public static final int DEFAULT_CLEANUP_BATCH_SIZE = 100;
+
+	/**
+	 * The default maximum number of expired sessions that are cleaned up concurrently.
+	 * @since 3.5
+	 */
+	public static final int DEFAULT_CLEANUP_CONCURRENCY = 16;
+
+	/**
+	 * The default time, in seconds, a single run of the clean-up task keeps fetching
+	 * pages of expired sessions.
+	 * @since 3.5
+	 */
+	public static final int DEFAULT_CLEANUP_TIME_BUDGET_SECONDS = 30;
+
 	private final ReactiveRedisOperations<String, Object> sessionRedisOperations;
 
 	private final ReactiveRedisTemplate<String, String> keyEventsOperations;
@@ -257,6 +349,8 @@ public class ReactiveRedisIndexedSessionRepository
 
 	private BiFunction<String, Map<String, Object>, Mono<MapSession>> redisSessionMapper = new RedisSessionMapperAdapter();
 
+	private ReactiveSingleFlightSessionLoader sessionLoader;
+
 	private Duration defaultMaxInactiveInterval = Duration.ofSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS);
 
 	private SaveMode saveMode = SaveMode.ON_SET_ATTRIBUTE;
@@ -287,8 +381,14 @@ public class ReactiveRedisIndexedSessionRepository
 
 	private Duration cleanupInterval = Duration.ofSeconds(60);
 
+	private int cleanupConcurrency = DEFAULT_CLEANUP_CONCURRENCY;
+
+	private Duration cleanupTimeBudget = Duration.ofSeconds(DEFAULT_CLEANUP_TIME_BUDGET_SECONDS);
+
 	private Clock clock = Clock.systemUTC();
 
+	private boolean scriptedSaveEnabled;
+
 	/**
 	 * Creates a new instance with the provided {@link ReactiveRedisOperations}.
 	 * @param sessionRedisOperations the {@link ReactiveRedisOperations} to use for
@@ -324,8 +424,28 @@ public class ReactiveRedisIndexedSessionRepository
 		}
 	}
 
-	private Flux<Void> cleanUpExpiredSessions() {
-		return this.expirationStore.retrieveExpiredSessions(this.clock.instant()).flatMap(this::touch);
+	private Mono<Void> cleanUpExpiredSessions() {
+		Instant now = this.clock.instant();
+		Instant deadline = now.plus(this.cleanupTimeBudget);
+		return Mono.defer(() -> cleanUpExpiredSessionsPage(now))
+			.repeat()
+			.takeUntil((hasMore) -> !hasMore || !this.clock.instant().isBefore(deadline))
+			.then();
+	}
+
+	private Mono<Boolean> cleanUpExpiredSessionsPage(Instant expiredBefore) {
+		return this.expirationStore.retrieveExpiredSessions(expiredBefore).collectList().flatMap((expired) -> {
+			List<String> sessionIds = new ArrayList<>(expired.size());
+			double maxExpiration = 0;
+			for (TypedTuple<Object> entry : expired) {
+				sessionIds.add((String) entry.getValue());
+				maxExpiration = Math.max(maxExpiration, entry.getScore());
+			}
+			return Flux.fromIterable(sessionIds)
+				.flatMap(this::touch, this.cleanupConcurrency)
+				.then(this.expirationStore.remove(sessionIds, maxExpiration))
+				.thenReturn(sessionIds.size() >= this.expirationStore.getRetrieveCount());
+		});
 	}
 
 	private Mono<Void> touch(String sessionId) {
@@ -349,9 +469,7 @@ public class ReactiveRedisIndexedSessionRepository
 
 	@Override
 	public Mono<RedisSession> createSession() {
-		return Mono.fromSupplier(() -> this.sessionIdGenerator.generate())
-			.subscribeOn(Schedulers.boundedElastic())
-			.publishOn(Schedulers.parallel())
+		return ReactiveSessionIdGeneratorUtils.generateSessionId(this.sessionIdGenerator)
 			.map(MapSession::new)
 			.doOnNext((session) -> session.setMaxInactiveInterval(this.defaultMaxInactiveInterval))
 			.map((session) -> new RedisSession(session, true));
@@ -359,11 +477,15 @@ public class ReactiveRedisIndexedSessionRepository
 
 	@Override
 	public Mono<Void> save(RedisSession session) {
+		if (this.scriptedSaveEnabled) {
+			return invalidateLoadsAfter(session.saveWithScript(), session.originalSessionId, session.getId());
+		}
 		// @formatter:off
-		return session.save()
+		Mono<Void> save = session.save()
 				.then(Mono.defer(() -> this.indexer.update(session)))
 				.then(Mono.defer(() -> this.expirationStore.add(session.getId(), session.getLastAccessedTime().plus(session.getMaxInactiveInterval()))));
 		// @formatter:on
+		return invalidateLoadsAfter(save, session.originalSessionId, session.getId());
 	}
 
 	@Override
@@ -372,20 +494,47 @@ public class ReactiveRedisIndexedSessionRepository
 	}
 
 	private Mono<RedisSession> getSession(String sessionId, boolean allowExpired) {
+		Mono<MapSession> loaded = (this.sessionLoader != null) ? this.sessionLoader.load(sessionId, this::loadSession)
+				: loadSession(sessionId);
 		// @formatter:off
+		return loaded
+				.filter((session) -> allowExpired || !session.isExpired())
+				.map((session) -> {
+					RedisSession redisSession = new RedisSession(session, false);
+					redisSession.indexes = this.indexer.resolveIndexes(redisSession);
+					return redisSession;
+				});
+		// @formatter:on
+	}
+
+	private Mono<MapSession> loadSession(String sessionId) {
 		String sessionKey = getSessionKey(sessionId);
+		// @formatter:off
 		return this.sessionRedisOperations.opsForHash().entries(sessionKey)
 				.collectMap((entry) -> entry.getKey().toString(), Map.Entry::getValue)
 				.filter((map) -> !map.isEmpty())
-				.flatMap((map) -> this.redisSessionMapper.apply(sessionId, map))
-				.filter((session) -> allowExpired || !session.isExpired())
-				.map((session) -> new RedisSession(session, false));
+				.flatMap((map) -> this.redisSessionMapper.apply(sessionId, map));
 		// @formatter:on
 	}
 
 	@Override
 	public Mono<Void> deleteById(String id) {
-		return deleteAndReturn(id).then();
+		return invalidateLoadsAfter(deleteAndReturn(id).then(), id);
+	}
+
+	private Mono<Void> invalidateLoadsAfter(Mono<Void> write, String... sessionIds) {
+		ReactiveSingleFlightSessionLoader sessionLoader = this.sessionLoader;
+		if (sessionLoader == null) {
+			return write;
+		}
+		Runnable invalidate = () -> {
+			for (String sessionId : sessionIds) {
+				sessionLoader.invalidate(sessionId);
+			}
+		};
+		// invalidate before the completion is signalled, so that a load subscribed on
+		// completion does not join a read that started before the write
+		return write.doOnTerminate(invalidate).doOnCancel(invalidate);
 	}
 
 	private Mono<RedisSession> deleteAndReturn(String id) {
@@ -491,6 +640,41 @@ public class ReactiveRedisIndexedSessionRepository
 		this.cleanupInterval = cleanupInterval;
 	}
 
+	/**
+	 * Sets the maximum number of expired sessions that the clean-up task fetches per
+	 * page. Defaults to {@link #DEFAULT_CLEANUP_BATCH_SIZE}.
+	 * @param cleanupBatchSize the page size to use
+	 * @since 3.5
+	 */
+	public void setCleanupBatchSize(int cleanupBatchSize) {
+		this.expirationStore.setRetrieveCount(cleanupBatchSize);
+	}
+
+	/**
+	 * Sets the maximum number of expired sessions that the clean-up task processes
+	 * concurrently. Defaults to {@link #DEFAULT_CLEANUP_CONCURRENCY}.
+	 * @param cleanupConcurrency the concurrency to use
+	 * @since 3.5
+	 */
+	public void setCleanupConcurrency(int cleanupConcurrency) {
+		Assert.isTrue(cleanupConcurrency > 0, "cleanupConcurrency must be greater than 0");
+		this.cleanupConcurrency = cleanupConcurrency;
+	}
+
+	/**
+	 * Sets how long a single run of the clean-up task keeps fetching pages of expired
+	 * sessions while full pages are returned. Defaults to
+	 * {@link #DEFAULT_CLEANUP_TIME_BUDGET_SECONDS} seconds. Use {@link Duration#ZERO} to
+	 * fetch a single page per run.
+	 * @param cleanupTimeBudget the time budget to use
+	 * @since 3.5
+	 */
+	public void setCleanupTimeBudget(Duration cleanupTimeBudget) {
+		Assert.notNull(cleanupTimeBudget, "cleanupTimeBudget cannot be null");
+		Assert.isTrue(!cleanupTimeBudget.isNegative(), "cleanupTimeBudget cannot be negative");
+		this.cleanupTimeBudget = cleanupTimeBudget;
+	}
+
 	/**
 	 * Disables the clean-up task. This is just a shortcut to invoke
 	 * {@link #setCleanupInterval(Duration)} passing {@link Duration#ZERO}
@@ -508,6 +692,17 @@ public class ReactiveRedisIndexedSessionRepository
 		this.clock = clock;
 	}
 
+	/**
+	 * Sets whether a session is saved by a single Lua script that updates the session,
+	 * its expiration and its indexes in one round trip. Defaults to {@code false}. The
+	 * script cannot be used with Redis Cluster.
+	 * @param scriptedSaveEnabled whether to save sessions using a Lua script
+	 * @since 3.5
+	 */
+	public void setScriptedSaveEnabled(boolean scriptedSaveEnabled) {
+		this.scriptedSaveEnabled = scriptedSaveEnabled;
+	}
+
 	public void setDefaultMaxInactiveInterval(Duration defaultMaxInactiveInterval) {
 		Assert.notNull(defaultMaxInactiveInterval, "defaultMaxInactiveInterval must not be null");
 		this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
@@ -523,6 +718,24 @@ public class ReactiveRedisIndexedSessionRepository
 		this.redisSessionMapper = redisSessionMapper;
 	}
 
+	/**
+	 * Set whether concurrent {@link #findById(String)} subscriptions for the same session
+	 * share a single read from Redis. A subscription never joins a read that started
+	 * before the session was last saved or deleted through this repository. If a read is
+	 * shared, every subscriber receives its own deep copy of the loaded session, with the
+	 * attribute values copied by writing and reading them with the hash value
+	 * serialization pair. The default is {@code false}.
+	 * @param loadCoalescingEnabled whether concurrent loads of the same session are
+	 * coalesced
+	 * @since 3.5
+	 */
+	public void setLoadCoalescingEnabled(boolean loadCoalescingEnabled) {
+		this.sessionLoader = loadCoalescingEnabled
+				? new ReactiveSingleFlightSessionLoader(ReactiveSingleFlightSessionLoader
+					.serializingCopier(this.sessionRedisOperations.getSerializationContext()))
+				: null;
+	}
+
 	public void setSaveMode(SaveMode saveMode) {
 		Assert.notNull(saveMode, "saveMode cannot be null");
 		this.saveMode = saveMode;
@@ -542,6 +755,10 @@ public class ReactiveRedisIndexedSessionRepository
 		this.indexer.setIndexResolver(indexResolver);
 	}
 
+	private static byte[] toScriptArg(Object value) {
+		return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+	}
+
 	private static String getAttributeNameWithPrefix(String attributeName) {
 		return RedisSessionMapper.ATTRIBUTE_PREFIX + attributeName;
 	}
@@ -593,9 +810,14 @@ public class ReactiveRedisIndexedSessionRepository
 
 		private Map<String, String> indexes = new HashMap<>();
 
+		// whether the indexes are known to be the members of the :idx set, which is
+		// not the case for the indexes resolved when the session was loaded
+		private boolean indexesKnown;
+
 		public RedisSession(MapSession cached, boolean isNew) {
 			this.cached = cached;
 			this.isNew = isNew;
+			this.indexesKnown = isNew;
 			this.originalSessionId = cached.getId();
 			if (this.isNew) {
 				this.delta.put(RedisSessionMapper.CREATION_TIME_KEY, cached.getCreationTime().toEpochMilli());
@@ -680,10 +902,25 @@ public class ReactiveRedisIndexedSessionRepository
 			return this.cached.isExpired();
 		}
 
+		@Override
+		public boolean hasChanges() {
+			int lastAccessedTimeChanges = this.delta.containsKey(RedisSessionMapper.LAST_ACCESSED_TIME_KEY) ? 1 : 0;
+			return this.isNew || hasChangedSessionId() || this.delta.size() > lastAccessedTimeChanges;
+		}
+
 		public Map<String, String> getIndexes() {
 			return Collections.unmodifiableMap(this.indexes);
 		}
 
+		void setIndexes(Map<String, String> indexes) {
+			this.indexes = indexes;
+			this.indexesKnown = true;
+		}
+
+		boolean hasKnownIndexes() {
+			return this.indexesKnown;
+		}
+
 		private boolean hasChangedSessionId() {
 			return !getId().equals(this.originalSessionId);
 		}
@@ -693,6 +930,81 @@ public class ReactiveRedisIndexedSessionRepository
 				.defer(() -> saveChangeSessionId().then(saveDelta()).doOnSuccess((unused) -> this.isNew = false));
 		}
 
+		private Mono<Void> saveWithScript() {
+			return Mono.defer(() -> saveChangeSessionId().then(Mono.defer(this::executeSaveScript))
+				.doOnSuccess((unused) -> this.isNew = false));
+		}
+
+		private Mono<Void> executeSaveScript() {
+			ReactiveRedisSessionIndexer indexer = ReactiveRedisIndexedSessionRepository.this.indexer;
+			Map<String, String> indexes = indexer.resolveIndexes(this);
+			if (indexes.equals(this.indexes) || this.indexesKnown) {
+				return executeSaveScript(this.indexes, indexes);
+			}
+			return indexer.getIndexes(getId()).flatMap((storedIndexes) -> executeSaveScript(storedIndexes, indexes));
+		}
+
+		private Mono<Void> executeSaveScript(Map<String, String> originalIndexes, Map<String, String> indexes) {
+			ReactiveRedisSessionIndexer indexer = ReactiveRedisIndexedSessionRepository.this.indexer;
+			RedisSerializationContext<String, Object> serializationContext = ReactiveRedisIndexedSessionRepository.this.sessionRedisOperations
+				.getSerializationContext();
+			String sessionId = getId();
+			List<String> removedIndexKeys = new ArrayList<>();
+			for (Map.Entry<String, String> index : originalIndexes.entrySet()) {
+				if (!index.getValue().equals(indexes.get(index.getKey()))) {
+					removedIndexKeys.add(indexer.getIndexKey(index.getKey(), index.getValue()));
+				}
+			}
+			List<String> addedIndexKeys = new ArrayList<>();
+			for (Map.Entry<String, String> index : indexes.entrySet()) {
+				if (!index.getValue().equals(originalIndexes.get(index.getKey()))) {
+					addedIndexKeys.add(indexer.getIndexKey(index.getKey(), index.getValue()));
+				}
+			}
+
+			long maxInactiveSeconds = getMaxInactiveInterval().getSeconds();
+			List<byte[]> args = new ArrayList<>();
+			args.add(toScriptArg(
+					(maxInactiveSeconds >= 0) ? maxInactiveSeconds + Duration.ofMinutes(5).getSeconds() : -1));
+			args.add(toScriptArg(maxInactiveSeconds));
+			args.add(toScriptArg(getLastAccessedTime().plus(getMaxInactiveInterval()).toEpochMilli()));
+			args.add(ByteUtils.getBytes(serializationContext.getValueSerializationPair().write(sessionId)));
+			args.add(toScriptArg(this.delta.size()));
+			args.add(toScriptArg(removedIndexKeys.size()));
+			args.add(toScriptArg(addedIndexKeys.size()));
+			if (this.isNew) {
+				args.add(toScriptArg(getSessionCreatedChannel(sessionId)));
+				args.add(ByteUtils.getBytes(serializationContext.getValueSerializationPair().write(this.delta)));
+			}
+			else {
+				args.add(toScriptArg(""));
+				args.add(toScriptArg(""));
+			}
+			for (Map.Entry<String, Object> field : this.delta.entrySet()) {
+				args.add(ByteUtils.getBytes(serializationContext.getHashKeySerializationPair().write(field.getKey())));
+				args.add(ByteUtils
+					.getBytes(serializationContext.getHashValueSerializationPair().write(field.getValue())));
+			}
+			for (String indexKey : removedIndexKeys) {
+				args.add(toScriptArg(indexKey));
+				args.add(ByteUtils.getBytes(serializationContext.getValueSerializationPair().write(indexKey)));
+			}
+			for (String indexKey : addedIndexKeys) {
+				args.add(toScriptArg(indexKey));
+				args.add(ByteUtils.getBytes(serializationContext.getValueSerializationPair().write(indexKey)));
+			}
+
+			List<String> keys = List.of(getSessionKey(sessionId), getExpiredKey(sessionId),
+					ReactiveRedisIndexedSessionRepository.this.expirationStore.getExpirationsKey(),
+					indexer.getSessionIndexesKey(sessionId));
+			return ReactiveRedisIndexedSessionRepository.this.sessionRedisOperations
+				.execute(SAVE_SCRIPT, keys, args, SCRIPT_ARGS_WRITER, SCRIPT_RESULT_READER)
+				.then(Mono.fromRunnable(() -> {
+					this.delta = new HashMap<>(this.delta.size());
+					setIndexes(indexes);
+				}));
+		}
+
 		private Mono<Void> saveDelta() {
 			if (this.delta.isEmpty()) {
 				return Mono.empty();
@@ -765,6 +1077,7 @@ public class ReactiveRedisIndexedSessionRepository
 
 		private Mono<Void> replaceSessionIdOnIndexes() {
 			return ReactiveRedisIndexedSessionRepository.this.indexer.delete(this.originalSessionId)
+				.then(Mono.fromRunnable(() -> setIndexes(Collections.emptyMap())))
 				.then(ReactiveRedisIndexedSessionRepository.this.indexer.update(this));
 		}
 
@@ -21,7 +21,6 @@ import java.util.Map;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuples;
 
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.session.DelegatingIndexResolver;
@@ -30,7 +29,6 @@ import org.springframework.session.PrincipalNameIndexResolver;
 import org.springframework.session.Session;
 import org.springframework.session.data.redis.ReactiveRedisIndexedSessionRepository.RedisSession;
 import org.springframework.util.Assert;
-import org.springframework.util.CollectionUtils;
 
 /**
  * Uses an {@link IndexResolver} to keep track of the indexes for a
@@ -58,29 +56,47 @@ final class ReactiveRedisSessionIndexer {
 		updateIndexKeyPrefix();
 	}
 
+	/**
+	 * Update the indexes of the session. The indexes that are resolved for the session
+	 * are compared with {@link RedisSession#getIndexes()}, the indexes resolved when the
+	 * session was loaded or last saved, so no Redis command is issued if they did not
+	 * change. If they did and the session was loaded, the indexes are updated against the
+	 * members of the session's index set, since they may differ from the indexes resolved
+	 * on load.
+	 * @param redisSession the session to update the indexes for
+	 * @return a {@link Mono} that completes when the indexes are updated
+	 */
 	Mono<Void> update(RedisSession redisSession) {
-		return getIndexes(redisSession.getId()).map((originalIndexes) -> {
+		return Mono.defer(() -> {
 			Map<String, String> indexes = this.indexResolver.resolveIndexesFor(redisSession);
-			Map<String, String> indexToDelete = new HashMap<>();
-			Map<String, String> indexToAdd = new HashMap<>();
-			for (Map.Entry<String, String> entry : indexes.entrySet()) {
-				if (!originalIndexes.containsKey(entry.getKey())) {
-					indexToAdd.put(entry.getKey(), entry.getValue());
-					continue;
-				}
-				if (!originalIndexes.get(entry.getKey()).equals(entry.getValue())) {
-					indexToDelete.put(entry.getKey(), originalIndexes.get(entry.getKey()));
-					indexToAdd.put(entry.getKey(), entry.getValue());
-				}
+			if (indexes.equals(redisSession.getIndexes())) {
+				return Mono.empty();
 			}
-			if (CollectionUtils.isEmpty(indexes) && !CollectionUtils.isEmpty(originalIndexes)) {
-				indexToDelete.putAll(originalIndexes);
+			Mono<Map<String, String>> originalIndexes = redisSession.hasKnownIndexes()
+					? Mono.just(redisSession.getIndexes()) : getIndexes(redisSession.getId());
+			return originalIndexes.flatMap((original) -> updateIndexes(original, indexes, redisSession.getId()))
+				.then(Mono.fromRunnable(() -> redisSession.setIndexes(indexes)));
+		});
+	}
+
+	private Mono<Void> updateIndexes(Map<String, String> originalIndexes, Map<String, String> indexes,
+			String sessionId) {
+		Map<String, String> indexToDelete = new HashMap<>();
+		for (Map.Entry<String, String> entry : originalIndexes.entrySet()) {
+			if (!entry.getValue().equals(indexes.get(entry.getKey()))) {
+				indexToDelete.put(entry.getKey(), entry.getValue());
 			}
-			return Tuples.of(indexToDelete, indexToAdd);
-		}).flatMap((indexes) -> updateIndexes(indexes.getT1(), indexes.getT2(), redisSession.getId()));
+		}
+		Map<String, String> indexToAdd = new HashMap<>();
+		for (Map.Entry<String, String> entry : indexes.entrySet()) {
+			if (!entry.getValue().equals(originalIndexes.get(entry.getKey()))) {
+				indexToAdd.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return updateIndexKeys(indexToDelete, indexToAdd, sessionId);
 	}
 
-	private Mono<Void> updateIndexes(Map<String, String> indexToDelete, Map<String, String> indexToAdd,
+	private Mono<Void> updateIndexKeys(Map<String, String> indexToDelete, Map<String, String> indexToAdd,
 			String sessionId) {
 		// @formatter:off
 		return Flux.fromIterable(indexToDelete.entrySet())
@@ -130,11 +146,15 @@ final class ReactiveRedisSessionIndexer {
 		this.indexKeyPrefix = this.namespace + "sessions:index:";
 	}
 
-	private String getSessionIndexesKey(String sessionId) {
+	Map<String, String> resolveIndexes(Session session) {
+		return this.indexResolver.resolveIndexesFor(session);
+	}
+
+	String getSessionIndexesKey(String sessionId) {
 		return this.namespace + "sessions:" + sessionId + ":idx";
 	}
 
-	private String getIndexKey(String indexName, String indexValue) {
+	String getIndexKey(String indexName, String indexValue) {
 		return this.indexKeyPrefix + indexName + ":" + indexValue;
 	}
 
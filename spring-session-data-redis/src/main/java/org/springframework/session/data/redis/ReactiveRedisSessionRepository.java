@@ -25,11 +25,11 @@ import java.util.function.BiFunction;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 import org.springframework.core.NestedExceptionUtils;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.session.MapSession;
+import org.springframework.session.ReactiveSessionIdGeneratorUtils;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
@@ -69,6 +69,8 @@ public class ReactiveRedisSessionRepository
 
 	private BiFunction<String, Map<String, Object>, Mono<MapSession>> redisSessionMapper = new RedisSessionMapperAdapter();
 
+	private ReactiveSingleFlightSessionLoader sessionLoader;
+
 	/**
 	 * Create a new {@link ReactiveRedisSessionRepository} instance.
 	 * @param sessionRedisOperations the {@link ReactiveRedisOperations} to use for
@@ -128,9 +130,7 @@ public class ReactiveRedisSessionRepository
 	@Override
 	public Mono<RedisSession> createSession() {
 		// @formatter:off
-		return Mono.fromSupplier(() -> this.sessionIdGenerator.generate())
-				.subscribeOn(Schedulers.boundedElastic())
-				.publishOn(Schedulers.parallel())
+		return ReactiveSessionIdGeneratorUtils.generateSessionId(this.sessionIdGenerator)
 				.map((sessionId) -> {
 					MapSession cached = new MapSession(sessionId);
 					cached.setMaxInactiveInterval(this.defaultMaxInactiveInterval);
@@ -145,13 +145,20 @@ public class ReactiveRedisSessionRepository
 			return session.save();
 		}
 		String sessionKey = getSessionKey(session.hasChangedSessionId() ? session.originalSessionId : session.getId());
-		return this.sessionRedisOperations.hasKey(sessionKey)
+		Mono<Void> save = this.sessionRedisOperations.hasKey(sessionKey)
 			.flatMap((exists) -> exists ? session.save()
 					: Mono.error(new IllegalStateException("Session was invalidated")));
+		return invalidateLoadsAfter(save, session.originalSessionId, session.getId());
 	}
 
 	@Override
 	public Mono<RedisSession> findById(String id) {
+		Mono<MapSession> session = (this.sessionLoader != null) ? this.sessionLoader.load(id, this::loadSession)
+				: loadSession(id);
+		return session.map((loaded) -> new RedisSession(loaded, false));
+	}
+
+	private Mono<MapSession> loadSession(String id) {
 		String sessionKey = getSessionKey(id);
 
 		// @formatter:off
@@ -160,7 +167,6 @@ public class ReactiveRedisSessionRepository
 				.filter((map) -> !map.isEmpty())
 				.flatMap((map) -> this.redisSessionMapper.apply(id, map))
 				.filter((session) -> !session.isExpired())
-				.map((session) -> new RedisSession(session, false))
 				.switchIfEmpty(Mono.defer(() -> deleteById(id).then(Mono.empty())));
 		// @formatter:on
 	}
@@ -169,7 +175,22 @@ public class ReactiveRedisSessionRepository
 	public Mono<Void> deleteById(String id) {
 		String sessionKey = getSessionKey(id);
 
-		return this.sessionRedisOperations.delete(sessionKey).then();
+		return invalidateLoadsAfter(this.sessionRedisOperations.delete(sessionKey).then(), id);
+	}
+
+	private Mono<Void> invalidateLoadsAfter(Mono<Void> write, String... sessionIds) {
+		ReactiveSingleFlightSessionLoader sessionLoader = this.sessionLoader;
+		if (sessionLoader == null) {
+			return write;
+		}
+		Runnable invalidate = () -> {
+			for (String sessionId : sessionIds) {
+				sessionLoader.invalidate(sessionId);
+			}
+		};
+		// invalidate before the completion is signalled, so that a load subscribed on
+		// completion does not join a read that started before the write
+		return write.doOnTerminate(invalidate).doOnCancel(invalidate);
 	}
 
 	private static String getAttributeKey(String attributeName) {
@@ -200,6 +221,24 @@ public class ReactiveRedisSessionRepository
 		this.redisSessionMapper = redisSessionMapper;
 	}
 
+	/**
+	 * Set whether concurrent {@link #findById(String)} subscriptions for the same session
+	 * share a single read from Redis. A subscription never joins a read that started
+	 * before the session was last saved or deleted through this repository. If a read is
+	 * shared, every subscriber receives its own deep copy of the loaded session, with the
+	 * attribute values copied by writing and reading them with the hash value
+	 * serialization pair. The default is {@code false}.
+	 * @param loadCoalescingEnabled whether concurrent loads of the same session are
+	 * coalesced
+	 * @since 3.5
+	 */
+	public void setLoadCoalescingEnabled(boolean loadCoalescingEnabled) {
+		this.sessionLoader = loadCoalescingEnabled
+				? new ReactiveSingleFlightSessionLoader(ReactiveSingleFlightSessionLoader
+					.serializingCopier(this.sessionRedisOperations.getSerializationContext()))
+				: null;
+	}
+
 	/**
 	 * A custom implementation of {@link Session} that uses a {@link MapSession} as the
 	 * basis for its mapping. It keeps track of any attributes that have changed. When
@@ -303,6 +342,12 @@ public class ReactiveRedisSessionRepository
 			return this.cached.isExpired();
 		}
 
+		@Override
+		public boolean hasChanges() {
+			int lastAccessedTimeChanges = this.delta.containsKey(RedisSessionMapper.LAST_ACCESSED_TIME_KEY) ? 1 : 0;
+			return this.isNew || hasChangedSessionId() || this.delta.size() > lastAccessedTimeChanges;
+		}
+
 		private boolean hasChangedSessionId() {
 			return !getId().equals(this.originalSessionId);
 		}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.session.MapSession;
+
+/**
+ * Lets concurrent subscriptions to the load of the same session share a single read from
+ * Redis.
+ * <p>
+ * A subscription only joins a read that is still in progress, and
+ * {@link #invalidate(String)} must be invoked after the session was written, so that a
+ * subscription that starts after a write completed never joins a read that started before
+ * it. If other subscribers joined a read, every subscriber receives its own deep copy of
+ * the loaded {@link MapSession}, with the attribute values copied by the given function,
+ * so that neither the session nor its attribute values are shared between subscribers.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ * @see SingleFlightSessionLoader
+ */
+final class ReactiveSingleFlightSessionLoader {
+
+	private final ConcurrentMap<String, Load> loads = new ConcurrentHashMap<>();
+
+	private final UnaryOperator<Object> attributeValueCopier;
+
+	/**
+	 * Create a new instance.
+	 * @param attributeValueCopier the function that copies mutable attribute values
+	 */
+	ReactiveSingleFlightSessionLoader(UnaryOperator<Object> attributeValueCopier) {
+		this.attributeValueCopier = attributeValueCopier;
+	}
+
+	/**
+	 * Loads the session with the given id, joining a load of the same session that is
+	 * already in progress.
+	 * @param sessionId the session id
+	 * @param loader the function that loads the session from Redis
+	 * @return the loaded session or an empty {@link Mono} if it was not found
+	 */
+	Mono<MapSession> load(String sessionId, Function<String, Mono<MapSession>> loader) {
+		return Mono.defer(() -> {
+			AtomicReference<Load> created = new AtomicReference<>();
+			Load load = this.loads.computeIfAbsent(sessionId, (id) -> {
+				created.set(share(id, loader));
+				return created.get();
+			});
+			if (load == created.get()) {
+				// nobody else receives the loaded session if the load is closed
+				return load.session.map((loaded) -> load.close() ? loaded : copy(loaded));
+			}
+			if (load.join()) {
+				return load.session.map(this::copy);
+			}
+			// the load completed concurrently, start another one
+			this.loads.remove(sessionId, load);
+			return load(sessionId, loader);
+		});
+	}
+
+	/**
+	 * Stops new subscriptions to the load of the given session from joining the read that
+	 * is in progress. Must be invoked after the session was written or deleted.
+	 * @param sessionId the session id
+	 */
+	void invalidate(String sessionId) {
+		this.loads.remove(sessionId);
+	}
+
+	private Load share(String sessionId, Function<String, Mono<MapSession>> loader) {
+		AtomicReference<Load> shared = new AtomicReference<>();
+		shared.set(new Load(
+				loader.apply(sessionId).doFinally((signalType) -> this.loads.remove(sessionId, shared.get())).cache()));
+		return shared.get();
+	}
+
+	private MapSession copy(MapSession session) {
+		return SingleFlightSessionLoader.copy(session, this.attributeValueCopier);
+	}
+
+	/**
+	 * Create a function that copies attribute values by writing and reading them with the
+	 * hash value serialization pair of the given context, or with Java serialization if
+	 * it is {@code null}.
+	 * @param serializationContext the serialization context that is used to write
+	 * attribute values to Redis
+	 * @return the function that copies attribute values
+	 */
+	@SuppressWarnings("unchecked")
+	static UnaryOperator<Object> serializingCopier(RedisSerializationContext<?, ?> serializationContext) {
+		if (serializationContext == null) {
+			return SingleFlightSessionLoader.serializingCopier(null);
+		}
+		SerializationPair<Object> pair = (SerializationPair<Object>) serializationContext
+			.getHashValueSerializationPair();
+		return (value) -> pair.read(pair.write(value));
+	}
+
+	private static final class Load {
+
+		private final Mono<MapSession> session;
+
+		// the number of subscribers that joined the load, or -1 once it no longer accepts
+		// subscribers
+		private final AtomicInteger joined = new AtomicInteger();
+
+		Load(Mono<MapSession> session) {
+			this.session = session;
+		}
+
+		boolean join() {
+			int count;
+			do {
+				count = this.joined.get();
+				if (count < 0) {
+					return false;
+				}
+			}
+			while (!this.joined.compareAndSet(count, count + 1));
+			return true;
+		}
+
+		boolean close() {
+			return this.joined.compareAndSet(0, -1);
+		}
+
+	}
+
+}
@@ -16,6 +16,8 @@
 
 package org.springframework.session.data.redis;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -43,6 +45,8 @@ import org.springframework.data.redis.core.BoundHashOperations;
 import org.springframework.data.redis.core.BoundSetOperations;
 import org.springframework.data.redis.core.BoundValueOperations;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.util.ByteUtils;
@@ -260,6 +264,30 @@ import org.springframework.util.StringUtils;
  * the key is only removed if the TTL on that key is expired.
  * </p>
  *
+ * <h3>Without Shadow Keys</h3>
+ *
+ * <p>
+ * When {@link #setShadowKeysEnabled(boolean)} is set to {@code false}, neither the
+ * expires key nor the minute based expiration sets are written. Instead, the expiration
+ * time of each session is tracked in a single sorted set:
+ * </p>
+ *
+ * <pre>
+ * HMSET spring:session:sessions:33fdd1b6-b496-4b33-9f7d-df96679d32fe creationTime 1404360000000 maxInactiveInterval 1800 lastAccessedTime 1404360000000 sessionAttr:attrName someAttrValue sessionAttr:attrName2 someAttrValue2
+ * EXPIRE spring:session:sessions:33fdd1b6-b496-4b33-9f7d-df96679d32fe 2100
+ * ZADD spring:session:sessions:expirations 1404361800000 33fdd1b6-b496-4b33-9f7d-df96679d32fe
+ * </pre>
+ *
+ * <p>
+ * The background task reads the expired session ids in pages of 100 until none are left.
+ * It claims each of them by removing it from the sorted set, so only one node handles a
+ * given session. It then deletes the session and publishes the session to the channel
+ * returned by {@link #getSessionExpiredChannelPrefix()}. Deleting a session publishes it
+ * to the channel returned by {@link #getSessionDeletedChannelPrefix()}. Since these
+ * events are published by Spring Session itself, keyspace notifications do not need to be
+ * enabled.
+ * </p>
+ *
  * @author Rob Winch
  * @author Vedran Pavic
  * @since 2.2.0
@@ -306,6 +334,14 @@ public class RedisIndexedSessionRepository
 
 	private byte[] sessionExpiredChannelBytes;
 
+	private String sessionDeletedChannelPrefix;
+
+	private byte[] sessionDeletedChannelPrefixBytes;
+
+	private String sessionExpiredChannelPrefix;
+
+	private byte[] sessionExpiredChannelPrefixBytes;
+
 	private String expiredKeyPrefix;
 
 	private byte[] expiredKeyPrefixBytes;
@@ -314,6 +350,10 @@ public class RedisIndexedSessionRepository
 
 	private RedisSessionExpirationStore expirationStore;
 
+	private boolean shadowKeysEnabled = true;
+
+	private Clock clock = Clock.systemUTC();
+
 	private ApplicationEventPublisher eventPublisher = (event) -> {
 	};
 
@@ -335,6 +375,8 @@ public class RedisIndexedSessionRepository
 
 	private BiFunction<String, Map<String, Object>, MapSession> redisSessionMapper = new RedisSessionMapper();
 
+	private SingleFlightSessionLoader sessionLoader;
+
 	/**
 	 * Creates a new instance. For an example, refer to the class level javadoc.
 	 * @param sessionRedisOperations the {@link RedisOperations} to use for managing the
@@ -474,6 +516,10 @@ public class RedisIndexedSessionRepository
 		this.sessionDeletedChannelBytes = this.sessionDeletedChannel.getBytes();
 		this.sessionExpiredChannel = "__keyevent@" + this.database + "__:expired";
 		this.sessionExpiredChannelBytes = this.sessionExpiredChannel.getBytes();
+		this.sessionDeletedChannelPrefix = this.namespace + "event:" + this.database + ":deleted:";
+		this.sessionDeletedChannelPrefixBytes = this.sessionDeletedChannelPrefix.getBytes();
+		this.sessionExpiredChannelPrefix = this.namespace + "event:" + this.database + ":expired:";
+		this.sessionExpiredChannelPrefixBytes = this.sessionExpiredChannelPrefix.getBytes();
 		this.expiredKeyPrefix = this.namespace + "sessions:expires:";
 		this.expiredKeyPrefixBytes = this.expiredKeyPrefix.getBytes();
 	}
@@ -528,11 +574,8 @@ public class RedisIndexedSessionRepository
 	 * @return the Redis session
 	 */
 	private RedisSession getSession(String id, boolean allowExpired) {
-		Map<String, Object> entries = getSessionBoundHashOperations(id).entries();
-		if ((entries == null) || entries.isEmpty()) {
-			return null;
-		}
-		MapSession loaded = this.redisSessionMapper.apply(id, entries);
+		MapSession loaded = (this.sessionLoader != null) ? this.sessionLoader.load(id, this::loadSession)
+				: loadSession(id);
 		if (loaded == null || (!allowExpired && loaded.isExpired())) {
 			return null;
 		}
@@ -541,8 +584,25 @@ public class RedisIndexedSessionRepository
 		return result;
 	}
 
+	private MapSession loadSession(String id) {
+		Map<String, Object> entries = getSessionBoundHashOperations(id).entries();
+		if ((entries == null) || entries.isEmpty()) {
+			return null;
+		}
+		return this.redisSessionMapper.apply(id, entries);
+	}
+
 	@Override
 	public void deleteById(String sessionId) {
+		if (!this.shadowKeysEnabled) {
+			Map<String, Object> entries = getSessionBoundHashOperations(sessionId).entries();
+			this.expirationStore.remove(sessionId);
+			if ((entries != null) && !entries.isEmpty()) {
+				destroySession(sessionId, entries, this.sessionDeletedChannelPrefix);
+			}
+			invalidateLoads(sessionId);
+			return;
+		}
 		RedisSession session = getSession(sessionId, true);
 		if (session == null) {
 			return;
@@ -585,6 +645,29 @@ public class RedisIndexedSessionRepository
 			return;
 		}
 
+		boolean isDeletedChannel = ByteUtils.startsWith(messageChannel, this.sessionDeletedChannelPrefixBytes);
+		if (isDeletedChannel || ByteUtils.startsWith(messageChannel, this.sessionExpiredChannelPrefixBytes)) {
+			String channel = new String(messageChannel);
+			String sessionId = channel.substring(channel.lastIndexOf(":") + 1);
+			@SuppressWarnings("unchecked")
+			Map<String, Object> entries = (Map<String, Object>) this.defaultSerializer.deserialize(message.getBody());
+			MapSession loaded = this.redisSessionMapper.apply(sessionId, entries);
+			if (loaded == null) {
+				return;
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Publishing SessionDestroyedEvent for session " + sessionId);
+			}
+			RedisSession session = new RedisSession(loaded, false);
+			if (isDeletedChannel) {
+				handleDeleted(session);
+			}
+			else {
+				handleExpired(session);
+			}
+			return;
+		}
+
 		byte[] messageBody = message.getBody();
 
 		if (!ByteUtils.startsWith(messageBody, this.expiredKeyPrefixBytes)) {
@@ -621,6 +704,28 @@ public class RedisIndexedSessionRepository
 		}
 	}
 
+	/**
+	 * Removes the session and publishes it to the channel with the given prefix, so every
+	 * listening node can fire a {@link SessionDestroyedEvent}.
+	 * @param sessionId the session id
+	 * @param entries the entries of the session hash
+	 * @param channelPrefix the prefix of the channel to publish the session to
+	 */
+	private void destroySession(String sessionId, Map<String, Object> entries, String channelPrefix) {
+		MapSession loaded = this.redisSessionMapper.apply(sessionId, entries);
+		if (loaded != null) {
+			cleanupPrincipalIndex(new RedisSession(loaded, false));
+		}
+		this.sessionRedisOperations.delete(getSessionKey(sessionId));
+		this.sessionRedisOperations.convertAndSend(channelPrefix + sessionId, entries);
+	}
+
+	private void invalidateLoads(String sessionId) {
+		if (this.sessionLoader != null) {
+			this.sessionLoader.invalidate(sessionId);
+		}
+	}
+
 	private void cleanupPrincipalIndex(RedisSession session) {
 		String sessionId = session.getId();
 		Map<String, String> indexes = RedisIndexedSessionRepository.this.indexResolver.resolveIndexesFor(session);
@@ -669,6 +774,58 @@ public class RedisIndexedSessionRepository
 		this.expirationStore = expirationStore;
 	}
 
+	/**
+	 * Sets whether a shadow expires key is written for each session in order to rely on
+	 * Redis keyspace notifications for {@link SessionDestroyedEvent}s. When set to
+	 * {@code false}, the expiration of each session is tracked in a single sorted set
+	 * whose clean up task deletes expired sessions and publishes the
+	 * {@link SessionDestroyedEvent}s itself, which saves one key and several commands per
+	 * session. Sessions are then only deleted by the clean up task, so it must not be
+	 * disabled with {@link #setCleanupCron(String)}. This replaces the default
+	 * {@link RedisSessionExpirationStore}, but keeps a store set with
+	 * {@link #setExpirationStore(RedisSessionExpirationStore)}. Defaults to {@code true}.
+	 * @param shadowKeysEnabled whether shadow expires keys should be written
+	 * @since 3.5
+	 * @see #getSessionDeletedChannelPrefix()
+	 * @see #getSessionExpiredChannelPrefix()
+	 */
+	public void setShadowKeysEnabled(boolean shadowKeysEnabled) {
+		this.shadowKeysEnabled = shadowKeysEnabled;
+		if (this.expirationStore instanceof MinuteBasedRedisSessionExpirationStore
+				|| this.expirationStore instanceof ReaperRedisSessionExpirationStore) {
+			this.expirationStore = shadowKeysEnabled
+					? new MinuteBasedRedisSessionExpirationStore(this.sessionRedisOperations, this::getExpirationsKey)
+					: new ReaperRedisSessionExpirationStore();
+		}
+	}
+
+	/**
+	 * Sets the {@link Clock} used to find the sessions to clean up. Defaults to
+	 * {@link Clock#systemUTC()}.
+	 * @param clock the clock to use
+	 * @since 3.5
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Set whether concurrent {@link #findById(String)} calls for the same session share a
+	 * single read from Redis. Only reads that started before the latest save of the
+	 * session completed are shared, and each caller receives its own copy of the loaded
+	 * session whose attribute values are copied with the hash value serializer of the
+	 * {@link RedisOperations}. The default is {@code false}.
+	 * @param loadCoalescingEnabled whether concurrent loads of the same session are
+	 * coalesced
+	 * @since 3.5
+	 */
+	public void setLoadCoalescingEnabled(boolean loadCoalescingEnabled) {
+		this.sessionLoader = loadCoalescingEnabled ? new SingleFlightSessionLoader(
+				SingleFlightSessionLoader.serializingCopier(this.sessionRedisOperations.getHashValueSerializer()))
+				: null;
+	}
+
 	/**
 	 * Gets the Hash key for this session by prefixing it appropriately.
 	 * @param sessionId the session id
@@ -687,6 +844,10 @@ public class RedisIndexedSessionRepository
 		return this.namespace + "expirations:" + expiration;
 	}
 
+	String getExpirationsKey() {
+		return this.namespace + "sessions:expirations";
+	}
+
 	private String getExpiredKey(String sessionId) {
 		return getExpiredKeyPrefix() + sessionId;
 	}
@@ -725,6 +886,32 @@ public class RedisIndexedSessionRepository
 		return this.sessionExpiredChannel;
 	}
 
+	/**
+	 * Gets the prefix for the channel that {@link SessionDeletedEvent}s are published to
+	 * when shadow keys are disabled. The suffix is the session id of the session that was
+	 * deleted.
+	 * @return the prefix for the channel that {@link SessionDeletedEvent}s are published
+	 * to when shadow keys are disabled
+	 * @since 3.5
+	 * @see #setShadowKeysEnabled(boolean)
+	 */
+	public String getSessionDeletedChannelPrefix() {
+		return this.sessionDeletedChannelPrefix;
+	}
+
+	/**
+	 * Gets the prefix for the channel that {@link SessionExpiredEvent}s are published to
+	 * when shadow keys are disabled. The suffix is the session id of the session that
+	 * expired.
+	 * @return the prefix for the channel that {@link SessionExpiredEvent}s are published
+	 * to when shadow keys are disabled
+	 * @since 3.5
+	 * @see #setShadowKeysEnabled(boolean)
+	 */
+	public String getSessionExpiredChannelPrefix() {
+		return this.sessionExpiredChannelPrefix;
+	}
+
 	/**
 	 * Gets the {@link BoundHashOperations} to operate on a {@link Session}.
 	 * @param sessionId the id of the {@link Session} to work with
@@ -817,6 +1004,12 @@ public class RedisIndexedSessionRepository
 			return this.cached.isExpired();
 		}
 
+		@Override
+		public boolean hasChanges() {
+			int lastAccessedTimeChanges = this.delta.containsKey(RedisSessionMapper.LAST_ACCESSED_TIME_KEY) ? 1 : 0;
+			return this.isNew || !getId().equals(this.originalSessionId) || this.delta.size() > lastAccessedTimeChanges;
+		}
+
 		@Override
 		public Instant getCreationTime() {
 			return this.cached.getCreationTime();
@@ -927,13 +1120,26 @@ public class RedisIndexedSessionRepository
 
 			long sessionExpireInSeconds = getMaxInactiveInterval().getSeconds();
 
-			createShadowKey(sessionExpireInSeconds);
+			if (RedisIndexedSessionRepository.this.shadowKeysEnabled) {
+				createShadowKey(sessionExpireInSeconds);
+			}
 
-			long fiveMinutesAfterExpires = sessionExpireInSeconds + TimeUnit.MINUTES.toSeconds(5);
-			RedisIndexedSessionRepository.this.sessionRedisOperations.boundHashOps(getSessionKey(getId()))
-				.expire(fiveMinutesAfterExpires, TimeUnit.SECONDS);
+			BoundHashOperations<String, String, Object> hashOperations = RedisIndexedSessionRepository.this.sessionRedisOperations
+				.boundHashOps(getSessionKey(getId()));
+			if (!RedisIndexedSessionRepository.this.shadowKeysEnabled && (sessionExpireInSeconds < 0
+					|| RedisIndexedSessionRepository.this.expirationStore instanceof ReaperRedisSessionExpirationStore)) {
+				// the session is only deleted by the clean up task, which publishes its
+				// event and cleans up its indexes even if the task did not run for a
+				// while
+				hashOperations.persist();
+			}
+			else {
+				long fiveMinutesAfterExpires = sessionExpireInSeconds + TimeUnit.MINUTES.toSeconds(5);
+				hashOperations.expire(fiveMinutesAfterExpires, TimeUnit.SECONDS);
+			}
 
 			RedisIndexedSessionRepository.this.expirationStore.save(this);
+			invalidateLoads(sessionId);
 			this.delta = new HashMap<>(this.delta.size());
 		}
 
@@ -976,13 +1182,16 @@ public class RedisIndexedSessionRepository
 				catch (NonTransientDataAccessException ex) {
 					handleErrNoSuchKeyError(ex);
 				}
-				String originalExpiredKey = getExpiredKey(this.originalSessionId);
-				String expiredKey = getExpiredKey(sessionId);
-				try {
-					RedisIndexedSessionRepository.this.sessionRedisOperations.rename(originalExpiredKey, expiredKey);
-				}
-				catch (NonTransientDataAccessException ex) {
-					handleErrNoSuchKeyError(ex);
+				if (RedisIndexedSessionRepository.this.shadowKeysEnabled) {
+					String originalExpiredKey = getExpiredKey(this.originalSessionId);
+					String expiredKey = getExpiredKey(sessionId);
+					try {
+						RedisIndexedSessionRepository.this.sessionRedisOperations.rename(originalExpiredKey,
+								expiredKey);
+					}
+					catch (NonTransientDataAccessException ex) {
+						handleErrNoSuchKeyError(ex);
+					}
 				}
 				if (this.originalPrincipalName != null) {
 					String originalPrincipalRedisKey = getPrincipalKey(this.originalPrincipalName);
@@ -992,6 +1201,7 @@ public class RedisIndexedSessionRepository
 						.add(sessionId);
 				}
 				RedisIndexedSessionRepository.this.expirationStore.remove(this.originalSessionId);
+				invalidateLoads(this.originalSessionId);
 			}
 			this.originalSessionId = sessionId;
 		}
@@ -1057,7 +1267,7 @@ public class RedisIndexedSessionRepository
 
 		@Override
 		public void cleanupExpiredSessions() {
-			long now = System.currentTimeMillis();
+			long now = RedisIndexedSessionRepository.this.clock.millis();
 			long prevMin = roundDownMinute(now);
 			String expirationKey = getExpirationKey(prevMin);
 			Set<Object> sessionsToExpire = this.redis.boundSetOps(expirationKey).members();
@@ -1101,4 +1311,197 @@ public class RedisIndexedSessionRepository
 
 	}
 
+	/**
+	 * A {@link RedisSessionExpirationStore} used when shadow keys are disabled. Each
+	 * session id is stored in a sorted set with its expiration time as score. The clean
+	 * up task claims expired session ids by removing them from the sorted set, so that
+	 * only one node deletes a session and publishes its {@link SessionExpiredEvent}.
+	 */
+	private final class ReaperRedisSessionExpirationStore implements RedisSessionExpirationStore {
+
+		private static final int CLEANUP_COUNT = 100;
+
+		private static final Duration CLAIM_DURATION = Duration.ofMinutes(5);
+
+		// @formatter:off
+		// moves the expiration of an expired session to the end of the claim, so that other
+		// instances skip it and it is retried if this instance fails to destroy it
+		private static final RedisScript<Long> CLAIM_SCRIPT = RedisScript.of(
+				"local expiration = redis.call('ZSCORE', KEYS[1], ARGV[1])\n"
+				+ "if not expiration or tonumber(expiration) > tonumber(ARGV[2]) then\n"
+				+ "  return 0\n"
+				+ "end\n"
+				+ "redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])\n"
+				+ "return 1\n", Long.class);
+
+		// deletes the session and publishes it, unless it was saved since it was read
+		private static final RedisScript<Long> DESTROY_SCRIPT = RedisScript.of(
+				"if ARGV[2] ~= '' and redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then\n"
+				+ "  return 0\n"
+				+ "end\n"
+				+ "redis.call('DEL', KEYS[1])\n"
+				+ "if ARGV[3] ~= '' then\n"
+				+ "  redis.call('PUBLISH', ARGV[3], ARGV[4])\n"
+				+ "end\n"
+				+ "return 1\n", Long.class);
+
+		// releases the claim, unless the session was saved again since it was claimed
+		private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+				"local expiration = redis.call('ZSCORE', KEYS[1], ARGV[1])\n"
+				+ "if expiration and tonumber(expiration) <= tonumber(ARGV[2]) then\n"
+				+ "  return redis.call('ZREM', KEYS[1], ARGV[1])\n"
+				+ "end\n"
+				+ "return 0\n", Long.class);
+		// @formatter:on
+
+		private static final RedisSerializer<Long> SCRIPT_RESULT_SERIALIZER = new GenericToStringSerializer<>(
+				Long.class);
+
+		@Override
+		public void save(RedisSession session) {
+			add(session.getId(), session);
+		}
+
+		@Override
+		public void remove(String sessionId) {
+			RedisIndexedSessionRepository.this.sessionRedisOperations.opsForZSet()
+				.remove(getExpirationsKey(), sessionId);
+		}
+
+		@Override
+		public void cleanupExpiredSessions() {
+			long now = RedisIndexedSessionRepository.this.clock.millis();
+			int count;
+			do {
+				count = cleanupExpiredSessions(now);
+			}
+			while (count >= CLEANUP_COUNT);
+		}
+
+		private int cleanupExpiredSessions(long expiredBefore) {
+			RedisOperations<String, Object> redis = RedisIndexedSessionRepository.this.sessionRedisOperations;
+			Set<Object> sessionIds = redis.opsForZSet()
+				.rangeByScore(getExpirationsKey(), 0, expiredBefore, 0, CLEANUP_COUNT);
+			if (CollectionUtils.isEmpty(sessionIds)) {
+				return 0;
+			}
+			long claimedUntil = expiredBefore + CLAIM_DURATION.toMillis();
+			for (Object sessionId : sessionIds) {
+				String id = (String) sessionId;
+				if (claim(id, expiredBefore, claimedUntil)) {
+					cleanupExpiredSession(id, claimedUntil);
+				}
+			}
+			return sessionIds.size();
+		}
+
+		private void cleanupExpiredSession(String sessionId, long claimedUntil) {
+			Map<String, Object> entries = getSessionBoundHashOperations(sessionId).entries();
+			if ((entries == null) || entries.isEmpty()) {
+				// already deleted together with its indexes
+				release(sessionId, claimedUntil);
+				return;
+			}
+			MapSession loaded = readSession(sessionId, entries);
+			if (loaded == null) {
+				// only partially written after it was deleted, so there is nothing to
+				// publish
+				destroy(sessionId, null, null);
+				release(sessionId, claimedUntil);
+				return;
+			}
+			if (!isExpired(loaded)) {
+				// accessed since it was scheduled for clean up
+				add(sessionId, loaded);
+				return;
+			}
+			RedisSession session = new RedisSession(loaded, false);
+			cleanupPrincipalIndex(session);
+			if (destroy(sessionId, entries.get(RedisSessionMapper.LAST_ACCESSED_TIME_KEY), entries)) {
+				release(sessionId, claimedUntil);
+			}
+			else {
+				// saved since it was read, so it is no longer expired
+				restorePrincipalIndex(session);
+			}
+		}
+
+		private MapSession readSession(String sessionId, Map<String, Object> entries) {
+			try {
+				return RedisIndexedSessionRepository.this.redisSessionMapper.apply(sessionId, entries);
+			}
+			catch (IllegalStateException ex) {
+				return null;
+			}
+		}
+
+		private void restorePrincipalIndex(RedisSession session) {
+			String principal = RedisIndexedSessionRepository.this.indexResolver.resolveIndexesFor(session)
+				.get(PRINCIPAL_NAME_INDEX_NAME);
+			if (principal != null) {
+				RedisIndexedSessionRepository.this.sessionRedisOperations.boundSetOps(getPrincipalKey(principal))
+					.add(session.getId());
+			}
+		}
+
+		private boolean claim(String sessionId, long expiredBefore, long claimedUntil) {
+			return execute(CLAIM_SCRIPT, getExpirationsKey(), string(sessionId), string(String.valueOf(expiredBefore)),
+					string(String.valueOf(claimedUntil)));
+		}
+
+		private void release(String sessionId, long claimedUntil) {
+			execute(RELEASE_SCRIPT, getExpirationsKey(), string(sessionId), string(String.valueOf(claimedUntil)));
+		}
+
+		@SuppressWarnings("unchecked")
+		private boolean destroy(String sessionId, Object lastAccessedTime, Map<String, Object> entries) {
+			RedisSerializer<Object> hashValueSerializer = (RedisSerializer<Object>) RedisIndexedSessionRepository.this.sessionRedisOperations
+				.getHashValueSerializer();
+			if (hashValueSerializer == null) {
+				hashValueSerializer = RedisIndexedSessionRepository.this.defaultSerializer;
+			}
+			byte[] expectedLastAccessedTime = (lastAccessedTime != null)
+					? hashValueSerializer.serialize(lastAccessedTime) : new byte[0];
+			byte[] channel = (entries != null)
+					? string(RedisIndexedSessionRepository.this.sessionExpiredChannelPrefix + sessionId) : new byte[0];
+			byte[] message = (entries != null) ? RedisIndexedSessionRepository.this.defaultSerializer.serialize(entries)
+					: new byte[0];
+			return execute(DESTROY_SCRIPT, getSessionKey(sessionId), string(RedisSessionMapper.LAST_ACCESSED_TIME_KEY),
+					expectedLastAccessedTime, channel, message);
+		}
+
+		private boolean execute(RedisScript<Long> script, String key, byte[]... args) {
+			Long result = RedisIndexedSessionRepository.this.sessionRedisOperations.execute(script,
+					RedisSerializer.byteArray(), SCRIPT_RESULT_SERIALIZER, Collections.singletonList(key),
+					(Object[]) args);
+			return result != null && result > 0;
+		}
+
+		private byte[] string(String value) {
+			return value.getBytes(StandardCharsets.UTF_8);
+		}
+
+		private boolean isExpired(Session session) {
+			Duration maxInactiveInterval = session.getMaxInactiveInterval();
+			if (maxInactiveInterval.isNegative()) {
+				return false;
+			}
+			Instant now = RedisIndexedSessionRepository.this.clock.instant();
+			return !now.minus(maxInactiveInterval).isBefore(session.getLastAccessedTime());
+		}
+
+		private void add(String sessionId, Session session) {
+			if (session.getMaxInactiveInterval().isNegative()) {
+				remove(sessionId);
+				return;
+			}
+			long expirationInMillis = session.getLastAccessedTime()
+				.plus(session.getMaxInactiveInterval())
+				.toEpochMilli();
+			RedisIndexedSessionRepository.this.sessionRedisOperations.opsForZSet()
+				.add(getExpirationsKey(), sessionId, expirationInMillis);
+		}
+
+	}
+
 }
@@ -63,6 +63,8 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 
 	private BiFunction<String, Map<String, Object>, MapSession> redisSessionMapper = new RedisSessionMapper();
 
+	private SingleFlightSessionLoader sessionLoader;
+
 	/**
 	 * Create a new {@link RedisSessionRepository} instance.
 	 * @param sessionRedisOperations the {@link RedisOperations} to use for managing
@@ -111,6 +113,22 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 		this.saveMode = saveMode;
 	}
 
+	/**
+	 * Set whether concurrent {@link #findById(String)} calls for the same session share a
+	 * single read from Redis. Only reads that started before the latest save of the
+	 * session completed are shared, and each caller receives its own copy of the loaded
+	 * session whose attribute values are copied with the hash value serializer of the
+	 * {@link RedisOperations}. The default is {@code false}.
+	 * @param loadCoalescingEnabled whether concurrent loads of the same session are
+	 * coalesced
+	 * @since 3.5
+	 */
+	public void setLoadCoalescingEnabled(boolean loadCoalescingEnabled) {
+		this.sessionLoader = loadCoalescingEnabled ? new SingleFlightSessionLoader(
+				SingleFlightSessionLoader.serializingCopier(this.sessionRedisOperations.getHashValueSerializer()))
+				: null;
+	}
+
 	@Override
 	public RedisSession createSession() {
 		MapSession cached = new MapSession(this.sessionIdGenerator);
@@ -134,6 +152,12 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 
 	@Override
 	public RedisSession findById(String sessionId) {
+		MapSession session = (this.sessionLoader != null) ? this.sessionLoader.load(sessionId, this::loadSession)
+				: loadSession(sessionId);
+		return (session != null) ? new RedisSession(session, false) : null;
+	}
+
+	private MapSession loadSession(String sessionId) {
 		String key = getSessionKey(sessionId);
 		Map<String, Object> entries = this.sessionRedisOperations.<String, Object>opsForHash().entries(key);
 		if (entries.isEmpty()) {
@@ -144,13 +168,20 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 			deleteById(sessionId);
 			return null;
 		}
-		return new RedisSession(session, false);
+		return session;
 	}
 
 	@Override
 	public void deleteById(String sessionId) {
 		String key = getSessionKey(sessionId);
 		this.sessionRedisOperations.delete(key);
+		invalidateLoads(sessionId);
+	}
+
+	private void invalidateLoads(String sessionId) {
+		if (this.sessionLoader != null) {
+			this.sessionLoader.invalidate(sessionId);
+		}
 	}
 
 	/**
@@ -291,6 +322,12 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 			return this.cached.isExpired();
 		}
 
+		@Override
+		public boolean hasChanges() {
+			int lastAccessedTimeChanges = this.delta.containsKey(RedisSessionMapper.LAST_ACCESSED_TIME_KEY) ? 1 : 0;
+			return this.isNew || hasChangedSessionId() || this.delta.size() > lastAccessedTimeChanges;
+		}
+
 		private void flushIfRequired() {
 			if (RedisSessionRepository.this.flushMode == FlushMode.IMMEDIATE) {
 				save();
@@ -315,6 +352,7 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 					String originalSessionIdKey = getSessionKey(this.originalSessionId);
 					String sessionIdKey = getSessionKey(getId());
 					RedisSessionRepository.this.sessionRedisOperations.rename(originalSessionIdKey, sessionIdKey);
+					invalidateLoads(this.originalSessionId);
 				}
 				this.originalSessionId = getId();
 			}
@@ -329,6 +367,7 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 			RedisSessionRepository.this.sessionRedisOperations.expireAt(key,
 					Instant.ofEpochMilli(getLastAccessedTime().toEpochMilli())
 						.plusSeconds(getMaxInactiveInterval().getSeconds()));
+			invalidateLoads(getId());
 			this.delta.clear();
 		}
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.MapSession;
+
+/**
+ * Lets concurrent loads of the same session share a single read from Redis.
+ * <p>
+ * A load only joins a read that is still in progress, and {@link #invalidate(String)}
+ * must be invoked after the session was written, so that a load that starts after a write
+ * completed never joins a read that started before it. If other callers joined a read,
+ * every caller receives its own deep copy of the loaded {@link MapSession}, with the
+ * attribute values copied by the given function, so that neither the session nor its
+ * attribute values are shared between callers.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+final class SingleFlightSessionLoader {
+
+	private final ConcurrentMap<String, Load> loads = new ConcurrentHashMap<>();
+
+	private final UnaryOperator<Object> attributeValueCopier;
+
+	/**
+	 * Create a new instance.
+	 * @param attributeValueCopier the function that copies mutable attribute values
+	 */
+	SingleFlightSessionLoader(UnaryOperator<Object> attributeValueCopier) {
+		this.attributeValueCopier = attributeValueCopier;
+	}
+
+	/**
+	 * Loads the session with the given id, joining a load of the same session that is
+	 * already in progress.
+	 * @param sessionId the session id
+	 * @param loader the function that loads the session from Redis, may return
+	 * {@code null}
+	 * @return the loaded session or {@code null} if it was not found
+	 */
+	MapSession load(String sessionId, Function<String, MapSession> loader) {
+		while (true) {
+			Load load = new Load();
+			Load inFlight = this.loads.putIfAbsent(sessionId, load);
+			if (inFlight == null) {
+				return loadAndShare(sessionId, loader, load);
+			}
+			if (inFlight.join()) {
+				MapSession loaded = join(inFlight.result);
+				return (loaded != null) ? copy(loaded, this.attributeValueCopier) : null;
+			}
+			// the load completed concurrently, start another one
+			this.loads.remove(sessionId, inFlight);
+		}
+	}
+
+	/**
+	 * Stops new loads of the given session from joining the read that is in progress.
+	 * Must be invoked after the session was written or deleted.
+	 * @param sessionId the session id
+	 */
+	void invalidate(String sessionId) {
+		this.loads.remove(sessionId);
+	}
+
+	private MapSession loadAndShare(String sessionId, Function<String, MapSession> loader, Load load) {
+		MapSession loaded;
+		try {
+			loaded = loader.apply(sessionId);
+			load.result.complete(loaded);
+		}
+		catch (Throwable ex) {
+			// complete on errors as well, otherwise the waiting callers never return
+			load.result.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.loads.remove(sessionId, load);
+		}
+		if (loaded == null || load.close()) {
+			// nobody else received the loaded session
+			return loaded;
+		}
+		return copy(loaded, this.attributeValueCopier);
+	}
+
+	/**
+	 * Create a deep copy of the given session that does not report any changes.
+	 * @param session the session to copy
+	 * @param attributeValueCopier the function that copies mutable attribute values
+	 * @return the copy
+	 */
+	static MapSession copy(MapSession session, UnaryOperator<Object> attributeValueCopier) {
+		MapSession copy = new MapSession(session.getId());
+		copy.setCreationTime(session.getCreationTime());
+		copy.setLastAccessedTime(session.getLastAccessedTime());
+		copy.setMaxInactiveInterval(session.getMaxInactiveInterval());
+		for (String attributeName : session.getAttributeNames()) {
+			Object value = session.getAttribute(attributeName);
+			copy.setAttribute(attributeName, isImmutable(value) ? value : attributeValueCopier.apply(value));
+		}
+		// copy again so that copying the attributes is not reported as a change
+		return new MapSession(copy);
+	}
+
+	/**
+	 * Create a function that copies attribute values by serializing and deserializing
+	 * them with the given serializer, or with Java serialization if it is {@code null}.
+	 * @param serializer the serializer that is used to write attribute values to Redis
+	 * @return the function that copies attribute values
+	 */
+	@SuppressWarnings("unchecked")
+	static UnaryOperator<Object> serializingCopier(RedisSerializer<?> serializer) {
+		RedisSerializer<Object> copier = (serializer != null) ? (RedisSerializer<Object>) serializer
+				: new JdkSerializationRedisSerializer();
+		return (value) -> copier.deserialize(copier.serialize(value));
+	}
+
+	private static boolean isImmutable(Object value) {
+		return value instanceof String || value instanceof Boolean || value instanceof Character
+				|| value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+				|| value instanceof Double || value instanceof Float || value instanceof Enum;
+	}
+
+	private static MapSession join(CompletableFuture<MapSession> load) {
+		try {
+			return load.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+	}
+
+	private static final class Load {
+
+		private final CompletableFuture<MapSession> result = new CompletableFuture<>();
+
+		// the number of callers that joined the load, or -1 once it no longer accepts
+		// callers
+		private final AtomicInteger joined = new AtomicInteger();
+
+		boolean join() {
+			int count;
+			do {
+				count = this.joined.get();
+				if (count < 0) {
+					return false;
+				}
+			}
+			while (!this.joined.compareAndSet(count, count + 1));
+			return true;
+		}
+
+		boolean close() {
+			return this.joined.compareAndSet(0, -1);
+		}
+
+	}
+
+}
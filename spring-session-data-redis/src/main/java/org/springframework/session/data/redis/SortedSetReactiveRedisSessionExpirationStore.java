@@ -16,7 +16,11 @@
 
 package org.springframework.session.data.redis;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -24,6 +28,14 @@ import reactor.core.publisher.Mono;
 import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.Limit;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -34,6 +46,25 @@ import org.springframework.util.Assert;
  */
 final class SortedSetReactiveRedisSessionExpirationStore {
 
+	// @formatter:off
+	private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of(
+			"local maxExpiration = tonumber(ARGV[1])\n"
+			+ "local removed = 0\n"
+			+ "for i = 2, #ARGV do\n"
+			+ "  local expiration = redis.call('ZSCORE', KEYS[1], ARGV[i])\n"
+			+ "  if expiration and tonumber(expiration) <= maxExpiration then\n"
+			+ "    removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])\n"
+			+ "  end\n"
+			+ "end\n"
+			+ "return removed\n", Long.class);
+	// @formatter:on
+
+	private static final RedisElementWriter<byte[]> SCRIPT_ARGS_WRITER = RedisElementWriter
+		.from(RedisSerializer.byteArray());
+
+	private static final RedisElementReader<Long> SCRIPT_RESULT_READER = RedisElementReader
+		.from(new GenericToStringSerializer<>(Long.class));
+
 	private final ReactiveRedisOperations<String, Object> sessionRedisOperations;
 
 	private String namespace;
@@ -68,24 +99,63 @@ final class SortedSetReactiveRedisSessionExpirationStore {
 		return this.sessionRedisOperations.opsForZSet().remove(getExpirationsKey(), sessionId).then();
 	}
 
+	/**
+	 * Remove the session ids from the sorted set using a single script, unless their
+	 * expiration time is now later than {@code maxExpiration}. This keeps the entries of
+	 * sessions that were saved again since they were retrieved.
+	 * @param sessionIds the session ids
+	 * @param maxExpiration the highest expiration time of the session ids when they were
+	 * retrieved
+	 * @return a {@link Mono} that completes when the operation completes
+	 */
+	Mono<Void> remove(Collection<String> sessionIds, double maxExpiration) {
+		if (sessionIds.isEmpty()) {
+			return Mono.empty();
+		}
+		RedisSerializationContext.SerializationPair<Object> valueSerializationPair = this.sessionRedisOperations
+			.getSerializationContext()
+			.getValueSerializationPair();
+		List<byte[]> args = new ArrayList<>(sessionIds.size() + 1);
+		args.add(String.valueOf(maxExpiration).getBytes(StandardCharsets.UTF_8));
+		for (String sessionId : sessionIds) {
+			args.add(ByteUtils.getBytes(valueSerializationPair.write(sessionId)));
+		}
+		return this.sessionRedisOperations
+			.execute(REMOVE_SCRIPT, List.of(getExpirationsKey()), args, SCRIPT_ARGS_WRITER, SCRIPT_RESULT_READER)
+			.then();
+	}
+
 	/**
 	 * Retrieve the session ids that have the expiration time less than the value passed
-	 * in {@code expiredBefore}.
+	 * in {@code expiredBefore}, together with their expiration time.
 	 * @param expiredBefore the expiration time
-	 * @return a {@link Flux} that emits the session ids
+	 * @return a {@link Flux} that emits the session ids and their expiration time
 	 */
-	Flux<String> retrieveExpiredSessions(Instant expiredBefore) {
+	Flux<TypedTuple<Object>> retrieveExpiredSessions(Instant expiredBefore) {
 		Range<Double> range = Range.closed(0D, (double) expiredBefore.toEpochMilli());
 		Limit limit = Limit.limit().count(this.retrieveCount);
 		return this.sessionRedisOperations.opsForZSet()
-			.reverseRangeByScore(getExpirationsKey(), range, limit)
-			.cast(String.class);
+			.reverseRangeByScoreWithScores(getExpirationsKey(), range, limit);
 	}
 
-	private String getExpirationsKey() {
+	String getExpirationsKey() {
 		return this.namespace + "sessions:expirations";
 	}
 
+	/**
+	 * Set the maximum number of session ids returned by
+	 * {@link #retrieveExpiredSessions(Instant)}.
+	 * @param retrieveCount the maximum number of session ids
+	 */
+	void setRetrieveCount(int retrieveCount) {
+		Assert.isTrue(retrieveCount > 0, "retrieveCount must be greater than 0");
+		this.retrieveCount = retrieveCount;
+	}
+
+	int getRetrieveCount() {
+		return this.retrieveCount;
+	}
+
 	/**
 	 * Set the namespace for the keys used by this class.
 	 * @param namespace the namespace
@@ -108,4 +108,15 @@ public @interface EnableRedisIndexedHttpSession {
 	 */
 	String cleanupCron() default RedisIndexedSessionRepository.DEFAULT_CLEANUP_CRON;
 
+	/**
+	 * Whether a shadow expires key is written for each session in order to rely on Redis
+	 * keyspace notifications for session destroyed events. When set to {@code false},
+	 * session expirations are tracked in a single sorted set and the expired session
+	 * cleanup job publishes the events itself, which reduces the number of keys and
+	 * commands per session. Defaults to {@code true}.
+	 * @return whether shadow expires keys are written
+	 * @since 3.5
+	 */
+	boolean shadowKeysEnabled() default true;
+
 }
@@ -71,6 +71,8 @@ public class RedisIndexedHttpSessionConfiguration
 
 	private String cleanupCron = RedisIndexedSessionRepository.DEFAULT_CLEANUP_CRON;
 
+	private boolean shadowKeysEnabled = true;
+
 	private ConfigureRedisAction configureRedisAction = new ConfigureNotifyKeyspaceEventsAction();
 
 	private IndexResolver<Session> indexResolver;
@@ -109,6 +111,9 @@ public class RedisIndexedHttpSessionConfiguration
 		int database = resolveDatabase();
 		sessionRepository.setDatabase(database);
 		sessionRepository.setSessionIdGenerator(this.sessionIdGenerator);
+		if (!this.shadowKeysEnabled) {
+			sessionRepository.setShadowKeysEnabled(false);
+		}
 		if (this.expirationStore != null) {
 			sessionRepository.setExpirationStore(this.expirationStore);
 		}
@@ -133,18 +138,37 @@ public class RedisIndexedHttpSessionConfiguration
 						new ChannelTopic(sessionRepository.getSessionExpiredChannel())));
 		container.addMessageListener(sessionRepository,
 				Collections.singletonList(new PatternTopic(sessionRepository.getSessionCreatedChannelPrefix() + "*")));
+		if (!this.shadowKeysEnabled) {
+			container.addMessageListener(sessionRepository,
+					Arrays.asList(new PatternTopic(sessionRepository.getSessionDeletedChannelPrefix() + "*"),
+							new PatternTopic(sessionRepository.getSessionExpiredChannelPrefix() + "*")));
+		}
 		return container;
 	}
 
 	@Bean
 	public InitializingBean enableRedisKeyspaceNotificationsInitializer() {
-		return new EnableRedisKeyspaceNotificationsInitializer(getRedisConnectionFactory(), this.configureRedisAction);
+		ConfigureRedisAction configureRedisAction = this.shadowKeysEnabled ? this.configureRedisAction
+				: ConfigureRedisAction.NO_OP;
+		return new EnableRedisKeyspaceNotificationsInitializer(getRedisConnectionFactory(), configureRedisAction);
 	}
 
 	public void setCleanupCron(String cleanupCron) {
 		this.cleanupCron = cleanupCron;
 	}
 
+	/**
+	 * Sets whether shadow expires keys are written for each session. When disabled,
+	 * keyspace notifications are not configured since the session repository publishes
+	 * {@link org.springframework.session.events.SessionDestroyedEvent}s itself.
+	 * @param shadowKeysEnabled whether shadow expires keys are written
+	 * @since 3.5
+	 * @see RedisIndexedSessionRepository#setShadowKeysEnabled(boolean)
+	 */
+	public void setShadowKeysEnabled(boolean shadowKeysEnabled) {
+		this.shadowKeysEnabled = shadowKeysEnabled;
+	}
+
 	/**
 	 * Sets the action to perform for configuring Redis.
 	 * @param configureRedisAction the configureRedis to set. The default is
@@ -206,6 +230,7 @@ public class RedisIndexedHttpSessionConfiguration
 		if (StringUtils.hasText(cleanupCron)) {
 			setCleanupCron(cleanupCron);
 		}
+		setShadowKeysEnabled(attributes.getBoolean("shadowKeysEnabled"));
 	}
 
 	private int resolveDatabase() {
@@ -86,4 +86,29 @@ public @interface EnableRedisIndexedWebSession {
 	 */
 	SaveMode saveMode() default SaveMode.ON_SET_ATTRIBUTE;
 
+	/**
+	 * The maximum number of expired sessions that the clean-up task fetches per page. By
+	 * default, it is set to 100.
+	 * @return the page size of the clean-up task
+	 * @since 3.5
+	 */
+	int cleanupBatchSize() default ReactiveRedisIndexedSessionRepository.DEFAULT_CLEANUP_BATCH_SIZE;
+
+	/**
+	 * The maximum number of expired sessions that the clean-up task processes
+	 * concurrently. By default, it is set to 16.
+	 * @return the concurrency of the clean-up task
+	 * @since 3.5
+	 */
+	int cleanupConcurrency() default ReactiveRedisIndexedSessionRepository.DEFAULT_CLEANUP_CONCURRENCY;
+
+	/**
+	 * The time in seconds a single run of the clean-up task keeps fetching pages of
+	 * expired sessions while full pages are returned. By default, it is set to 30
+	 * seconds. Zero means that a single page is fetched per run.
+	 * @return the time budget of the clean-up task in seconds
+	 * @since 3.5
+	 */
+	int cleanupTimeBudgetInSeconds() default ReactiveRedisIndexedSessionRepository.DEFAULT_CLEANUP_TIME_BUDGET_SECONDS;
+
 }
@@ -72,6 +72,13 @@ public class RedisIndexedWebSessionConfiguration
 
 	private IndexResolver<Session> indexResolver;
 
+	private int cleanupBatchSize = ReactiveRedisIndexedSessionRepository.DEFAULT_CLEANUP_BATCH_SIZE;
+
+	private int cleanupConcurrency = ReactiveRedisIndexedSessionRepository.DEFAULT_CLEANUP_CONCURRENCY;
+
+	private Duration cleanupTimeBudget = Duration
+		.ofSeconds(ReactiveRedisIndexedSessionRepository.DEFAULT_CLEANUP_TIME_BUDGET_SECONDS);
+
 	static {
 		ClassLoader classLoader = RedisIndexedWebSessionConfiguration.class.getClassLoader();
 		lettucePresent = ClassUtils.isPresent("io.lettuce.core.RedisClient", classLoader);
@@ -96,6 +103,9 @@ public class RedisIndexedWebSessionConfiguration
 		sessionRepository.setDatabase(database);
 		sessionRepository.setSaveMode(getSaveMode());
 		sessionRepository.setSessionIdGenerator(getSessionIdGenerator());
+		sessionRepository.setCleanupBatchSize(this.cleanupBatchSize);
+		sessionRepository.setCleanupConcurrency(this.cleanupConcurrency);
+		sessionRepository.setCleanupTimeBudget(this.cleanupTimeBudget);
 		if (getSessionRepositoryCustomizers() != null) {
 			getSessionRepositoryCustomizers().forEach((customizer) -> customizer.customize(sessionRepository));
 		}
@@ -131,6 +141,18 @@ public class RedisIndexedWebSessionConfiguration
 		this.indexResolver = indexResolver;
 	}
 
+	public void setCleanupBatchSize(int cleanupBatchSize) {
+		this.cleanupBatchSize = cleanupBatchSize;
+	}
+
+	public void setCleanupConcurrency(int cleanupConcurrency) {
+		this.cleanupConcurrency = cleanupConcurrency;
+	}
+
+	public void setCleanupTimeBudget(Duration cleanupTimeBudget) {
+		this.cleanupTimeBudget = cleanupTimeBudget;
+	}
+
 	@Override
 	public void setEmbeddedValueResolver(StringValueResolver resolver) {
 		this.embeddedValueResolver = resolver;
@@ -150,6 +172,9 @@ public class RedisIndexedWebSessionConfiguration
 			setRedisNamespace(this.embeddedValueResolver.resolveStringValue(redisNamespaceValue));
 		}
 		setSaveMode(attributes.getEnum("saveMode"));
+		setCleanupBatchSize(attributes.<Integer>getNumber("cleanupBatchSize"));
+		setCleanupConcurrency(attributes.<Integer>getNumber("cleanupConcurrency"));
+		setCleanupTimeBudget(Duration.ofSeconds(attributes.<Integer>getNumber("cleanupTimeBudgetInSeconds")));
 	}
 
 	private int resolveDatabase() {
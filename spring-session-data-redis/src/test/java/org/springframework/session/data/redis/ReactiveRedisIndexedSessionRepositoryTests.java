@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.session.MapSession;
+import org.springframework.session.data.redis.ReactiveRedisIndexedSessionRepository.RedisSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link ReactiveRedisIndexedSessionRepository}.
+ *
+ * @author agent (agent@local)
+ */
+class ReactiveRedisIndexedSessionRepositoryTests {
+
+	@SuppressWarnings("unchecked")
+	private ReactiveRedisOperations<String, Object> redisOperations = mock(ReactiveRedisOperations.class);
+
+	@SuppressWarnings("unchecked")
+	private ReactiveRedisTemplate<String, String> keyEventsOperations = mock(ReactiveRedisTemplate.class);
+
+	private ReactiveRedisIndexedSessionRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		this.repository = new ReactiveRedisIndexedSessionRepository(this.redisOperations, this.keyEventsOperations);
+	}
+
+	@Test
+	void hasChangesWhenNewSessionThenTrue() {
+		RedisSession session = this.repository.new RedisSession(new MapSession(), true);
+		assertThat(session.hasChanges()).isTrue();
+	}
+
+	@Test
+	void hasChangesWhenOnlyLastAccessedTimeUpdatedThenFalse() {
+		RedisSession session = this.repository.new RedisSession(new MapSession(), false);
+		session.setLastAccessedTime(Instant.now());
+		assertThat(session.hasChanges()).isFalse();
+	}
+
+	@Test
+	void hasChangesWhenAttributeSetThenTrue() {
+		RedisSession session = this.repository.new RedisSession(new MapSession(), false);
+		session.setAttribute("attribute1", "value1");
+		assertThat(session.hasChanges()).isTrue();
+	}
+
+	@Test
+	void hasChangesWhenSessionIdChangedThenTrue() {
+		RedisSession session = this.repository.new RedisSession(new MapSession(), false);
+		session.changeSessionId();
+		assertThat(session.hasChanges()).isTrue();
+	}
+
+}
@@ -37,6 +37,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -92,7 +93,7 @@ class ReactiveRedisSessionIndexerTests {
 		given(session.getAttribute(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME))
 			.willReturn("user");
 		given(session.getId()).willReturn("1234");
-		given(this.sessionRedisOperations.opsForSet().members(anyString())).willReturn(Flux.empty());
+		given(session.hasKnownIndexes()).willReturn(true);
 		given(this.sessionRedisOperations.opsForSet().add(anyString(), anyString())).willReturn(Mono.just(1L));
 		this.indexer.update(session).block();
 		verify(this.sessionRedisOperations.opsForSet()).add(this.indexKeyPrefix + "PRINCIPAL_NAME_INDEX_NAME:user",
@@ -101,17 +102,17 @@ class ReactiveRedisSessionIndexerTests {
 
 	@Test
 	void updateWhenSessionIndexesSavedWithSameValueThenDoesNotUpdate() {
-		String indexKey = this.indexKeyPrefix + ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME
-				+ ":user";
 		RedisSession session = mock();
 		given(session.getAttribute(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME))
 			.willReturn("user");
 		given(session.getId()).willReturn("1234");
-		given(this.sessionRedisOperations.opsForSet().members(anyString()))
-			.willReturn(Flux.fromIterable(List.of(indexKey)));
+		given(session.getIndexes())
+			.willReturn(Map.of(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "user"));
 		this.indexer.update(session).block();
+		verify(this.sessionRedisOperations.opsForSet(), never()).members(anyString());
 		verify(this.sessionRedisOperations.opsForSet(), never()).add(anyString(), anyString());
 		verify(this.sessionRedisOperations.opsForSet(), never()).remove(anyString(), anyString());
+		verify(session, never()).setIndexes(any());
 	}
 
 	@Test
@@ -122,15 +123,61 @@ class ReactiveRedisSessionIndexerTests {
 		given(session.getAttribute(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME))
 			.willReturn("newuser");
 		given(session.getId()).willReturn("1234");
+		given(session.getIndexes())
+			.willReturn(Map.of(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "user"));
+		given(session.hasKnownIndexes()).willReturn(true);
+		given(this.sessionRedisOperations.opsForSet().add(anyString(), anyString())).willReturn(Mono.just(1L));
+		given(this.sessionRedisOperations.opsForSet().remove(anyString(), anyString())).willReturn(Mono.just(1L));
+		this.indexer.update(session).block();
+		verify(this.sessionRedisOperations.opsForSet()).add(
+				this.indexKeyPrefix + ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME + ":newuser",
+				"1234");
+		verify(this.sessionRedisOperations.opsForSet()).remove(indexKey, "1234");
+		verify(this.sessionRedisOperations.opsForSet(), never()).members(anyString());
+		verify(session)
+			.setIndexes(Map.of(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "newuser"));
+	}
+
+	@Test
+	void updateWhenLoadedSessionIndexChangedThenUpdatesAgainstStoredIndexes() {
+		String storedIndexKey = this.indexKeyPrefix + ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME
+				+ ":stored";
+		RedisSession session = mock();
+		given(session.getAttribute(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME))
+			.willReturn("newuser");
+		given(session.getId()).willReturn("1234");
+		given(session.getIndexes())
+			.willReturn(Map.of(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "user"));
 		given(this.sessionRedisOperations.opsForSet().members(anyString()))
-			.willReturn(Flux.fromIterable(List.of(indexKey)));
+			.willReturn(Flux.just(storedIndexKey, this.indexKeyPrefix + "test:testvalue"));
 		given(this.sessionRedisOperations.opsForSet().add(anyString(), anyString())).willReturn(Mono.just(1L));
 		given(this.sessionRedisOperations.opsForSet().remove(anyString(), anyString())).willReturn(Mono.just(1L));
 		this.indexer.update(session).block();
+		verify(this.sessionRedisOperations.opsForSet()).members(this.indexer.getSessionIndexesKey("1234"));
+		verify(this.sessionRedisOperations.opsForSet()).remove(storedIndexKey, "1234");
+		verify(this.sessionRedisOperations.opsForSet()).remove(this.indexKeyPrefix + "test:testvalue", "1234");
 		verify(this.sessionRedisOperations.opsForSet()).add(
 				this.indexKeyPrefix + ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME + ":newuser",
 				"1234");
+		verify(session)
+			.setIndexes(Map.of(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "newuser"));
+	}
+
+	@Test
+	void updateWhenIndexNoLongerResolvedThenRemoves() {
+		String indexKey = this.indexKeyPrefix + ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME
+				+ ":user";
+		RedisSession session = mock();
+		given(session.getId()).willReturn("1234");
+		given(session.getIndexes())
+			.willReturn(Map.of(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "user"));
+		given(session.hasKnownIndexes()).willReturn(true);
+		given(this.sessionRedisOperations.opsForSet().remove(anyString(), anyString())).willReturn(Mono.just(1L));
+		this.indexer.update(session).block();
 		verify(this.sessionRedisOperations.opsForSet()).remove(indexKey, "1234");
+		verify(this.sessionRedisOperations.opsForSet()).remove(this.indexer.getSessionIndexesKey("1234"), indexKey);
+		verify(this.sessionRedisOperations.opsForSet(), never()).add(anyString(), anyString());
+		verify(session).setIndexes(Map.of());
 	}
 
 	@Test
@@ -144,7 +191,7 @@ class ReactiveRedisSessionIndexerTests {
 			.willReturn("user");
 		given(session.getAttribute("test")).willReturn("testvalue");
 		given(session.getId()).willReturn("1234");
-		given(this.sessionRedisOperations.opsForSet().members(anyString())).willReturn(Flux.empty());
+		given(session.hasKnownIndexes()).willReturn(true);
 		given(this.sessionRedisOperations.opsForSet().add(anyString(), anyString())).willReturn(Mono.just(1L));
 		this.indexer.update(session).block();
 		verify(this.sessionRedisOperations.opsForSet()).add(this.indexKeyPrefix + "PRINCIPAL_NAME_INDEX_NAME:user",
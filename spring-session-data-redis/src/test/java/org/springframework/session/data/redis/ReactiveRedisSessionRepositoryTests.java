@@ -21,12 +21,14 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import org.springframework.data.redis.core.ReactiveHashOperations;
@@ -42,6 +44,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -478,6 +481,86 @@ class ReactiveRedisSessionRepositoryTests {
 		}).verifyComplete();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void findByIdWhenLoadCoalescingEnabledThenConcurrentFindsShareRead() {
+		this.repository.setLoadCoalescingEnabled(true);
+		given(this.redisOperations.opsForHash()).willReturn(this.hashOperations);
+		Map map = map(RedisSessionMapper.ATTRIBUTE_PREFIX + "attribute1", "value1",
+				RedisSessionMapper.CREATION_TIME_KEY, Instant.now().toEpochMilli(),
+				RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS,
+				RedisSessionMapper.LAST_ACCESSED_TIME_KEY, Instant.now().toEpochMilli());
+		given(this.hashOperations.entries(anyString()))
+			.willReturn(Flux.fromIterable(map.entrySet()).delaySubscription(Duration.ofMillis(50)));
+
+		StepVerifier.create(Mono.zip(this.repository.findById("test"), this.repository.findById("test")))
+			.consumeNextWith((sessions) -> {
+				assertThat(sessions.getT1()).isNotSameAs(sessions.getT2());
+				sessions.getT1().setAttribute("attribute1", "value2");
+				assertThat(sessions.getT2().<String>getAttribute("attribute1")).isEqualTo("value1");
+			})
+			.verifyComplete();
+		verify(this.hashOperations).entries(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findByIdWhenDeletedDuringLoadThenDoesNotJoinLoad() {
+		this.repository.setLoadCoalescingEnabled(true);
+		given(this.redisOperations.opsForHash()).willReturn(this.hashOperations);
+		given(this.redisOperations.delete(anyString())).willReturn(Mono.just(1L));
+		Sinks.Many<Map.Entry<Object, Object>> staleRead = Sinks.many().unicast().onBackpressureBuffer();
+		given(this.hashOperations.entries(anyString())).willReturn(staleRead.asFlux(), Flux.empty());
+
+		CompletableFuture<RedisSession> stale = this.repository.findById("test").toFuture();
+		StepVerifier.create(this.repository.deleteById("test")).verifyComplete();
+		StepVerifier.create(this.repository.findById("test")).verifyComplete();
+		staleRead.tryEmitComplete();
+
+		assertThat(stale.join()).isNull();
+		verify(this.hashOperations, times(2)).entries(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findByIdWhenOnlyLastAccessedTimeUpdatedThenHasNoChanges() {
+		given(this.redisOperations.opsForHash()).willReturn(this.hashOperations);
+		Map map = map(RedisSessionMapper.ATTRIBUTE_PREFIX + "attribute1", "value1",
+				RedisSessionMapper.CREATION_TIME_KEY, Instant.now().toEpochMilli(),
+				RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS,
+				RedisSessionMapper.LAST_ACCESSED_TIME_KEY, Instant.now().toEpochMilli());
+		given(this.hashOperations.entries(anyString())).willReturn(Flux.fromIterable(map.entrySet()));
+
+		StepVerifier.create(this.repository.findById("test")).consumeNextWith((session) -> {
+			assertThat(session.hasChanges()).isFalse();
+			session.setLastAccessedTime(Instant.now());
+			assertThat(session.hasChanges()).isFalse();
+			session.setAttribute("attribute1", "value2");
+			assertThat(session.hasChanges()).isTrue();
+		}).verifyComplete();
+	}
+
+	@Test
+	void hasChangesWhenSessionIdChangedThenTrue() {
+		RedisSession session = this.repository.new RedisSession(this.cached, false);
+		assertThat(session.hasChanges()).isFalse();
+		session.changeSessionId();
+		assertThat(session.hasChanges()).isTrue();
+	}
+
+	@Test
+	void hasChangesWhenNewSessionSavedThenFalse() {
+		given(this.redisOperations.opsForHash()).willReturn(this.hashOperations);
+		given(this.hashOperations.putAll(anyString(), any())).willReturn(Mono.just(true));
+		given(this.redisOperations.expire(anyString(), any())).willReturn(Mono.just(true));
+		RedisSession session = this.repository.new RedisSession(new MapSession(), true);
+		assertThat(session.hasChanges()).isTrue();
+
+		StepVerifier.create(this.repository.save(session)).verifyComplete();
+
+		assertThat(session.hasChanges()).isFalse();
+	}
+
 	private Map<String, Object> map(Object... objects) {
 		Map<String, Object> result = new HashMap<>();
 		if (objects == null) {
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import org.springframework.session.MapSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReactiveSingleFlightSessionLoader}.
+ *
+ * @author agent (agent@local)
+ */
+class ReactiveSingleFlightSessionLoaderTests {
+
+	private static final String SESSION_ID = "session-id";
+
+	private final ReactiveSingleFlightSessionLoader loader = new ReactiveSingleFlightSessionLoader(
+			ReactiveSingleFlightSessionLoader.serializingCopier(null));
+
+	@Test
+	void loadWhenConcurrentThenLoadsOnceAndReturnsCopies() {
+		AtomicInteger loads = new AtomicInteger();
+		Sinks.One<MapSession> sink = Sinks.one();
+		CompletableFuture<MapSession> first = this.loader.load(SESSION_ID, (id) -> {
+			loads.incrementAndGet();
+			return sink.asMono();
+		}).toFuture();
+		CompletableFuture<MapSession> second = this.loader.load(SESSION_ID, (id) -> {
+			loads.incrementAndGet();
+			return Mono.just(new MapSession(id));
+		}).toFuture();
+		MapSession loaded = new MapSession(SESSION_ID);
+		loaded.setAttribute("a", "b");
+		loaded.setAttribute("list", new ArrayList<>(List.of("b")));
+		sink.tryEmitValue(loaded);
+
+		assertThat(loads).hasValue(1);
+		assertThat(first.join()).isNotSameAs(loaded).isNotSameAs(second.join());
+		first.join().setAttribute("a", "c");
+		first.join().<List<String>>getAttribute("list").add("c");
+		assertThat(second.join().<String>getAttribute("a")).isEqualTo("b");
+		assertThat(second.join().<List<String>>getAttribute("list")).containsExactly("b");
+	}
+
+	@Test
+	void loadWhenNotConcurrentThenReturnsLoadedSession() {
+		MapSession loaded = new MapSession(SESSION_ID);
+		StepVerifier.create(this.loader.load(SESSION_ID, (id) -> Mono.just(loaded)))
+			.expectNextMatches((session) -> session == loaded)
+			.verifyComplete();
+	}
+
+	@Test
+	void loadWhenInvalidatedDuringLoadThenDoesNotJoin() {
+		AtomicInteger loads = new AtomicInteger();
+		Sinks.One<MapSession> sink = Sinks.one();
+		CompletableFuture<MapSession> first = this.loader.load(SESSION_ID, (id) -> {
+			loads.incrementAndGet();
+			return sink.asMono();
+		}).toFuture();
+		this.loader.invalidate(SESSION_ID);
+		MapSession reloaded = new MapSession(SESSION_ID);
+		StepVerifier.create(this.loader.load(SESSION_ID, (id) -> {
+			loads.incrementAndGet();
+			return Mono.just(reloaded);
+		})).expectNextMatches((session) -> session == reloaded).verifyComplete();
+		sink.tryEmitValue(new MapSession(SESSION_ID));
+
+		assertThat(loads).hasValue(2);
+		assertThat(first.join()).isNotSameAs(reloaded);
+	}
+
+	@Test
+	void loadWhenCompletedThenNextLoadReadsAgain() {
+		AtomicInteger loads = new AtomicInteger();
+		for (int i = 0; i < 2; i++) {
+			StepVerifier.create(this.loader.load(SESSION_ID, (id) -> {
+				loads.incrementAndGet();
+				return Mono.just(new MapSession(id));
+			})).expectNextCount(1).verifyComplete();
+		}
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void loadWhenNotFoundThenEmpty() {
+		StepVerifier.create(this.loader.load(SESSION_ID, (id) -> Mono.empty())).verifyComplete();
+	}
+
+	@Test
+	void loadWhenLoaderFailsThenErrorAndNextLoadRetries() {
+		StepVerifier.create(this.loader.load(SESSION_ID, (id) -> Mono.error(new IllegalStateException("failed"))))
+			.verifyErrorMessage("failed");
+		StepVerifier.create(this.loader.load(SESSION_ID, (id) -> Mono.just(new MapSession(id))))
+			.expectNextCount(1)
+			.verifyComplete();
+	}
+
+}
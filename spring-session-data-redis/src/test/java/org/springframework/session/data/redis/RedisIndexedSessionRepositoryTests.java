@@ -17,8 +17,10 @@
 package org.springframework.session.data.redis;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
@@ -42,6 +44,8 @@ import org.springframework.data.redis.core.BoundHashOperations;
 import org.springframework.data.redis.core.BoundSetOperations;
 import org.springframework.data.redis.core.BoundValueOperations;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -52,15 +56,20 @@ import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
 import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
 import org.springframework.session.events.AbstractSessionEvent;
+import org.springframework.session.events.SessionDeletedEvent;
+import org.springframework.session.events.SessionExpiredEvent;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -82,6 +91,9 @@ class RedisIndexedSessionRepositoryTests {
 	@Mock
 	private BoundSetOperations<String, Object> boundSetOperations;
 
+	@Mock
+	private ZSetOperations<String, Object> zSetOperations;
+
 	@Mock
 	private ApplicationEventPublisher publisher;
 
@@ -960,10 +972,296 @@ class RedisIndexedSessionRepositoryTests {
 		assertThat(newSessionId).isEqualTo("test");
 	}
 
+	@Test
+	void saveNewSessionWhenShadowKeysDisabledThenTracksExpirationInSortedSet() {
+		this.redisRepository.setShadowKeysEnabled(false);
+		RedisSession session = this.redisRepository.createSession();
+		given(this.redisOperations.<String, Object>boundHashOps(anyString())).willReturn(this.boundHashOperations);
+		given(this.redisOperations.opsForZSet()).willReturn(this.zSetOperations);
+
+		this.redisRepository.save(session);
+
+		long expiration = session.getLastAccessedTime().plus(session.getMaxInactiveInterval()).toEpochMilli();
+		verify(this.boundHashOperations).persist();
+		verify(this.boundHashOperations, never()).expire(anyLong(), any(TimeUnit.class));
+		verify(this.zSetOperations).add("spring:session:sessions:expirations", session.getId(), expiration);
+		verify(this.redisOperations, never()).boundValueOps(anyString());
+		verify(this.redisOperations, never()).boundSetOps(anyString());
+	}
+
+	@Test
+	void changeSessionIdWhenShadowKeysDisabledThenRenamesSessionOnly() {
+		this.redisRepository.setShadowKeysEnabled(false);
+		given(this.redisOperations.<String, Object>boundHashOps(anyString())).willReturn(this.boundHashOperations);
+		given(this.redisOperations.opsForZSet()).willReturn(this.zSetOperations);
+		RedisSession session = this.redisRepository.new RedisSession(this.cached, false);
+		session.setLastAccessedTime(session.getLastAccessedTime());
+		String changeSessionId = session.changeSessionId();
+
+		this.redisRepository.save(session);
+
+		verify(this.redisOperations).rename(getKey("session-id"), getKey(changeSessionId));
+		verify(this.redisOperations, times(1)).rename(anyString(), anyString());
+		verify(this.zSetOperations).remove("spring:session:sessions:expirations", "session-id");
+	}
+
+	@Test
+	void deleteByIdWhenShadowKeysDisabledThenPublishesDeletedSession() {
+		this.redisRepository.setShadowKeysEnabled(false);
+		String deletedId = "deleted-id";
+		given(this.redisOperations.<String, Object>boundHashOps(getKey(deletedId)))
+			.willReturn(this.boundHashOperations);
+		given(this.redisOperations.opsForZSet()).willReturn(this.zSetOperations);
+		Map<String, Object> map = map(RedisSessionMapper.CREATION_TIME_KEY, Instant.EPOCH.toEpochMilli(),
+				RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 1800, RedisSessionMapper.LAST_ACCESSED_TIME_KEY,
+				System.currentTimeMillis());
+		given(this.boundHashOperations.entries()).willReturn(map);
+
+		this.redisRepository.deleteById(deletedId);
+
+		verify(this.zSetOperations).remove("spring:session:sessions:expirations", deletedId);
+		verify(this.redisOperations).delete(getKey(deletedId));
+		verify(this.redisOperations).convertAndSend("spring:session:event:0:deleted:" + deletedId, map);
+		verify(this.redisOperations, never()).boundValueOps(anyString());
+	}
+
+	@Test
+	void cleanupExpiredSessionsWhenShadowKeysDisabledThenPublishesExpiredSession() {
+		this.redisRepository.setShadowKeysEnabled(false);
+		String expiredId = "expired-id";
+		String expirationsKey = "spring:session:sessions:expirations";
+		given(this.redisOperations.opsForZSet()).willReturn(this.zSetOperations);
+		given(this.zSetOperations.rangeByScore(eq(expirationsKey), eq(0.0), anyDouble(), eq(0L), eq(100L)))
+			.willReturn(Collections.singleton(expiredId));
+		givenScript("ZADD", 1L);
+		givenScript("DEL", 1L);
+		givenScript("ZREM", 1L);
+		given(this.redisOperations.<String, Object>boundHashOps(getKey(expiredId)))
+			.willReturn(this.boundHashOperations);
+		given(this.redisOperations.<String, Object>boundSetOps(anyString())).willReturn(this.boundSetOperations);
+		Map<String, Object> map = map(RedisSessionMapper.CREATION_TIME_KEY, Instant.EPOCH.toEpochMilli(),
+				RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 1, RedisSessionMapper.LAST_ACCESSED_TIME_KEY,
+				System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(5),
+				RedisSessionMapper.ATTRIBUTE_PREFIX + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME,
+				"principal");
+		given(this.boundHashOperations.entries()).willReturn(map);
+
+		this.redisRepository.cleanUpExpiredSessions();
+
+		verify(this.boundSetOperations).remove(expiredId);
+		verify(this.redisOperations).execute(script("DEL"), any(), any(),
+				eq(Collections.singletonList(getKey(expiredId))), any(Object[].class));
+		verify(this.redisOperations).execute(script("ZREM"), any(), any(),
+				eq(Collections.singletonList(expirationsKey)), any(Object[].class));
+		verify(this.redisOperations, never()).delete(anyString());
+	}
+
+	@Test
+	void cleanupExpiredSessionsWhenShadowKeysDisabledAndSavedWhileCleaningUpThenKeepsSession() {
+		this.redisRepository.setShadowKeysEnabled(false);
+		String expiredId = "expired-id";
+		String expirationsKey = "spring:session:sessions:expirations";
+		given(this.redisOperations.opsForZSet()).willReturn(this.zSetOperations);
+		given(this.zSetOperations.rangeByScore(eq(expirationsKey), eq(0.0), anyDouble(), eq(0L), eq(100L)))
+			.willReturn(Collections.singleton(expiredId));
+		givenScript("ZADD", 1L);
+		givenScript("DEL", 0L);
+		given(this.redisOperations.<String, Object>boundHashOps(getKey(expiredId)))
+			.willReturn(this.boundHashOperations);
+		given(this.redisOperations.<String, Object>boundSetOps(anyString())).willReturn(this.boundSetOperations);
+		given(this.boundHashOperations.entries()).willReturn(map(RedisSessionMapper.CREATION_TIME_KEY,
+				Instant.EPOCH.toEpochMilli(), RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 1,
+				RedisSessionMapper.LAST_ACCESSED_TIME_KEY, System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(5),
+				RedisSessionMapper.ATTRIBUTE_PREFIX + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME,
+				"principal"));
+
+		this.redisRepository.cleanUpExpiredSessions();
+
+		verify(this.boundSetOperations).remove(expiredId);
+		verify(this.boundSetOperations).add(expiredId);
+		verify(this.redisOperations, never()).execute(script("ZREM"), any(), any(), any(), any(Object[].class));
+	}
+
+	@Test
+	void cleanupExpiredSessionsWhenShadowKeysDisabledAndSessionGoneThenReleasesClaim() {
+		this.redisRepository.setShadowKeysEnabled(false);
+		String expiredId = "expired-id";
+		String expirationsKey = "spring:session:sessions:expirations";
+		given(this.redisOperations.opsForZSet()).willReturn(this.zSetOperations);
+		given(this.zSetOperations.rangeByScore(eq(expirationsKey), eq(0.0), anyDouble(), eq(0L), eq(100L)))
+			.willReturn(Collections.singleton(expiredId));
+		givenScript("ZADD", 1L);
+		givenScript("ZREM", 1L);
+		given(this.redisOperations.<String, Object>boundHashOps(getKey(expiredId)))
+			.willReturn(this.boundHashOperations);
+		given(this.boundHashOperations.entries()).willReturn(Collections.emptyMap());
+
+		this.redisRepository.cleanUpExpiredSessions();
+
+		verify(this.redisOperations).execute(script("ZREM"), any(), any(),
+				eq(Collections.singletonList(expirationsKey)), any(Object[].class));
+		verify(this.redisOperations, never()).execute(script("DEL"), any(), any(), any(), any(Object[].class));
+	}
+
+	@Test
+	void cleanupExpiredSessionsWhenShadowKeysDisabledAndClaimedByOtherNodeThenSkips() {
+		this.redisRepository.setShadowKeysEnabled(false);
+		String expiredId = "expired-id";
+		String expirationsKey = "spring:session:sessions:expirations";
+		given(this.redisOperations.opsForZSet()).willReturn(this.zSetOperations);
+		given(this.zSetOperations.rangeByScore(eq(expirationsKey), eq(0.0), anyDouble(), eq(0L), eq(100L)))
+			.willReturn(Collections.singleton(expiredId));
+		givenScript("ZADD", 0L);
+
+		this.redisRepository.cleanUpExpiredSessions();
+
+		verify(this.redisOperations, never()).boundHashOps(anyString());
+		verify(this.redisOperations, never()).delete(anyString());
+		verify(this.redisOperations, never()).convertAndSend(anyString(), any());
+	}
+
+	@Test
+	void cleanupExpiredSessionsWhenShadowKeysDisabledAndSessionAccessedThenReschedules() {
+		this.redisRepository.setShadowKeysEnabled(false);
+		String sessionId = "session-id";
+		String expirationsKey = "spring:session:sessions:expirations";
+		given(this.redisOperations.opsForZSet()).willReturn(this.zSetOperations);
+		given(this.zSetOperations.rangeByScore(eq(expirationsKey), eq(0.0), anyDouble(), eq(0L), eq(100L)))
+			.willReturn(Collections.singleton(sessionId));
+		givenScript("ZADD", 1L);
+		given(this.redisOperations.<String, Object>boundHashOps(getKey(sessionId)))
+			.willReturn(this.boundHashOperations);
+		long lastAccessedTime = System.currentTimeMillis();
+		given(this.boundHashOperations.entries()).willReturn(map(RedisSessionMapper.CREATION_TIME_KEY,
+				Instant.EPOCH.toEpochMilli(), RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 1800,
+				RedisSessionMapper.LAST_ACCESSED_TIME_KEY, lastAccessedTime));
+
+		this.redisRepository.cleanUpExpiredSessions();
+
+		verify(this.zSetOperations).add(expirationsKey, sessionId, lastAccessedTime + TimeUnit.SECONDS.toMillis(1800));
+		verify(this.redisOperations, never()).execute(script("DEL"), any(), any(), any(), any(Object[].class));
+	}
+
+	@Test
+	void cleanupExpiredSessionsWhenShadowKeysDisabledAndFullPageThenReadsNextPage() {
+		this.redisRepository.setShadowKeysEnabled(false);
+		String expirationsKey = "spring:session:sessions:expirations";
+		Set<Object> sessionIds = new HashSet<>();
+		for (int i = 0; i < 100; i++) {
+			sessionIds.add("session-id-" + i);
+		}
+		given(this.redisOperations.opsForZSet()).willReturn(this.zSetOperations);
+		given(this.zSetOperations.rangeByScore(eq(expirationsKey), eq(0.0), anyDouble(), eq(0L), eq(100L)))
+			.willReturn(sessionIds, Collections.emptySet());
+
+		this.redisRepository.cleanUpExpiredSessions();
+
+		verify(this.zSetOperations, times(2)).rangeByScore(eq(expirationsKey), eq(0.0), anyDouble(), eq(0L), eq(100L));
+	}
+
+	@Test
+	void cleanupExpiredSessionsWhenShadowKeysDisabledThenUsesClock() {
+		this.redisRepository.setShadowKeysEnabled(false);
+		this.redisRepository.setClock(Clock.fixed(Instant.ofEpochSecond(1000), ZoneOffset.UTC));
+		given(this.redisOperations.opsForZSet()).willReturn(this.zSetOperations);
+
+		this.redisRepository.cleanUpExpiredSessions();
+
+		verify(this.zSetOperations).rangeByScore("spring:session:sessions:expirations", 0, 1000000, 0, 100);
+	}
+
+	@Test
+	void setShadowKeysEnabledWhenExpirationStoreSetThenKeepsExpirationStore() {
+		RedisSessionExpirationStore expirationStore = mock(RedisSessionExpirationStore.class);
+		this.redisRepository.setExpirationStore(expirationStore);
+		this.redisRepository.setShadowKeysEnabled(false);
+
+		this.redisRepository.cleanUpExpiredSessions();
+
+		verify(expirationStore).cleanupExpiredSessions();
+	}
+
+	@Test
+	void setClockWhenNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.redisRepository.setClock(null))
+			.withMessage("clock cannot be null");
+	}
+
+	@Test
+	void onMessageWhenSessionExpiredChannelThenPublishesSessionExpiredEvent() {
+		String channel = "spring:session:event:0:expired:" + this.cached.getId();
+		JdkSerializationRedisSerializer defaultSerializer = new JdkSerializationRedisSerializer();
+		this.redisRepository.setDefaultSerializer(defaultSerializer);
+		Map<String, Object> map = map(RedisSessionMapper.CREATION_TIME_KEY, Instant.EPOCH.toEpochMilli(),
+				RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 1, RedisSessionMapper.LAST_ACCESSED_TIME_KEY,
+				System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(5));
+		DefaultMessage message = new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8),
+				defaultSerializer.serialize(map));
+		this.redisRepository.setApplicationEventPublisher(this.publisher);
+
+		this.redisRepository.onMessage(message, "".getBytes(StandardCharsets.UTF_8));
+
+		verify(this.publisher).publishEvent(this.event.capture());
+		assertThat(this.event.getValue()).isInstanceOf(SessionExpiredEvent.class);
+		assertThat(this.event.getValue().getSessionId()).isEqualTo(this.cached.getId());
+		verifyNoMoreInteractions(this.redisOperations);
+	}
+
+	@Test
+	void onMessageWhenSessionDeletedChannelThenPublishesSessionDeletedEvent() {
+		String channel = "spring:session:event:0:deleted:" + this.cached.getId();
+		JdkSerializationRedisSerializer defaultSerializer = new JdkSerializationRedisSerializer();
+		this.redisRepository.setDefaultSerializer(defaultSerializer);
+		Map<String, Object> map = map(RedisSessionMapper.CREATION_TIME_KEY, Instant.EPOCH.toEpochMilli(),
+				RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 1800, RedisSessionMapper.LAST_ACCESSED_TIME_KEY,
+				System.currentTimeMillis());
+		DefaultMessage message = new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8),
+				defaultSerializer.serialize(map));
+		this.redisRepository.setApplicationEventPublisher(this.publisher);
+
+		this.redisRepository.onMessage(message, "".getBytes(StandardCharsets.UTF_8));
+
+		verify(this.publisher).publishEvent(this.event.capture());
+		assertThat(this.event.getValue()).isInstanceOf(SessionDeletedEvent.class);
+		assertThat(this.event.getValue().getSessionId()).isEqualTo(this.cached.getId());
+		verifyNoMoreInteractions(this.redisOperations);
+	}
+
+	@Test
+	void hasChangesWhenOnlyLastAccessedTimeUpdatedThenFalse() {
+		RedisSession session = this.redisRepository.new RedisSession(this.cached, false);
+		session.setLastAccessedTime(Instant.now());
+		assertThat(session.hasChanges()).isFalse();
+	}
+
+	@Test
+	void hasChangesWhenSessionIdChangedThenTrue() {
+		RedisSession session = this.redisRepository.new RedisSession(this.cached, false);
+		session.changeSessionId();
+		assertThat(session.hasChanges()).isTrue();
+	}
+
+	@Test
+	void hasChangesWhenNewThenTrue() {
+		RedisSession session = this.redisRepository.createSession();
+		assertThat(session.hasChanges()).isTrue();
+	}
+
 	private String getKey(String id) {
 		return "spring:session:sessions:" + id;
 	}
 
+	@SuppressWarnings("unchecked")
+	private void givenScript(String command, Long result) {
+		given(this.redisOperations.execute(script(command), any(), any(RedisSerializer.class), any(),
+				any(Object[].class)))
+			.willReturn(result);
+	}
+
+	private static RedisScript<Long> script(String command) {
+		return argThat((script) -> script != null && script.getScriptAsString().contains("'" + command + "'"));
+	}
+
 	private Map<String, Object> map(Object... objects) {
 		Map<String, Object> result = new HashMap<>();
 		if (objects == null) {
@@ -356,6 +356,22 @@ class RedisSessionRepositoryTests {
 		verifyNoMoreInteractions(this.sessionHashOperations);
 	}
 
+	@Test
+	void findByIdWhenLoadCoalescingEnabledThenReturnsIndependentSessions() {
+		this.sessionRepository.setLoadCoalescingEnabled(true);
+		given(this.sessionHashOperations.entries(eq(TEST_SESSION_KEY)))
+			.willReturn(mapOf(RedisSessionMapper.CREATION_TIME_KEY, Instant.EPOCH.toEpochMilli(),
+					RedisSessionMapper.LAST_ACCESSED_TIME_KEY, Instant.now().toEpochMilli(),
+					RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS,
+					RedisSessionMapper.ATTRIBUTE_PREFIX + "attribute1", "value1"));
+		RedisSession session = this.sessionRepository.findById(TEST_SESSION_ID);
+		RedisSession other = this.sessionRepository.findById(TEST_SESSION_ID);
+		session.setAttribute("attribute1", "value2");
+		assertThat(session.<String>getAttribute("attribute1")).isEqualTo("value2");
+		assertThat(other.<String>getAttribute("attribute1")).isEqualTo("value1");
+		assertThat(other.hasChanges()).isFalse();
+	}
+
 	@Test
 	void deleteById__ShouldDeleteSession() {
 		this.sessionRepository.deleteById(TEST_SESSION_ID);
@@ -418,6 +434,20 @@ class RedisSessionRepositoryTests {
 		return result;
 	}
 
+	@Test
+	void hasChangesWhenOnlyLastAccessedTimeUpdatedThenFalse() {
+		RedisSession session = createTestSession();
+		session.setLastAccessedTime(Instant.now());
+		assertThat(session.hasChanges()).isFalse();
+	}
+
+	@Test
+	void hasChangesWhenAttributeSetThenTrue() {
+		RedisSession session = createTestSession();
+		session.setAttribute("attribute2", "value2");
+		assertThat(session.hasChanges()).isTrue();
+	}
+
 	private RedisSession createTestSession(Map<String, Object> attributes) {
 		MapSession cached = new MapSession(TEST_SESSION_ID);
 		cached.setCreationTime(Instant.EPOCH);
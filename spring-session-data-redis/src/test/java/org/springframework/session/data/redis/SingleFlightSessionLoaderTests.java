@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.session.MapSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link SingleFlightSessionLoader}.
+ *
+ * @author agent (agent@local)
+ */
+class SingleFlightSessionLoaderTests {
+
+	private static final String SESSION_ID = "session-id";
+
+	private final SingleFlightSessionLoader loader = new SingleFlightSessionLoader(
+			SingleFlightSessionLoader.serializingCopier(null));
+
+	@Test
+	void loadWhenConcurrentThenLoadsOnceAndReturnsCopies() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CompletableFuture<MapSession> follower = new CompletableFuture<>();
+		MapSession leader = this.loader.load(SESSION_ID, (id) -> {
+			loads.incrementAndGet();
+			Thread thread = new Thread(() -> follower.complete(this.loader.load(SESSION_ID, (followerId) -> {
+				loads.incrementAndGet();
+				return new MapSession(followerId);
+			})));
+			thread.start();
+			awaitWaiting(thread);
+			MapSession session = new MapSession(id);
+			session.setAttribute("a", "b");
+			session.setAttribute("list", new ArrayList<>(List.of("c")));
+			return session;
+		});
+
+		MapSession joined = follower.get(5, TimeUnit.SECONDS);
+		assertThat(loads).hasValue(1);
+		assertThat(joined).isNotSameAs(leader);
+		assertThat(joined.<String>getAttribute("a")).isEqualTo("b");
+		leader.setAttribute("a", "c");
+		leader.<List<String>>getAttribute("list").add("d");
+		assertThat(joined.<String>getAttribute("a")).isEqualTo("b");
+		assertThat(joined.<List<String>>getAttribute("list")).containsExactly("c");
+		assertThat(joined.hasChanges()).isFalse();
+	}
+
+	@Test
+	void loadWhenNotConcurrentThenReturnsLoadedSession() {
+		MapSession session = new MapSession(SESSION_ID);
+
+		assertThat(this.loader.load(SESSION_ID, (id) -> session)).isSameAs(session);
+	}
+
+	@Test
+	void loadWhenInvalidatedDuringLoadThenDoesNotJoin() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CompletableFuture<MapSession> follower = new CompletableFuture<>();
+		this.loader.load(SESSION_ID, (id) -> {
+			loads.incrementAndGet();
+			// the session is written while it is read
+			this.loader.invalidate(id);
+			Thread thread = new Thread(() -> follower.complete(this.loader.load(SESSION_ID, (followerId) -> {
+				loads.incrementAndGet();
+				return new MapSession(followerId);
+			})));
+			thread.start();
+			follower.orTimeout(5, TimeUnit.SECONDS).join();
+			return new MapSession(id);
+		});
+
+		assertThat(follower.get(5, TimeUnit.SECONDS)).isNotNull();
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void loadWhenSequentialThenLoadsEachTime() {
+		AtomicInteger loads = new AtomicInteger();
+		this.loader.load(SESSION_ID, (id) -> {
+			loads.incrementAndGet();
+			return new MapSession(id);
+		});
+		this.loader.load(SESSION_ID, (id) -> {
+			loads.incrementAndGet();
+			return new MapSession(id);
+		});
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void loadWhenNotFoundThenNull() {
+		assertThat(this.loader.load(SESSION_ID, (id) -> null)).isNull();
+	}
+
+	@Test
+	void loadWhenLoaderFailsThenExceptionAndNextLoadRetries() {
+		assertThatIllegalStateException().isThrownBy(() -> this.loader.load(SESSION_ID, (id) -> {
+			throw new IllegalStateException("failed");
+		})).withMessage("failed");
+		assertThat(this.loader.load(SESSION_ID, MapSession::new)).isNotNull();
+	}
+
+	@Test
+	void loadWhenLoaderThrowsErrorThenConcurrentLoadFails() throws Exception {
+		CompletableFuture<Throwable> follower = new CompletableFuture<>();
+		assertThatExceptionOfType(NoClassDefFoundError.class).isThrownBy(() -> this.loader.load(SESSION_ID, (id) -> {
+			Thread thread = new Thread(() -> {
+				try {
+					this.loader.load(SESSION_ID, MapSession::new);
+					follower.complete(null);
+				}
+				catch (Throwable ex) {
+					follower.complete(ex);
+				}
+			});
+			thread.start();
+			awaitWaiting(thread);
+			throw new NoClassDefFoundError("failed");
+		}));
+
+		assertThat(follower.get(5, TimeUnit.SECONDS)).isInstanceOf(NoClassDefFoundError.class);
+		assertThat(this.loader.load(SESSION_ID, MapSession::new)).isNotNull();
+	}
+
+	private static void awaitWaiting(Thread thread) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+	}
+
+}
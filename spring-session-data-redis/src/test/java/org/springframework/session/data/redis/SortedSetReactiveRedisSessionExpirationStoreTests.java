@@ -16,7 +16,9 @@
 
 package org.springframework.session.data.redis;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,14 +31,22 @@ import reactor.test.StepVerifier;
 import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.Limit;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @SuppressWarnings("unchecked")
@@ -55,7 +65,7 @@ class SortedSetReactiveRedisSessionExpirationStoreTests {
 			.willReturn(Mono.empty());
 		given(this.sessionRedisOperations.opsForZSet().remove(anyString(), anyString())).willReturn(Mono.empty());
 		given(this.sessionRedisOperations.opsForZSet()
-			.reverseRangeByScore(anyString(), any(Range.class), any(Limit.class))).willReturn(Flux.empty());
+			.reverseRangeByScoreWithScores(anyString(), any(Range.class), any(Limit.class))).willReturn(Flux.empty());
 	}
 
 	@Test
@@ -80,7 +90,7 @@ class SortedSetReactiveRedisSessionExpirationStoreTests {
 		StepVerifier.create(this.store.retrieveExpiredSessions(now)).verifyComplete();
 		ArgumentCaptor<Range<Double>> rangeCaptor = ArgumentCaptor.forClass(Range.class);
 		ArgumentCaptor<Limit> limitCaptor = ArgumentCaptor.forClass(Limit.class);
-		verify(this.sessionRedisOperations.opsForZSet()).reverseRangeByScore(
+		verify(this.sessionRedisOperations.opsForZSet()).reverseRangeByScoreWithScores(
 				eq(this.namespace + "sessions:expirations"), rangeCaptor.capture(), limitCaptor.capture());
 		assertThat(rangeCaptor.getValue().getLowerBound().getValue()).hasValue(0D);
 		assertThat(rangeCaptor.getValue().getUpperBound().getValue()).hasValue((double) now.toEpochMilli());
@@ -88,4 +98,44 @@ class SortedSetReactiveRedisSessionExpirationStoreTests {
 		assertThat(limitCaptor.getValue().getOffset()).isEqualTo(0);
 	}
 
+	@Test
+	void removeWhenCollectionThenRemovesSessionIdsNotExpiringLaterWithOneScript() {
+		given(this.sessionRedisOperations.getSerializationContext()).willReturn(
+				RedisSerializationContext.<String, Object>newSerializationContext(RedisSerializer.string()).build());
+		given(this.sessionRedisOperations.execute(any(RedisScript.class), anyList(), anyList(),
+				any(RedisElementWriter.class), any(RedisElementReader.class)))
+			.willReturn(Flux.just(2L));
+		StepVerifier.create(this.store.remove(List.of("1234", "5678"), 1702314490000D)).verifyComplete();
+		ArgumentCaptor<List<byte[]>> argsCaptor = ArgumentCaptor.forClass(List.class);
+		verify(this.sessionRedisOperations).execute(any(RedisScript.class),
+				eq(List.of(this.namespace + "sessions:expirations")), argsCaptor.capture(),
+				any(RedisElementWriter.class), any(RedisElementReader.class));
+		assertThat(argsCaptor.getValue()).extracting((arg) -> new String(arg, StandardCharsets.UTF_8))
+			.containsExactly("1.70231449E12", "1234", "5678");
+		verify(this.sessionRedisOperations.opsForZSet(), never()).remove(anyString(), any(Object[].class));
+	}
+
+	@Test
+	void removeWhenEmptyCollectionThenDoesNotRemove() {
+		StepVerifier.create(this.store.remove(List.of(), 1702314490000D)).verifyComplete();
+		verify(this.sessionRedisOperations, never()).execute(any(RedisScript.class), anyList(), anyList(),
+				any(RedisElementWriter.class), any(RedisElementReader.class));
+	}
+
+	@Test
+	void retrieveExpiredSessionsWhenRetrieveCountSetThenUsesLimit() {
+		this.store.setRetrieveCount(500);
+		StepVerifier.create(this.store.retrieveExpiredSessions(Instant.now())).verifyComplete();
+		ArgumentCaptor<Limit> limitCaptor = ArgumentCaptor.forClass(Limit.class);
+		verify(this.sessionRedisOperations.opsForZSet()).reverseRangeByScoreWithScores(anyString(), any(Range.class),
+				limitCaptor.capture());
+		assertThat(limitCaptor.getValue().getCount()).isEqualTo(500);
+	}
+
+	@Test
+	void setRetrieveCountWhenZeroThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.store.setRetrieveCount(0))
+			.withMessage("retrieveCount must be greater than 0");
+	}
+
 }
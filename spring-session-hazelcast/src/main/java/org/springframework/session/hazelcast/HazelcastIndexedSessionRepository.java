@@ -21,18 +21,40 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.EntryView;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.Offloadable;
+import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.IMap;
 import com.hazelcast.map.listener.EntryAddedListener;
 import com.hazelcast.map.listener.EntryEvictedListener;
 import com.hazelcast.map.listener.EntryExpiredListener;
 import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.Predicate;
 import com.hazelcast.query.Predicates;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -97,6 +119,14 @@ import org.springframework.util.Assert;
  * Hazelcast.newHazelcastInstance(config);
  * </pre>
  *
+ * Sessions can be served from a Hazelcast near cache by providing a
+ * {@link NearCacheConfig} using {@link #setNearCacheConfig(NearCacheConfig)}, for example
+ * one created by {@link #createNearCacheConfig(String)}. When running embedded, the
+ * repository registers the near cache (and, if requested, reading from backup data) as a
+ * dynamic configuration of the session map unless the map is explicitly configured. When
+ * using a Hazelcast client, the same {@link NearCacheConfig} must be added to the
+ * {@code ClientConfig}.
+ *
  * This implementation listens for events on the Hazelcast-backed SessionRepository and
  * translates those events into the corresponding Spring Session events. Publish the
  * Spring Session events with the given {@link ApplicationEventPublisher}.
@@ -130,6 +160,13 @@ public class HazelcastIndexedSessionRepository
 	 */
 	public static final String PRINCIPAL_NAME_ATTRIBUTE = "principalName";
 
+	/**
+	 * The default number of session ids fetched per page by
+	 * {@link #streamIds(Predicate)}.
+	 * @since 3.5
+	 */
+	public static final int DEFAULT_STREAM_IDS_PAGE_SIZE = 1000;
+
 	private static final String SPRING_SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
 
 	private static final Log logger = LogFactory.getLog(HazelcastIndexedSessionRepository.class);
@@ -155,6 +192,24 @@ public class HazelcastIndexedSessionRepository
 
 	private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
 
+	private NearCacheConfig nearCacheConfig;
+
+	private boolean readBackupData;
+
+	private boolean touchEntryProcessorEnabled;
+
+	private int offloadDeltaThreshold;
+
+	private String offloadExecutorName = Offloadable.OFFLOADABLE_EXECUTOR;
+
+	private Duration touchBatchWindow = Duration.ZERO;
+
+	private final Map<String, Instant> pendingTouches = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService touchBatchExecutor;
+
+	private IndexType principalNameIndexType;
+
 	/**
 	 * Create a new {@link HazelcastIndexedSessionRepository} instance.
 	 * @param hazelcastInstance the {@link HazelcastInstance} to use for managing sessions
@@ -164,17 +219,81 @@ public class HazelcastIndexedSessionRepository
 		this.hazelcastInstance = hazelcastInstance;
 	}
 
+	/**
+	 * Create a {@link NearCacheConfig} tuned for sessions. Sessions are cached in binary
+	 * format, so that every near cache hit deserializes its own copy of the session and
+	 * neither the session nor its attribute values are shared between requests. Entries
+	 * owned by the local member are not cached, and entries are invalidated whenever the
+	 * session is updated on any member.
+	 * @param sessionMapName the name of the map used to store sessions
+	 * @return the near cache configuration
+	 * @since 3.5
+	 */
+	public static NearCacheConfig createNearCacheConfig(String sessionMapName) {
+		Assert.hasText(sessionMapName, "Map name must not be empty");
+		return new NearCacheConfig(sessionMapName).setInMemoryFormat(InMemoryFormat.BINARY)
+			.setInvalidateOnChange(true)
+			.setCacheLocalEntries(false);
+	}
+
 	@Override
 	public void afterPropertiesSet() {
+		Assert.state(this.touchBatchWindow.isZero() || this.touchEntryProcessorEnabled,
+				"touchBatchWindow requires touchEntryProcessorEnabled to be true");
+		if (this.nearCacheConfig != null || this.readBackupData) {
+			configureSessionMap();
+		}
 		this.sessions = this.hazelcastInstance.getMap(this.sessionMapName);
 		this.sessionListenerId = this.sessions.addEntryListener(this, true);
+		if (this.principalNameIndexType != null) {
+			this.sessions.addIndex(new IndexConfig(this.principalNameIndexType, PRINCIPAL_NAME_ATTRIBUTE));
+		}
+		if (!this.touchBatchWindow.isZero()) {
+			this.touchBatchExecutor = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+				Thread thread = new Thread(runnable, "spring-session-hazelcast-touch");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long window = this.touchBatchWindow.toNanos();
+			this.touchBatchExecutor.scheduleWithFixedDelay(this::flushPendingTouches, window, window,
+					TimeUnit.NANOSECONDS);
+		}
 	}
 
 	@Override
 	public void destroy() {
+		if (this.touchBatchExecutor != null) {
+			this.touchBatchExecutor.shutdown();
+			flushPendingTouches();
+		}
 		this.sessions.removeEntryListener(this.sessionListenerId);
 	}
 
+	private void configureSessionMap() {
+		Config config = this.hazelcastInstance.getConfig();
+		MapConfig mapConfig;
+		try {
+			mapConfig = config.getMapConfigOrNull(this.sessionMapName);
+		}
+		catch (UnsupportedOperationException ex) {
+			logger.info("Hazelcast client detected, the near cache for map '" + this.sessionMapName
+					+ "' must be configured using ClientConfig");
+			return;
+		}
+		if (mapConfig != null) {
+			if ((this.nearCacheConfig != null && mapConfig.getNearCacheConfig() == null)
+					|| (this.readBackupData && !mapConfig.isReadBackupData())) {
+				logger.warn("Map '" + this.sessionMapName + "' is explicitly configured, near cache and "
+						+ "read backup data settings must be applied to its configuration");
+			}
+			return;
+		}
+		mapConfig = new MapConfig(config.findMapConfig(this.sessionMapName)).setName(this.sessionMapName)
+			.setReadBackupData(this.readBackupData)
+			.setNearCacheConfig(this.nearCacheConfig);
+		config.addMapConfig(mapConfig);
+	}
+
 	/**
 	 * Sets the {@link ApplicationEventPublisher} that is used to publish
 	 * {@link AbstractSessionEvent session events}. The default is to not publish session
@@ -247,6 +366,124 @@ public class HazelcastIndexedSessionRepository
 		this.saveMode = saveMode;
 	}
 
+	/**
+	 * Set the {@link NearCacheConfig} used for the session map. Setting a near cache also
+	 * makes the repository confirm a session that appears expired with the partition
+	 * owner before deleting it, since the near cached copy may be stale. Default is
+	 * {@code null}, meaning no near cache is used.
+	 * <p>
+	 * Near cache entries are invalidated asynchronously, and Hazelcast sends the
+	 * invalidations of other members in batches, by default at least every 10 seconds
+	 * ({@code hazelcast.map.invalidation.batch.frequency.seconds}). Until the
+	 * invalidation arrives, a member may read a session as it was before a change made on
+	 * another member, so a near cache should only be used if requests of a session are
+	 * routed to the same member or such stale reads are acceptable. Sessions must not be
+	 * cached in {@link InMemoryFormat#OBJECT object} format, since the cached session and
+	 * its attribute values would be shared between requests.
+	 * @param nearCacheConfig the near cache configuration
+	 * @since 3.5
+	 * @see #createNearCacheConfig(String)
+	 */
+	public void setNearCacheConfig(NearCacheConfig nearCacheConfig) {
+		Assert.isTrue(nearCacheConfig == null || nearCacheConfig.getInMemoryFormat() != InMemoryFormat.OBJECT,
+				"nearCacheConfig must not use the OBJECT in-memory format");
+		this.nearCacheConfig = nearCacheConfig;
+	}
+
+	/**
+	 * Set whether members are allowed to read sessions from local backup replicas instead
+	 * of calling the partition owner. Only applies to embedded Hazelcast instances.
+	 * Default is {@code false}.
+	 * @param readBackupData whether to read backup data
+	 * @since 3.5
+	 */
+	public void setReadBackupData(boolean readBackupData) {
+		this.readBackupData = readBackupData;
+	}
+
+	/**
+	 * Set whether saves of existing sessions that only change the last accessed time are
+	 * applied by a {@link SessionTouchEntryProcessor}, which carries nothing but the new
+	 * last accessed time, instead of a {@link SessionUpdateEntryProcessor}. Unlike the
+	 * latter, it does not store the session again if it was already accessed at the same
+	 * time or later, but a touch that is applied still stores the whole session. Only
+	 * enable this once all members of the cluster have {@link SessionTouchEntryProcessor}
+	 * on their classpath, since the members apply the entry processor. Default is
+	 * {@code false}.
+	 * @param touchEntryProcessorEnabled whether to use a
+	 * {@link SessionTouchEntryProcessor} for touch-only saves
+	 * @since 3.5
+	 */
+	public void setTouchEntryProcessorEnabled(boolean touchEntryProcessorEnabled) {
+		this.touchEntryProcessorEnabled = touchEntryProcessorEnabled;
+	}
+
+	/**
+	 * Set the number of changed attributes from which updates to existing sessions are
+	 * applied by an {@link OffloadableSessionUpdateEntryProcessor}, so that applying the
+	 * delta and serializing the session does not block the partition thread. A value of
+	 * {@code 0} or less, which is the default, disables offloading.
+	 * @param offloadDeltaThreshold the minimum number of changed attributes to offload
+	 * the update
+	 * @since 3.5
+	 */
+	public void setOffloadDeltaThreshold(int offloadDeltaThreshold) {
+		this.offloadDeltaThreshold = offloadDeltaThreshold;
+	}
+
+	/**
+	 * Set the name of the executor offloaded updates are run on. Default is
+	 * {@link Offloadable#OFFLOADABLE_EXECUTOR}.
+	 * @param offloadExecutorName the name of the executor
+	 * @since 3.5
+	 * @see #setOffloadDeltaThreshold(int)
+	 */
+	public void setOffloadExecutorName(String offloadExecutorName) {
+		Assert.hasText(offloadExecutorName, "offloadExecutorName must not be empty");
+		this.offloadExecutorName = offloadExecutorName;
+	}
+
+	/**
+	 * Set the type of the index that is added to the session map for the
+	 * {@value #PRINCIPAL_NAME_ATTRIBUTE} attribute, which is used to find sessions by
+	 * principal name. The attribute is either provided by a
+	 * {@link PrincipalNameExtractor} registered for the session map, or by sessions
+	 * serialized with {@link HazelcastSessionCompactSerializer}. Default is {@code null},
+	 * which does not add an index.
+	 * @param principalNameIndexType the index type
+	 * @since 3.5
+	 */
+	public void setPrincipalNameIndexType(IndexType principalNameIndexType) {
+		this.principalNameIndexType = principalNameIndexType;
+	}
+
+	/**
+	 * Set the window over which saves of existing sessions that only change the last
+	 * accessed time are collected and then applied to all collected sessions with a
+	 * single {@link IMap#submitToKeys(Set, EntryProcessor)} invocation, instead of an
+	 * {@link IMap#executeOnKey(Object, EntryProcessor)} invocation per session. Each
+	 * session is touched with its own last accessed time by a
+	 * {@link SessionTouchEntryProcessor}, so batching requires
+	 * {@link #setTouchEntryProcessorEnabled(boolean)} to be enabled. The window must be
+	 * at least one millisecond. Default is {@link Duration#ZERO}, which disables
+	 * batching.
+	 * <p>
+	 * {@link #findById(String)} returns sessions whose touch is still pending with the
+	 * pending last accessed time. The entry in the session map only has its time to live
+	 * refreshed once the touch is applied though, so the window must be considerably
+	 * shorter than the maximum inactive interval of the sessions.
+	 * @param touchBatchWindow the batch window, must be set before
+	 * {@link #afterPropertiesSet()} is invoked
+	 * @since 3.5
+	 */
+	public void setTouchBatchWindow(Duration touchBatchWindow) {
+		Assert.notNull(touchBatchWindow, "touchBatchWindow must not be null");
+		Assert.isTrue(!touchBatchWindow.isNegative(), "touchBatchWindow must not be negative");
+		Assert.isTrue(touchBatchWindow.isZero() || touchBatchWindow.compareTo(Duration.ofMillis(1)) >= 0,
+				"touchBatchWindow must be zero or at least one millisecond");
+		this.touchBatchWindow = touchBatchWindow;
+	}
+
 	@Override
 	public HazelcastSession createSession() {
 		MapSession cached = new MapSession(this.sessionIdGenerator);
@@ -268,25 +505,79 @@ public class HazelcastIndexedSessionRepository
 			this.sessions.set(session.getId(), session.getDelegate(), session.getMaxInactiveInterval().getSeconds(),
 					TimeUnit.SECONDS);
 		}
-		else if (session.hasChanges()) {
-			SessionUpdateEntryProcessor entryProcessor = new SessionUpdateEntryProcessor();
-			if (session.lastAccessedTimeChanged) {
-				entryProcessor.setLastAccessedTime(session.getLastAccessedTime());
-			}
-			if (session.maxInactiveIntervalChanged) {
-				entryProcessor.setMaxInactiveInterval(session.getMaxInactiveInterval());
-			}
-			if (!session.delta.isEmpty()) {
-				entryProcessor.setDelta(new HashMap<>(session.delta));
-			}
-			this.sessions.executeOnKey(session.getId(), entryProcessor);
+		else if (this.touchBatchExecutor != null && session.isTouchOnly()) {
+			this.pendingTouches.merge(session.getId(), session.getLastAccessedTime(),
+					(pending, touched) -> touched.isAfter(pending) ? touched : pending);
+		}
+		else if (session.isChanged()) {
+			this.sessions.executeOnKey(session.getId(), createEntryProcessor(session));
 		}
 		session.clearChangeFlags();
 	}
 
+	void flushPendingTouches() {
+		Map<String, Instant> lastAccessedTimes = new HashMap<>();
+		for (String sessionId : this.pendingTouches.keySet()) {
+			Instant pending = this.pendingTouches.remove(sessionId);
+			if (pending != null) {
+				lastAccessedTimes.put(sessionId, pending);
+			}
+		}
+		if (lastAccessedTimes.isEmpty()) {
+			return;
+		}
+		Set<String> sessionIds = new HashSet<>(lastAccessedTimes.keySet());
+		SessionTouchEntryProcessor entryProcessor = new SessionTouchEntryProcessor();
+		entryProcessor.setLastAccessedTimes(lastAccessedTimes);
+		try {
+			this.sessions.submitToKeys(sessionIds, entryProcessor).whenComplete((result, ex) -> {
+				if (ex != null) {
+					logger.warn("Failed to update last accessed time of " + sessionIds.size() + " sessions", ex);
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Failed to update last accessed time of " + sessionIds.size() + " sessions", ex);
+		}
+	}
+
+	private EntryProcessor<String, MapSession, Object> createEntryProcessor(HazelcastSession session) {
+		if (this.touchEntryProcessorEnabled && session.isTouchOnly()) {
+			SessionTouchEntryProcessor entryProcessor = new SessionTouchEntryProcessor();
+			entryProcessor.setLastAccessedTime(session.getLastAccessedTime());
+			return entryProcessor;
+		}
+		SessionUpdateEntryProcessor entryProcessor = (this.offloadDeltaThreshold > 0
+				&& session.delta.size() >= this.offloadDeltaThreshold)
+						? new OffloadableSessionUpdateEntryProcessor(this.offloadExecutorName)
+						: new SessionUpdateEntryProcessor();
+		if (session.lastAccessedTimeChanged) {
+			entryProcessor.setLastAccessedTime(session.getLastAccessedTime());
+		}
+		if (session.maxInactiveIntervalChanged) {
+			entryProcessor.setMaxInactiveInterval(session.getMaxInactiveInterval());
+		}
+		if (!session.delta.isEmpty()) {
+			entryProcessor.setDelta(new HashMap<>(session.delta));
+		}
+		return entryProcessor;
+	}
+
 	@Override
 	public HazelcastSession findById(String id) {
 		MapSession saved = this.sessions.get(id);
+		Instant pendingTouch = this.pendingTouches.get(id);
+		if (saved != null && pendingTouch != null && pendingTouch.isAfter(saved.getLastAccessedTime())) {
+			// the session was accessed after the stored time, by a touch that is not
+			// applied yet
+			saved = new MapSession(saved);
+			saved.setLastAccessedTime(pendingTouch);
+		}
+		if (saved != null && saved.isExpired() && this.nearCacheConfig != null) {
+			// the near cached copy might be stale, so check with the partition owner
+			EntryView<String, MapSession> entryView = this.sessions.getEntryView(id);
+			saved = (entryView != null) ? entryView.getValue() : null;
+		}
 		if (saved == null) {
 			return null;
 		}
@@ -315,6 +606,105 @@ public class HazelcastIndexedSessionRepository
 		return sessionMap;
 	}
 
+	/**
+	 * Count the sessions with the given index value. The sessions are counted by the
+	 * members that own them and only the count is returned to the caller.
+	 * @param indexName the name of the index, only
+	 * {@link FindByIndexNameSessionRepository#PRINCIPAL_NAME_INDEX_NAME} is supported
+	 * @param indexValue the value of the index to search for
+	 * @return the number of sessions with the given index value, or {@code 0} if the
+	 * index is not supported
+	 * @since 3.5
+	 */
+	public long countByIndexNameAndIndexValue(String indexName, String indexValue) {
+		if (!PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+			return 0;
+		}
+		return countByPredicate(Predicates.equal(PRINCIPAL_NAME_ATTRIBUTE, indexValue));
+	}
+
+	/**
+	 * Count the sessions matching the given predicate. The predicate is evaluated by the
+	 * members that own the sessions and only the count is returned to the caller.
+	 * @param predicate the predicate sessions have to match
+	 * @return the number of matching sessions
+	 * @since 3.5
+	 */
+	public long countByPredicate(Predicate<String, MapSession> predicate) {
+		Assert.notNull(predicate, "predicate must not be null");
+		return this.sessions.aggregate(Aggregators.count(), predicate);
+	}
+
+	/**
+	 * Delete the sessions matching the given predicate. The sessions are deleted by the
+	 * members that own them without being transferred to the caller, and a
+	 * {@link SessionDeletedEvent} is published for every deleted session.
+	 * @param predicate the predicate sessions have to match
+	 * @since 3.5
+	 */
+	public void deleteByPredicate(Predicate<String, MapSession> predicate) {
+		Assert.notNull(predicate, "predicate must not be null");
+		this.sessions.removeAll(predicate);
+	}
+
+	/**
+	 * Return the ids of the sessions matching the given predicate, fetched in pages of
+	 * {@value #DEFAULT_STREAM_IDS_PAGE_SIZE} ids.
+	 * @param predicate the predicate sessions have to match
+	 * @return the ids of the matching sessions
+	 * @since 3.5
+	 * @see #streamIds(Predicate, int)
+	 */
+	public Stream<String> streamIds(Predicate<String, MapSession> predicate) {
+		return streamIds(predicate, DEFAULT_STREAM_IDS_PAGE_SIZE);
+	}
+
+	/**
+	 * Return the ids of the sessions matching the given predicate. The ids are fetched
+	 * lazily, in natural order, one page at a time as the stream is consumed, using a
+	 * {@link PagingPredicate}. The predicate is evaluated by the members that own the
+	 * sessions for every page, and only the session ids of a page are returned to the
+	 * caller. Sessions that are created or deleted while the stream is consumed may or
+	 * may not be included.
+	 * @param predicate the predicate sessions have to match
+	 * @param pageSize the maximum number of ids fetched per page
+	 * @return the ids of the matching sessions
+	 * @since 3.5
+	 */
+	public Stream<String> streamIds(Predicate<String, MapSession> predicate, int pageSize) {
+		Assert.notNull(predicate, "predicate must not be null");
+		Assert.isTrue(pageSize > 0, "pageSize must be greater than 0");
+		PagingPredicate<String, MapSession> pagingPredicate = Predicates.pagingPredicate(predicate, pageSize);
+		Iterator<String> ids = new Iterator<>() {
+
+			private Iterator<String> page = Collections.emptyIterator();
+
+			private boolean lastPage;
+
+			@Override
+			public boolean hasNext() {
+				while (!this.page.hasNext() && !this.lastPage) {
+					Set<String> keys = HazelcastIndexedSessionRepository.this.sessions.keySet(pagingPredicate);
+					this.lastPage = keys.size() < pageSize;
+					this.page = keys.iterator();
+					pagingPredicate.nextPage();
+				}
+				return this.page.hasNext();
+			}
+
+			@Override
+			public String next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return this.page.next();
+			}
+
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(ids,
+				Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+	}
+
 	@Override
 	public void entryAdded(EntryEvent<String, MapSession> event) {
 		MapSession session = event.getValue();
@@ -480,10 +870,19 @@ public class HazelcastIndexedSessionRepository
 			return this.delegate;
 		}
 
-		boolean hasChanges() {
+		@Override
+		public boolean hasChanges() {
+			return (this.isNew || this.sessionIdChanged || this.maxInactiveIntervalChanged || !this.delta.isEmpty());
+		}
+
+		boolean isChanged() {
 			return (this.lastAccessedTimeChanged || this.maxInactiveIntervalChanged || !this.delta.isEmpty());
 		}
 
+		boolean isTouchOnly() {
+			return (this.lastAccessedTimeChanged && !this.maxInactiveIntervalChanged && this.delta.isEmpty());
+		}
+
 		void clearChangeFlags() {
 			this.isNew = false;
 			this.lastAccessedTimeChanged = false;
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CompactSerializer} implementation that handles the (de)serialization of
+ * {@link MapSession} stored on {@link com.hazelcast.map.IMap} using Hazelcast Compact
+ * serialization.
+ *
+ * <p>
+ * The principal name of the session is written as a top-level field named
+ * {@value HazelcastIndexedSessionRepository#PRINCIPAL_NAME_ATTRIBUTE}, so that queries
+ * and indexes on the principal name read that field directly instead of deserializing the
+ * session through {@link PrincipalNameExtractor}, which then must not be configured. The
+ * remaining session attributes are written as a single binary field using standard Java
+ * serialization.
+ *
+ * <p>
+ * As with {@link HazelcastSessionSerializer}, all members and clients of a cluster need
+ * to use the same serialization method for sessions. An example of how to register the
+ * serializer on embedded instance can be seen below:
+ *
+ * <pre class="code">
+ * Config config = new Config();
+ *
+ * // ... other configurations for Hazelcast ...
+ *
+ * config.getSerializationConfig()
+ *     .getCompactSerializationConfig()
+ *     .addSerializer(new HazelcastSessionCompactSerializer());
+ *
+ * HazelcastInstance hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+ * </pre>
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ * @see HazelcastIndexedSessionRepository#setPrincipalNameIndexType(com.hazelcast.config.IndexType)
+ */
+public class HazelcastSessionCompactSerializer implements CompactSerializer<MapSession> {
+
+	private static final String TYPE_NAME = "spring-session:MapSession";
+
+	private static final String ORIGINAL_ID = "originalId";
+
+	private static final String ID = "id";
+
+	private static final String CREATION_TIME = "creationTime";
+
+	private static final String LAST_ACCESSED_TIME = "lastAccessedTime";
+
+	private static final String MAX_INACTIVE_INTERVAL = "maxInactiveInterval";
+
+	private static final String PRINCIPAL_NAME = HazelcastIndexedSessionRepository.PRINCIPAL_NAME_ATTRIBUTE;
+
+	private static final String ATTRIBUTES = "attributes";
+
+	private final Converter<Object, byte[]> serializer;
+
+	private final Converter<byte[], Object> deserializer;
+
+	/**
+	 * Create a new {@link HazelcastSessionCompactSerializer} instance that serializes
+	 * session attributes using standard Java serialization.
+	 */
+	public HazelcastSessionCompactSerializer() {
+		this(new SerializingConverter(), new DeserializingConverter());
+	}
+
+	/**
+	 * Create a new {@link HazelcastSessionCompactSerializer} instance.
+	 * @param serializer the converter used to serialize session attributes
+	 * @param deserializer the converter used to deserialize session attributes
+	 */
+	public HazelcastSessionCompactSerializer(Converter<Object, byte[]> serializer,
+			Converter<byte[], Object> deserializer) {
+		Assert.notNull(serializer, "serializer cannot be null");
+		Assert.notNull(deserializer, "deserializer cannot be null");
+		this.serializer = serializer;
+		this.deserializer = deserializer;
+	}
+
+	@Override
+	public void write(CompactWriter writer, MapSession session) {
+		writer.writeString(ORIGINAL_ID, session.getOriginalId());
+		writer.writeString(ID, session.getId());
+		writer.writeTimestampWithTimezone(CREATION_TIME, session.getCreationTime().atOffset(ZoneOffset.UTC));
+		writer.writeTimestampWithTimezone(LAST_ACCESSED_TIME, session.getLastAccessedTime().atOffset(ZoneOffset.UTC));
+		writer.writeInt64(MAX_INACTIVE_INTERVAL, session.getMaxInactiveInterval().getSeconds());
+		String principalName = null;
+		HashMap<String, Object> attributes = new HashMap<>();
+		for (String attrName : session.getAttributeNames()) {
+			Object attrValue = session.getAttribute(attrName);
+			if (FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME.equals(attrName)
+					&& attrValue instanceof String) {
+				principalName = (String) attrValue;
+			}
+			else if (attrValue != null) {
+				attributes.put(attrName, attrValue);
+			}
+		}
+		writer.writeString(PRINCIPAL_NAME, principalName);
+		writer.writeArrayOfInt8(ATTRIBUTES, attributes.isEmpty() ? null : this.serializer.convert(attributes));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public MapSession read(CompactReader reader) {
+		MapSession session = new MapSession(reader.readString(ORIGINAL_ID));
+		session.setId(reader.readString(ID));
+		session.setCreationTime(reader.readTimestampWithTimezone(CREATION_TIME).toInstant());
+		session.setLastAccessedTime(reader.readTimestampWithTimezone(LAST_ACCESSED_TIME).toInstant());
+		session.setMaxInactiveInterval(Duration.ofSeconds(reader.readInt64(MAX_INACTIVE_INTERVAL)));
+		String principalName = reader.readString(PRINCIPAL_NAME);
+		if (principalName != null) {
+			session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, principalName);
+		}
+		byte[] attributes = reader.readArrayOfInt8(ATTRIBUTES);
+		if (attributes != null) {
+			Map<String, Object> deserialized = (Map<String, Object>) this.deserializer.convert(attributes);
+			deserialized.forEach(session::setAttribute);
+		}
+		return session;
+	}
+
+	@Override
+	public String getTypeName() {
+		return TYPE_NAME;
+	}
+
+	@Override
+	public Class<MapSession> getCompactClass() {
+		return MapSession.class;
+	}
+
+}
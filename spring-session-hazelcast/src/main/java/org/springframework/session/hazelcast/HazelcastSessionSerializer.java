@@ -18,6 +18,7 @@ package org.springframework.session.hazelcast;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 
@@ -78,6 +79,14 @@ import org.springframework.session.MapSession;
  * HazelcastInstance hazelcastClient = HazelcastClient.newHazelcastClient(clientConfig);
  * </pre>
  *
+ * <p>
+ * Sessions can be written in a versioned format that records the number of attributes, so
+ * sessions can be read without relying on an {@link EOFException} to detect the last
+ * attribute. Both formats are always readable, but the original format remains the
+ * default, since earlier versions of this serializer cannot read the new one. Enable
+ * {@link #setWriteVersionedFormat(boolean)} once every member and client of the cluster
+ * uses a version that can read it.
+ *
  * @author Enes Ozcan
  * @since 2.4.0
  */
@@ -85,8 +94,56 @@ public class HazelcastSessionSerializer implements StreamSerializer<MapSession>
 
 	private static final int SERIALIZER_TYPE_ID = 1453;
 
+	/**
+	 * Marks a session written in the versioned format. The original format starts with
+	 * the length of the original session id, which is never negative, so both formats can
+	 * be told apart from the first {@code int}.
+	 */
+	private static final int FORMAT_VERSION_2 = -2;
+
+	private boolean writeVersionedFormat;
+
+	/**
+	 * Set whether sessions should be written in the versioned format that includes the
+	 * number of attributes. Only enable this once no member or client that uses an
+	 * earlier version of this serializer is part of the cluster. Default is
+	 * {@code false}.
+	 * @param writeVersionedFormat whether to write sessions in the versioned format
+	 * @since 3.5
+	 */
+	public void setWriteVersionedFormat(boolean writeVersionedFormat) {
+		this.writeVersionedFormat = writeVersionedFormat;
+	}
+
 	@Override
 	public void write(ObjectDataOutput out, MapSession session) throws IOException {
+		if (!this.writeVersionedFormat) {
+			writeLegacyFormat(out, session);
+			return;
+		}
+		out.writeInt(FORMAT_VERSION_2);
+		out.writeString(session.getOriginalId());
+		out.writeString(session.getId());
+		writeInstant(out, session.getCreationTime());
+		writeInstant(out, session.getLastAccessedTime());
+		writeDuration(out, session.getMaxInactiveInterval());
+		int count = 0;
+		for (String attrName : session.getAttributeNames()) {
+			if (session.getAttribute(attrName) != null) {
+				count++;
+			}
+		}
+		out.writeInt(count);
+		for (String attrName : session.getAttributeNames()) {
+			Object attrValue = session.getAttribute(attrName);
+			if (attrValue != null) {
+				out.writeString(attrName);
+				out.writeObject(attrValue);
+			}
+		}
+	}
+
+	private void writeLegacyFormat(ObjectDataOutput out, MapSession session) throws IOException {
 		out.writeString(session.getOriginalId());
 		out.writeString(session.getId());
 		writeInstant(out, session.getCreationTime());
@@ -113,8 +170,27 @@ public class HazelcastSessionSerializer implements StreamSerializer<MapSession>
 
 	@Override
 	public MapSession read(ObjectDataInput in) throws IOException {
-		String originalId = in.readString();
-		MapSession cached = new MapSession(originalId);
+		int header = in.readInt();
+		if (header != FORMAT_VERSION_2) {
+			return readLegacyFormat(in, header);
+		}
+		MapSession cached = new MapSession(in.readString());
+		cached.setId(in.readString());
+		cached.setCreationTime(readInstant(in));
+		cached.setLastAccessedTime(readInstant(in));
+		cached.setMaxInactiveInterval(readDuration(in));
+		int attributeCount = in.readInt();
+		for (int i = 0; i < attributeCount; i++) {
+			String attrName = in.readString();
+			cached.setAttribute(attrName, in.readObject());
+		}
+		return cached;
+	}
+
+	private MapSession readLegacyFormat(ObjectDataInput in, int originalIdLength) throws IOException {
+		byte[] originalId = new byte[originalIdLength];
+		in.readFully(originalId);
+		MapSession cached = new MapSession(new String(originalId, StandardCharsets.UTF_8));
 		cached.setId(in.readString());
 		cached.setCreationTime(readInstant(in));
 		cached.setLastAccessedTime(readInstant(in));
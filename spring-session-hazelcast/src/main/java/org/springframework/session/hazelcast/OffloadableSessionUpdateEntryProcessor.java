@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import com.hazelcast.core.Offloadable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link SessionUpdateEntryProcessor} that is {@link Offloadable offloaded} from the
+ * partition thread to an executor. Applying a large delta and serializing the resulting
+ * session then no longer blocks other operations on the same partition.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ */
+public class OffloadableSessionUpdateEntryProcessor extends SessionUpdateEntryProcessor implements Offloadable {
+
+	private final String executorName;
+
+	/**
+	 * Create a new {@link OffloadableSessionUpdateEntryProcessor} instance.
+	 * @param executorName the name of the executor the processor is offloaded to
+	 */
+	public OffloadableSessionUpdateEntryProcessor(String executorName) {
+		Assert.hasText(executorName, "executorName must not be empty");
+		this.executorName = executorName;
+	}
+
+	@Override
+	public String getExecutorName() {
+		return this.executorName;
+	}
+
+}
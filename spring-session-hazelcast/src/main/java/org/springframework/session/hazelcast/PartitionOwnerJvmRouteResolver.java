@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.Partition;
+
+import org.springframework.session.web.http.DefaultCookieSerializer;
+import org.springframework.session.web.http.JvmRouteResolver;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link JvmRouteResolver} that resolves the route of the Hazelcast member that owns
+ * the partition of a session. This allows a load balancer to send requests to the member
+ * that holds the session data when Hazelcast is embedded in the application, so that
+ * {@link HazelcastIndexedSessionRepository} reads and updates do not need a remote call.
+ *
+ * <p>
+ * The route of each member is read from a member attribute, which defaults to
+ * {@link #DEFAULT_ROUTE_ATTRIBUTE_NAME}:
+ *
+ * <pre class="code">
+ * Config config = new Config();
+ * config.getMemberAttributeConfig().setAttribute("jvmRoute", "node01");
+ *
+ * DefaultCookieSerializer cookieSerializer = new DefaultCookieSerializer();
+ * cookieSerializer.setJvmRouteResolver(new PartitionOwnerJvmRouteResolver(hazelcastInstance));
+ * </pre>
+ *
+ * Partition ownership changes when members join or leave the cluster, so the route is a
+ * hint only. Requests sent to any other member are still served correctly.
+ *
+ * @author agent (agent@local)
+ * @since 3.5
+ * @see DefaultCookieSerializer#setJvmRouteResolver(JvmRouteResolver)
+ */
+public class PartitionOwnerJvmRouteResolver implements JvmRouteResolver {
+
+	/**
+	 * The default name of the member attribute holding the route of a member.
+	 */
+	public static final String DEFAULT_ROUTE_ATTRIBUTE_NAME = "jvmRoute";
+
+	private final HazelcastInstance hazelcastInstance;
+
+	private final String routeAttributeName;
+
+	/**
+	 * Create a new instance that reads the route of a member from the
+	 * {@link #DEFAULT_ROUTE_ATTRIBUTE_NAME} member attribute.
+	 * @param hazelcastInstance the {@link HazelcastInstance} used to store sessions
+	 */
+	public PartitionOwnerJvmRouteResolver(HazelcastInstance hazelcastInstance) {
+		this(hazelcastInstance, DEFAULT_ROUTE_ATTRIBUTE_NAME);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param hazelcastInstance the {@link HazelcastInstance} used to store sessions
+	 * @param routeAttributeName the name of the member attribute holding the route
+	 */
+	public PartitionOwnerJvmRouteResolver(HazelcastInstance hazelcastInstance, String routeAttributeName) {
+		Assert.notNull(hazelcastInstance, "HazelcastInstance must not be null");
+		Assert.hasText(routeAttributeName, "routeAttributeName must not be empty");
+		this.hazelcastInstance = hazelcastInstance;
+		this.routeAttributeName = routeAttributeName;
+	}
+
+	@Override
+	public String resolveJvmRoute(String sessionId) {
+		Partition partition = this.hazelcastInstance.getPartitionService().getPartition(sessionId);
+		Member owner = partition.getOwner();
+		return (owner != null) ? owner.getAttribute(this.routeAttributeName) : null;
+	}
+
+}
@@ -31,6 +31,7 @@ import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
 import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.hazelcast.HazelcastIndexedSessionRepository;
 import org.springframework.session.web.http.SessionRepositoryFilter;
 
 /**
@@ -103,4 +104,34 @@ public @interface EnableHazelcastHttpSession {
 	 */
 	SaveMode saveMode() default SaveMode.ON_SET_ATTRIBUTE;
 
+	/**
+	 * Whether sessions should be served from a Hazelcast near cache that is invalidated
+	 * whenever a session is updated. The default is {@code false}. When using a Hazelcast
+	 * client, the near cache must also be added to the {@code ClientConfig}.
+	 * @return whether to use a near cache
+	 * @since 3.5
+	 * @see HazelcastIndexedSessionRepository#createNearCacheConfig(String)
+	 */
+	boolean nearCache() default false;
+
+	/**
+	 * Whether members of an embedded Hazelcast cluster may read sessions from local
+	 * backup replicas rather than from the partition owner. The default is {@code false}.
+	 * @return whether to read backup data
+	 * @since 3.5
+	 */
+	boolean readBackupData() default false;
+
+	/**
+	 * Whether a hash index is added to the session map for the principal name attribute,
+	 * which is used to find sessions by principal name. The attribute must be provided
+	 * either by a {@link org.springframework.session.hazelcast.PrincipalNameExtractor}
+	 * registered for the session map or by serializing sessions with
+	 * {@link org.springframework.session.hazelcast.HazelcastSessionCompactSerializer}.
+	 * The default is {@code false}.
+	 * @return whether to index the principal name
+	 * @since 3.5
+	 */
+	boolean indexPrincipalName() default false;
+
 }
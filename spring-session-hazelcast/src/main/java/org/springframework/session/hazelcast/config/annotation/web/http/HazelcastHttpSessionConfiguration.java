@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.hazelcast.config.IndexType;
 import com.hazelcast.core.HazelcastInstance;
 
 import org.springframework.beans.factory.ObjectProvider;
@@ -69,6 +70,12 @@ public class HazelcastHttpSessionConfiguration implements ImportAware {
 
 	private SaveMode saveMode = SaveMode.ON_SET_ATTRIBUTE;
 
+	private boolean nearCache;
+
+	private boolean readBackupData;
+
+	private boolean indexPrincipalName;
+
 	private HazelcastInstance hazelcastInstance;
 
 	private ApplicationEventPublisher applicationEventPublisher;
@@ -105,6 +112,18 @@ public class HazelcastHttpSessionConfiguration implements ImportAware {
 		this.saveMode = saveMode;
 	}
 
+	public void setNearCache(boolean nearCache) {
+		this.nearCache = nearCache;
+	}
+
+	public void setReadBackupData(boolean readBackupData) {
+		this.readBackupData = readBackupData;
+	}
+
+	public void setIndexPrincipalName(boolean indexPrincipalName) {
+		this.indexPrincipalName = indexPrincipalName;
+	}
+
 	@Autowired
 	public void setHazelcastInstance(
 			@SpringSessionHazelcastInstance ObjectProvider<HazelcastInstance> springSessionHazelcastInstance,
@@ -147,6 +166,9 @@ public class HazelcastHttpSessionConfiguration implements ImportAware {
 		}
 		this.flushMode = attributes.getEnum("flushMode");
 		this.saveMode = attributes.getEnum("saveMode");
+		this.nearCache = attributes.getBoolean("nearCache");
+		this.readBackupData = attributes.getBoolean("readBackupData");
+		this.indexPrincipalName = attributes.getBoolean("indexPrincipalName");
 	}
 
 	private HazelcastIndexedSessionRepository createHazelcastIndexedSessionRepository() {
@@ -162,6 +184,14 @@ public class HazelcastHttpSessionConfiguration implements ImportAware {
 		sessionRepository.setDefaultMaxInactiveInterval(this.maxInactiveInterval);
 		sessionRepository.setFlushMode(this.flushMode);
 		sessionRepository.setSaveMode(this.saveMode);
+		if (this.nearCache) {
+			sessionRepository
+				.setNearCacheConfig(HazelcastIndexedSessionRepository.createNearCacheConfig(this.sessionMapName));
+		}
+		sessionRepository.setReadBackupData(this.readBackupData);
+		if (this.indexPrincipalName) {
+			sessionRepository.setPrincipalNameIndexType(IndexType.HASH);
+		}
 		sessionRepository.setSessionIdGenerator(this.sessionIdGenerator);
 		this.sessionRepositoryCustomizers
 			.forEach((sessionRepositoryCustomizer) -> sessionRepositoryCustomizer.customize(sessionRepository));
@@ -21,12 +21,26 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-
+import java.util.stream.Stream;
+
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.EntryView;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.IMap;
 import com.hazelcast.map.listener.MapListener;
+import com.hazelcast.query.PagingPredicate;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
 import com.hazelcast.query.impl.predicates.EqualPredicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,6 +58,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -51,6 +66,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -333,6 +349,98 @@ class HazelcastIndexedSessionRepositoryTests {
 		verifyNoMoreInteractions(this.sessions);
 	}
 
+	@Test
+	void createNearCacheConfigThenCachesBinaryFormat() {
+		assertThat(HazelcastIndexedSessionRepository.createNearCacheConfig("sessions").getInMemoryFormat())
+			.isEqualTo(InMemoryFormat.BINARY);
+	}
+
+	@Test
+	void setNearCacheConfigWhenObjectFormatThenException() {
+		NearCacheConfig nearCacheConfig = HazelcastIndexedSessionRepository.createNearCacheConfig("sessions")
+			.setInMemoryFormat(InMemoryFormat.OBJECT);
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repository.setNearCacheConfig(nearCacheConfig))
+			.withMessage("nearCacheConfig must not use the OBJECT in-memory format");
+	}
+
+	@Test
+	void getSessionExpiredWithNearCacheWhenStaleThenReturnsSessionFromOwner() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+		this.repository.setNearCacheConfig(HazelcastIndexedSessionRepository.createNearCacheConfig("sessions"));
+
+		MapSession stale = new MapSession();
+		stale.setLastAccessedTime(Instant.now().minusSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS + 1));
+		MapSession current = new MapSession(stale);
+		current.setLastAccessedTime(Instant.now());
+		EntryView<String, MapSession> entryView = mock(EntryView.class);
+		given(entryView.getValue()).willReturn(current);
+		given(this.sessions.get(eq(stale.getId()))).willReturn(stale);
+		given(this.sessions.getEntryView(eq(stale.getId()))).willReturn(entryView);
+
+		HazelcastSession session = this.repository.findById(stale.getId());
+
+		assertThat(session).isNotNull();
+		assertThat(session.getLastAccessedTime()).isEqualTo(current.getLastAccessedTime());
+		verify(this.sessions, times(1)).get(eq(stale.getId()));
+		verify(this.sessions, times(1)).getEntryView(eq(stale.getId()));
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void getSessionExpiredWithNearCacheThenDeletes() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+		this.repository.setNearCacheConfig(HazelcastIndexedSessionRepository.createNearCacheConfig("sessions"));
+
+		MapSession expired = new MapSession();
+		expired.setLastAccessedTime(Instant.now().minusSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS + 1));
+		EntryView<String, MapSession> entryView = mock(EntryView.class);
+		given(entryView.getValue()).willReturn(expired);
+		given(this.sessions.get(eq(expired.getId()))).willReturn(expired);
+		given(this.sessions.getEntryView(eq(expired.getId()))).willReturn(entryView);
+
+		HazelcastSession session = this.repository.findById(expired.getId());
+
+		assertThat(session).isNull();
+		verify(this.sessions, times(1)).get(eq(expired.getId()));
+		verify(this.sessions, times(1)).getEntryView(eq(expired.getId()));
+		verify(this.sessions, times(1)).remove(eq(expired.getId()));
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void afterPropertiesSetWithNearCacheThenAddsMapConfig() {
+		Config config = new Config();
+		given(this.hazelcastInstance.getConfig()).willReturn(config);
+		HazelcastIndexedSessionRepository repository = new HazelcastIndexedSessionRepository(this.hazelcastInstance);
+		repository.setNearCacheConfig(HazelcastIndexedSessionRepository
+			.createNearCacheConfig(HazelcastIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME));
+		repository.setReadBackupData(true);
+
+		repository.afterPropertiesSet();
+
+		MapConfig mapConfig = config.getMapConfigOrNull(HazelcastIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME);
+		assertThat(mapConfig).isNotNull();
+		assertThat(mapConfig.isReadBackupData()).isTrue();
+		assertThat(mapConfig.getNearCacheConfig().isInvalidateOnChange()).isTrue();
+	}
+
+	@Test
+	void afterPropertiesSetWithNearCacheWhenMapExplicitlyConfiguredThenKeepsConfig() {
+		Config config = new Config();
+		MapConfig explicit = new MapConfig(HazelcastIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME);
+		config.addMapConfig(explicit);
+		given(this.hazelcastInstance.getConfig()).willReturn(config);
+		HazelcastIndexedSessionRepository repository = new HazelcastIndexedSessionRepository(this.hazelcastInstance);
+		repository.setNearCacheConfig(HazelcastIndexedSessionRepository
+			.createNearCacheConfig(HazelcastIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME));
+
+		repository.afterPropertiesSet();
+
+		assertThat(config.getMapConfigOrNull(HazelcastIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME))
+			.isSameAs(explicit);
+		assertThat(explicit.getNearCacheConfig()).isNull();
+	}
+
 	@Test
 	void delete() {
 		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
@@ -396,6 +504,81 @@ class HazelcastIndexedSessionRepositoryTests {
 		verifyNoMoreInteractions(this.sessions);
 	}
 
+	@Test
+	void countByIndexNameAndIndexValueUnknownIndexName() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+
+		long count = this.repository.countByIndexNameAndIndexValue("testIndexName", "testIndexValue");
+
+		assertThat(count).isZero();
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void countByIndexNameAndIndexValuePrincipalIndexName() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+		given(this.sessions.aggregate(any(Aggregator.class), isA(EqualPredicate.class))).willReturn(2L);
+
+		long count = this.repository
+			.countByIndexNameAndIndexValue(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "username");
+
+		assertThat(count).isEqualTo(2L);
+		verify(this.sessions, times(1)).aggregate(any(Aggregator.class), isA(EqualPredicate.class));
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void deleteByPredicate() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+		Predicate<String, MapSession> predicate = Predicates.equal("tenant", "test");
+
+		this.repository.deleteByPredicate(predicate);
+
+		verify(this.sessions, times(1)).removeAll(predicate);
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void deleteByPredicateNull() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repository.deleteByPredicate(null))
+			.withMessage("predicate must not be null");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void streamIds() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+		Predicate<String, MapSession> predicate = Predicates.equal("tenant", "test");
+		given(this.sessions.keySet(any(PagingPredicate.class))).willReturn(Set.of("session1", "session2"),
+				Set.of("session3"));
+
+		Stream<String> ids = this.repository.streamIds(predicate, 2);
+		verifyNoMoreInteractions(this.sessions);
+
+		assertThat(ids).containsExactlyInAnyOrder("session1", "session2", "session3");
+		ArgumentCaptor<PagingPredicate<String, MapSession>> captor = ArgumentCaptor.forClass(PagingPredicate.class);
+		verify(this.sessions, times(2)).keySet(captor.capture());
+		assertThat(captor.getValue().getPageSize()).isEqualTo(2);
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void streamIdsWhenPartialPageThenStopsFetching() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+		Predicate<String, MapSession> predicate = Predicates.equal("tenant", "test");
+		given(this.sessions.keySet(any(PagingPredicate.class))).willReturn(Set.of("session1"));
+
+		assertThat(this.repository.streamIds(predicate)).containsExactly("session1");
+		verify(this.sessions, times(1)).keySet(any(PagingPredicate.class));
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void streamIdsInvalidPageSize() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repository.streamIds(Predicates.alwaysTrue(), 0))
+			.withMessage("pageSize must be greater than 0");
+	}
+
 	@Test // gh-1120
 	void getAttributeNamesAndRemove() {
 		HazelcastSession session = this.repository.createSession();
@@ -466,6 +649,179 @@ class HazelcastIndexedSessionRepositoryTests {
 		verifyNoMoreInteractions(this.sessions);
 	}
 
+	@Test
+	void hasChangesWhenOnlyLastAccessedTimeUpdatedThenFalse() {
+		HazelcastSession session = this.repository.new HazelcastSession(new MapSession(), false);
+		session.setLastAccessedTime(Instant.now());
+		assertThat(session.hasChanges()).isFalse();
+	}
+
+	@Test
+	void hasChangesWhenAttributeSetThenTrue() {
+		HazelcastSession session = this.repository.new HazelcastSession(new MapSession(), false);
+		session.setAttribute("testName", "testValue");
+		assertThat(session.hasChanges()).isTrue();
+	}
+
+	@Test
+	void saveUpdatedLastAccessedTimeOfExistingSessionByDefaultUsesSessionUpdateEntryProcessor() {
+		verify(this.sessions).addEntryListener(any(MapListener.class), anyBoolean());
+		HazelcastSession session = this.repository.new HazelcastSession(new MapSession(), false);
+		session.setLastAccessedTime(Instant.now().plusSeconds(10));
+		this.repository.save(session);
+		ArgumentCaptor<EntryProcessor<String, MapSession, Object>> captor = ArgumentCaptor
+			.forClass(EntryProcessor.class);
+		verify(this.sessions).executeOnKey(eq(session.getId()), captor.capture());
+		assertThat(captor.getValue()).isExactlyInstanceOf(SessionUpdateEntryProcessor.class);
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void saveUpdatedLastAccessedTimeOfExistingSessionWhenTouchEntryProcessorEnabledUsesTouchEntryProcessor() {
+		verify(this.sessions).addEntryListener(any(MapListener.class), anyBoolean());
+		this.repository.setTouchEntryProcessorEnabled(true);
+		HazelcastSession session = this.repository.new HazelcastSession(new MapSession(), false);
+		Instant lastAccessedTime = Instant.now().plusSeconds(10);
+		session.setLastAccessedTime(lastAccessedTime);
+		this.repository.save(session);
+		ArgumentCaptor<SessionTouchEntryProcessor> captor = ArgumentCaptor.forClass(SessionTouchEntryProcessor.class);
+		verify(this.sessions).executeOnKey(eq(session.getId()), captor.capture());
+		assertThat(ReflectionTestUtils.getField(captor.getValue(), "lastAccessedTime")).isEqualTo(lastAccessedTime);
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void saveDeltaBelowOffloadThresholdUsesSessionUpdateEntryProcessor() {
+		verify(this.sessions).addEntryListener(any(MapListener.class), anyBoolean());
+		this.repository.setOffloadDeltaThreshold(2);
+		HazelcastSession session = this.repository.new HazelcastSession(new MapSession(), false);
+		session.setAttribute("attribute1", "value1");
+		this.repository.save(session);
+		ArgumentCaptor<EntryProcessor<String, MapSession, Object>> captor = ArgumentCaptor
+			.forClass(EntryProcessor.class);
+		verify(this.sessions).executeOnKey(eq(session.getId()), captor.capture());
+		assertThat(captor.getValue()).isExactlyInstanceOf(SessionUpdateEntryProcessor.class);
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void saveDeltaAboveOffloadThresholdUsesOffloadableEntryProcessor() {
+		verify(this.sessions).addEntryListener(any(MapListener.class), anyBoolean());
+		this.repository.setOffloadDeltaThreshold(2);
+		this.repository.setOffloadExecutorName("session-executor");
+		HazelcastSession session = this.repository.new HazelcastSession(new MapSession(), false);
+		session.setAttribute("attribute1", "value1");
+		session.setAttribute("attribute2", "value2");
+		this.repository.save(session);
+		ArgumentCaptor<OffloadableSessionUpdateEntryProcessor> captor = ArgumentCaptor
+			.forClass(OffloadableSessionUpdateEntryProcessor.class);
+		verify(this.sessions).executeOnKey(eq(session.getId()), captor.capture());
+		assertThat(captor.getValue().getExecutorName()).isEqualTo("session-executor");
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void setOffloadExecutorNameEmpty() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repository.setOffloadExecutorName(" "))
+			.withMessage("offloadExecutorName must not be empty");
+	}
+
+	@Test
+	void saveUpdatedLastAccessedTimeWithTouchBatchWindowIsBatched() {
+		HazelcastIndexedSessionRepository repository = new HazelcastIndexedSessionRepository(this.hazelcastInstance);
+		repository.setTouchEntryProcessorEnabled(true);
+		repository.setTouchBatchWindow(Duration.ofMinutes(1));
+		repository.afterPropertiesSet();
+		given(this.sessions.submitToKeys(any(), any())).willReturn(CompletableFuture.completedFuture(Map.of()));
+		HazelcastSession session1 = repository.new HazelcastSession(new MapSession(), false);
+		HazelcastSession session2 = repository.new HazelcastSession(new MapSession(), false);
+		Instant lastAccessedTime = Instant.now().plusSeconds(10);
+		session1.setLastAccessedTime(lastAccessedTime.minusMillis(50));
+		session2.setLastAccessedTime(lastAccessedTime);
+		repository.save(session1);
+		repository.save(session2);
+		verify(this.sessions, never()).executeOnKey(anyString(), any(EntryProcessor.class));
+
+		repository.flushPendingTouches();
+		ArgumentCaptor<SessionTouchEntryProcessor> captor = ArgumentCaptor.forClass(SessionTouchEntryProcessor.class);
+		verify(this.sessions).submitToKeys(eq(Set.of(session1.getId(), session2.getId())), captor.capture());
+		assertThat(ReflectionTestUtils.getField(captor.getValue(), "lastAccessedTimes"))
+			.isEqualTo(Map.of(session1.getId(), lastAccessedTime.minusMillis(50), session2.getId(), lastAccessedTime));
+
+		repository.flushPendingTouches();
+		repository.destroy();
+		verify(this.sessions).submitToKeys(any(), any());
+	}
+
+	@Test
+	void findByIdWithPendingTouchReturnsPendingLastAccessedTime() {
+		HazelcastIndexedSessionRepository repository = new HazelcastIndexedSessionRepository(this.hazelcastInstance);
+		repository.setTouchEntryProcessorEnabled(true);
+		repository.setTouchBatchWindow(Duration.ofMinutes(1));
+		repository.afterPropertiesSet();
+		MapSession saved = new MapSession();
+		saved.setLastAccessedTime(Instant.now().minus(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL).minusSeconds(1));
+		given(this.sessions.get(eq(saved.getId()))).willReturn(saved);
+		HazelcastSession session = repository.new HazelcastSession(new MapSession(saved), false);
+		Instant lastAccessedTime = Instant.now();
+		session.setLastAccessedTime(lastAccessedTime);
+		repository.save(session);
+
+		HazelcastSession found = repository.findById(saved.getId());
+
+		assertThat(found).isNotNull();
+		assertThat(found.getLastAccessedTime()).isEqualTo(lastAccessedTime);
+		assertThat(saved.getLastAccessedTime()).isBefore(lastAccessedTime);
+		verify(this.sessions, never()).remove(saved.getId());
+		repository.destroy();
+	}
+
+	@Test
+	void setTouchBatchWindowSubMillisecond() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.repository.setTouchBatchWindow(Duration.ofNanos(500_000)))
+			.withMessage("touchBatchWindow must be zero or at least one millisecond");
+	}
+
+	@Test
+	void afterPropertiesSetWithTouchBatchWindowAndTouchEntryProcessorDisabled() {
+		HazelcastIndexedSessionRepository repository = new HazelcastIndexedSessionRepository(this.hazelcastInstance);
+		repository.setTouchBatchWindow(Duration.ofMillis(1));
+		assertThatIllegalStateException().isThrownBy(repository::afterPropertiesSet)
+			.withMessage("touchBatchWindow requires touchEntryProcessorEnabled to be true");
+	}
+
+	@Test
+	void saveUpdatedAttributeWithTouchBatchWindowIsNotBatched() {
+		HazelcastIndexedSessionRepository repository = new HazelcastIndexedSessionRepository(this.hazelcastInstance);
+		repository.setTouchEntryProcessorEnabled(true);
+		repository.setTouchBatchWindow(Duration.ofMinutes(1));
+		repository.afterPropertiesSet();
+		HazelcastSession session = repository.new HazelcastSession(new MapSession(), false);
+		session.setLastAccessedTime(Instant.now());
+		session.setAttribute("attribute1", "value1");
+		repository.save(session);
+		verify(this.sessions).executeOnKey(eq(session.getId()), any(SessionUpdateEntryProcessor.class));
+		repository.destroy();
+		verify(this.sessions, never()).submitToKeys(any(), any());
+	}
+
+	@Test
+	void setTouchBatchWindowNegative() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.repository.setTouchBatchWindow(Duration.ofSeconds(-1)))
+			.withMessage("touchBatchWindow must not be negative");
+	}
+
+	@Test
+	void afterPropertiesSetWithPrincipalNameIndexTypeAddsIndex() {
+		HazelcastIndexedSessionRepository repository = new HazelcastIndexedSessionRepository(this.hazelcastInstance);
+		repository.setPrincipalNameIndexType(IndexType.SORTED);
+		repository.afterPropertiesSet();
+		verify(this.sessions)
+			.addIndex(new IndexConfig(IndexType.SORTED, HazelcastIndexedSessionRepository.PRINCIPAL_NAME_ATTRIBUTE));
+	}
+
 	@Test
 	void createSessionWhenSessionIdGeneratorThenUses() {
 		this.repository.setSessionIdGenerator(() -> "test");
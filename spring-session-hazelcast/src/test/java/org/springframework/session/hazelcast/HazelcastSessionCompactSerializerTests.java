@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.internal.serialization.impl.compact.SchemaService;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link HazelcastSessionCompactSerializer}.
+ *
+ * @author agent (agent@local)
+ */
+class HazelcastSessionCompactSerializerTests {
+
+	private final SerializationService serializationService = createSerializationService();
+
+	@Test
+	void constructorNullSerializer() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new HazelcastSessionCompactSerializer(null, (source) -> source))
+			.withMessage("serializer cannot be null");
+	}
+
+	@Test
+	void serializeDeserializeSession() {
+		MapSession session = new MapSession("session-id");
+		session.setId("changed-id");
+		session.setCreationTime(Instant.ofEpochSecond(1000L, 123456789));
+		session.setLastAccessedTime(Instant.ofEpochSecond(2000L, 987654321));
+		session.setMaxInactiveInterval(Duration.ofMinutes(10));
+		session.setAttribute("name", "value");
+		session.setAttribute("number", 42L);
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "user");
+
+		MapSession deserialized = this.serializationService.toObject(this.serializationService.toData(session));
+
+		assertThat(deserialized.getOriginalId()).isEqualTo("session-id");
+		assertThat(deserialized.getId()).isEqualTo("changed-id");
+		assertThat(deserialized.getCreationTime()).isEqualTo(session.getCreationTime());
+		assertThat(deserialized.getLastAccessedTime()).isEqualTo(session.getLastAccessedTime());
+		assertThat(deserialized.getMaxInactiveInterval()).isEqualTo(session.getMaxInactiveInterval());
+		assertThat(deserialized.getAttributeNames()).isEqualTo(session.getAttributeNames());
+		assertThat((String) deserialized.getAttribute("name")).isEqualTo("value");
+		assertThat((Long) deserialized.getAttribute("number")).isEqualTo(42L);
+		assertThat((String) deserialized.getAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME))
+			.isEqualTo("user");
+	}
+
+	@Test
+	void serializeDeserializeSessionWithoutAttributes() {
+		MapSession session = new MapSession("session-id");
+
+		MapSession deserialized = this.serializationService.toObject(this.serializationService.toData(session));
+
+		assertThat(deserialized.getId()).isEqualTo("session-id");
+		assertThat(deserialized.getAttributeNames()).isEmpty();
+	}
+
+	private static SerializationService createSerializationService() {
+		SerializationConfig serializationConfig = new SerializationConfig();
+		serializationConfig.getCompactSerializationConfig().addSerializer(new HazelcastSessionCompactSerializer());
+		return new DefaultSerializationServiceBuilder().setConfig(serializationConfig)
+			.setSchemaService(new InMemorySchemaService())
+			.build();
+	}
+
+	private static final class InMemorySchemaService implements SchemaService {
+
+		private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+
+		@Override
+		public Schema get(long schemaId) {
+			return this.schemas.get(schemaId);
+		}
+
+		@Override
+		public void put(Schema schema) {
+			this.schemas.put(schema.getSchemaId(), schema);
+		}
+
+		@Override
+		public void putLocal(Schema schema) {
+			put(schema);
+		}
+
+	}
+
+}
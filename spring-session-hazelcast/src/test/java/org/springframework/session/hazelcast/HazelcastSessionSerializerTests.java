@@ -0,0 +1,162 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.nio.ObjectDataOutput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import org.springframework.session.MapSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link HazelcastSessionSerializer}.
+ *
+ * @author agent (agent@local)
+ */
+class HazelcastSessionSerializerTests {
+
+	private final HazelcastSessionSerializer serializer = new HazelcastSessionSerializer();
+
+	@BeforeEach
+	void setUp() {
+		this.serializer.setWriteVersionedFormat(true);
+	}
+
+	@Test
+	void serializeDeserializeSession() {
+		SerializationService serializationService = createSerializationService(this.serializer);
+		MapSession session = createSession();
+
+		MapSession deserialized = serializationService.toObject(serializationService.toData(session));
+
+		assertSession(deserialized, session);
+	}
+
+	@Test
+	void serializeSessionWritesVersionedFormat() {
+		SerializationService serializationService = createSerializationService(this.serializer);
+
+		Data data = serializationService.toData(createSession());
+
+		// payload follows the partition hash and the type id
+		assertThat(ByteBuffer.wrap(data.toByteArray()).getInt(8)).isEqualTo(-2);
+	}
+
+	@Test
+	void serializeDeserializeSessionWithoutAttributes() {
+		SerializationService serializationService = createSerializationService(this.serializer);
+		MapSession session = new MapSession("session-id");
+
+		MapSession deserialized = serializationService.toObject(serializationService.toData(session));
+
+		assertSession(deserialized, session);
+		assertThat(deserialized.getAttributeNames()).isEmpty();
+	}
+
+	@Test
+	void serializeSessionByDefaultWritesLegacyFormat() {
+		SerializationService serializationService = createSerializationService(new HazelcastSessionSerializer());
+
+		Data data = serializationService.toData(createSession());
+
+		// the legacy format starts with the length of the original id
+		assertThat(ByteBuffer.wrap(data.toByteArray()).getInt(8)).isEqualTo("session-id".length());
+	}
+
+	@Test
+	void serializeSessionWritesAttributeCount() throws Exception {
+		ObjectDataOutput out = mock(ObjectDataOutput.class);
+		MapSession session = createSession();
+
+		this.serializer.write(out, session);
+
+		InOrder inOrder = inOrder(out);
+		inOrder.verify(out).writeInt(-2);
+		inOrder.verify(out).writeInt(session.getAttributeNames().size());
+		inOrder.verify(out).writeString(anyString());
+	}
+
+	@Test
+	void deserializeSessionWrittenInLegacyFormat() {
+		HazelcastSessionSerializer legacySerializer = new HazelcastSessionSerializer();
+		MapSession session = createSession();
+		Data data = createSerializationService(legacySerializer).toData(session);
+
+		MapSession deserialized = createSerializationService(this.serializer).toObject(data);
+
+		assertSession(deserialized, session);
+	}
+
+	@Test
+	void serializeSessionWithChangedId() {
+		SerializationService serializationService = createSerializationService(this.serializer);
+		MapSession session = createSession();
+		session.setId("changed-id");
+
+		MapSession deserialized = serializationService.toObject(serializationService.toData(session));
+
+		assertThat(deserialized.getOriginalId()).isEqualTo("session-id");
+		assertThat(deserialized.getId()).isEqualTo("changed-id");
+	}
+
+	private static SerializationService createSerializationService(HazelcastSessionSerializer serializer) {
+		SerializationConfig serializationConfig = new SerializationConfig();
+		serializationConfig
+			.addSerializerConfig(new SerializerConfig().setImplementation(serializer).setTypeClass(MapSession.class));
+		return new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+	}
+
+	private static MapSession createSession() {
+		MapSession session = new MapSession("session-id");
+		session.setCreationTime(Instant.now().truncatedTo(ChronoUnit.MILLIS).minusSeconds(60));
+		session.setLastAccessedTime(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+		session.setMaxInactiveInterval(Duration.ofMinutes(10));
+		session.setAttribute("name", "value");
+		session.setAttribute("number", 42L);
+		session.setAttribute("bytes", new byte[] { 1, 2, 3 });
+		return session;
+	}
+
+	private static void assertSession(MapSession actual, MapSession expected) {
+		assertThat(actual.getId()).isEqualTo(expected.getId());
+		assertThat(actual.getOriginalId()).isEqualTo(expected.getOriginalId());
+		assertThat(actual.getCreationTime()).isEqualTo(expected.getCreationTime());
+		assertThat(actual.getLastAccessedTime()).isEqualTo(expected.getLastAccessedTime());
+		assertThat(actual.getMaxInactiveInterval()).isEqualTo(expected.getMaxInactiveInterval());
+		assertThat(actual.getAttributeNames()).isEqualTo(expected.getAttributeNames());
+		for (String attrName : expected.getAttributeNames()) {
+			assertThat((Object) actual.getAttribute(attrName)).isEqualTo(expected.getAttribute(attrName));
+		}
+	}
+
+}
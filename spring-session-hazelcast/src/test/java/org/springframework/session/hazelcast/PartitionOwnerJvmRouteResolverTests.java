@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.Partition;
+import com.hazelcast.partition.PartitionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link PartitionOwnerJvmRouteResolver}.
+ *
+ * @author agent (agent@local)
+ */
+class PartitionOwnerJvmRouteResolverTests {
+
+	private static final String SESSION_ID = "session-id";
+
+	private final HazelcastInstance hazelcastInstance = mock(HazelcastInstance.class);
+
+	private final Partition partition = mock(Partition.class);
+
+	@BeforeEach
+	void setUp() {
+		PartitionService partitionService = mock(PartitionService.class);
+		given(this.hazelcastInstance.getPartitionService()).willReturn(partitionService);
+		given(partitionService.getPartition(SESSION_ID)).willReturn(this.partition);
+	}
+
+	@Test
+	void constructorNullHazelcastInstance() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new PartitionOwnerJvmRouteResolver(null))
+			.withMessage("HazelcastInstance must not be null");
+	}
+
+	@Test
+	void constructorEmptyRouteAttributeName() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new PartitionOwnerJvmRouteResolver(this.hazelcastInstance, ""))
+			.withMessage("routeAttributeName must not be empty");
+	}
+
+	@Test
+	void resolveJvmRouteWhenOwnerThenOwnerRoute() {
+		Member owner = mock(Member.class);
+		given(owner.getAttribute(PartitionOwnerJvmRouteResolver.DEFAULT_ROUTE_ATTRIBUTE_NAME)).willReturn("node01");
+		given(this.partition.getOwner()).willReturn(owner);
+
+		assertThat(new PartitionOwnerJvmRouteResolver(this.hazelcastInstance).resolveJvmRoute(SESSION_ID))
+			.isEqualTo("node01");
+	}
+
+	@Test
+	void resolveJvmRouteWhenCustomAttributeThenOwnerRoute() {
+		Member owner = mock(Member.class);
+		given(owner.getAttribute("route")).willReturn("node02");
+		given(this.partition.getOwner()).willReturn(owner);
+
+		assertThat(new PartitionOwnerJvmRouteResolver(this.hazelcastInstance, "route").resolveJvmRoute(SESSION_ID))
+			.isEqualTo("node02");
+	}
+
+	@Test
+	void resolveJvmRouteWhenNoOwnerThenNull() {
+		assertThat(new PartitionOwnerJvmRouteResolver(this.hazelcastInstance).resolveJvmRoute(SESSION_ID)).isNull();
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.hazelcast.map.ExtendedMapEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.session.MapSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link SessionTouchEntryProcessor}.
+ *
+ * @author agent (agent@local)
+ */
+class SessionTouchEntryProcessorTests {
+
+	private SessionTouchEntryProcessor processor;
+
+	@BeforeEach
+	void setUp() {
+		this.processor = new SessionTouchEntryProcessor();
+	}
+
+	@Test
+	void shouldReturnFalseIfNoSessionExistsInHazelcastMapEntry() {
+		@SuppressWarnings("unchecked")
+		ExtendedMapEntry<String, MapSession> mapEntry = mock(ExtendedMapEntry.class);
+
+		this.processor.setLastAccessedTime(Instant.now());
+		Object result = this.processor.process(mapEntry);
+
+		assertThat(result).isEqualTo(Boolean.FALSE);
+	}
+
+	@Test
+	void shouldUpdateLastAccessTimeOnSessionAndSetMapEntryValueWithOldTimeToLive() {
+		MapSession mapSession = new MapSession();
+		Instant lastAccessTime = mapSession.getLastAccessedTime().plusSeconds(10L);
+		@SuppressWarnings("unchecked")
+		ExtendedMapEntry<String, MapSession> mapEntry = mock(ExtendedMapEntry.class);
+		given(mapEntry.getValue()).willReturn(mapSession);
+
+		this.processor.setLastAccessedTime(lastAccessTime);
+		Object result = this.processor.process(mapEntry);
+
+		assertThat(result).isEqualTo(Boolean.TRUE);
+		assertThat(mapSession.getLastAccessedTime()).isEqualTo(lastAccessTime);
+		verify(mapEntry).setValue(mapSession, mapSession.getMaxInactiveInterval().getSeconds(), TimeUnit.SECONDS);
+	}
+
+	@Test
+	void shouldNotSetMapEntryValueIfSessionWasAccessedLater() {
+		MapSession mapSession = new MapSession();
+		Instant lastAccessTime = mapSession.getLastAccessedTime();
+		@SuppressWarnings("unchecked")
+		ExtendedMapEntry<String, MapSession> mapEntry = mock(ExtendedMapEntry.class);
+		given(mapEntry.getValue()).willReturn(mapSession);
+
+		this.processor.setLastAccessedTime(lastAccessTime.minusSeconds(10L));
+		Object result = this.processor.process(mapEntry);
+
+		assertThat(result).isEqualTo(Boolean.TRUE);
+		assertThat(mapSession.getLastAccessedTime()).isEqualTo(lastAccessTime);
+		verify(mapEntry, never()).setValue(any(), anyLong(), any());
+	}
+
+	@Test
+	void shouldUpdateLastAccessTimeOfEntryFromLastAccessedTimes() {
+		MapSession mapSession = new MapSession();
+		Instant lastAccessTime = mapSession.getLastAccessedTime().plusSeconds(10L);
+		@SuppressWarnings("unchecked")
+		ExtendedMapEntry<String, MapSession> mapEntry = mock(ExtendedMapEntry.class);
+		given(mapEntry.getKey()).willReturn(mapSession.getId());
+		given(mapEntry.getValue()).willReturn(mapSession);
+
+		this.processor
+			.setLastAccessedTimes(Map.of(mapSession.getId(), lastAccessTime, "other", lastAccessTime.plusSeconds(10L)));
+		Object result = this.processor.process(mapEntry);
+
+		assertThat(result).isEqualTo(Boolean.TRUE);
+		assertThat(mapSession.getLastAccessedTime()).isEqualTo(lastAccessTime);
+		verify(mapEntry).setValue(mapSession, mapSession.getMaxInactiveInterval().getSeconds(), TimeUnit.SECONDS);
+	}
+
+}
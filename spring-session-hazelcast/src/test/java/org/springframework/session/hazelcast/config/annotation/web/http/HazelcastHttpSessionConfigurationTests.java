@@ -18,6 +18,8 @@ package org.springframework.session.hazelcast.config.annotation.web.http;
 
 import java.time.Duration;
 
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexType;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import org.junit.jupiter.api.AfterEach;
@@ -156,6 +158,41 @@ class HazelcastHttpSessionConfigurationTests {
 			.hasFieldOrPropertyWithValue("saveMode", SaveMode.ALWAYS);
 	}
 
+	@Test
+	void customNearCacheAnnotation() {
+		registerAndRefresh(CustomNearCacheAnnotationConfiguration.class);
+
+		HazelcastIndexedSessionRepository repository = this.context.getBean(HazelcastIndexedSessionRepository.class);
+		assertThat(repository).extracting("nearCacheConfig")
+			.isEqualTo(HazelcastIndexedSessionRepository.createNearCacheConfig(MAP_NAME));
+		assertThat(repository).hasFieldOrPropertyWithValue("readBackupData", true);
+	}
+
+	@Test
+	void defaultNearCacheDisabled() {
+		registerAndRefresh(DefaultConfiguration.class);
+
+		HazelcastIndexedSessionRepository repository = this.context.getBean(HazelcastIndexedSessionRepository.class);
+		assertThat(repository).extracting("nearCacheConfig").isNull();
+		assertThat(repository).hasFieldOrPropertyWithValue("readBackupData", false);
+	}
+
+	@Test
+	void customIndexPrincipalNameAnnotation() {
+		registerAndRefresh(CustomIndexPrincipalNameAnnotationConfiguration.class);
+
+		HazelcastIndexedSessionRepository repository = this.context.getBean(HazelcastIndexedSessionRepository.class);
+		assertThat(repository).hasFieldOrPropertyWithValue("principalNameIndexType", IndexType.HASH);
+	}
+
+	@Test
+	void defaultIndexPrincipalNameDisabled() {
+		registerAndRefresh(DefaultConfiguration.class);
+
+		HazelcastIndexedSessionRepository repository = this.context.getBean(HazelcastIndexedSessionRepository.class);
+		assertThat(repository).extracting("principalNameIndexType").isNull();
+	}
+
 	@Test
 	void qualifiedHazelcastInstanceConfiguration() {
 		registerAndRefresh(QualifiedHazelcastInstanceConfiguration.class);
@@ -320,6 +357,26 @@ class HazelcastHttpSessionConfigurationTests {
 
 	}
 
+	@Configuration
+	@EnableHazelcastHttpSession(sessionMapName = MAP_NAME, nearCache = true, readBackupData = true)
+	static class CustomNearCacheAnnotationConfiguration {
+
+		@Bean
+		HazelcastInstance hazelcastInstance() {
+			HazelcastInstance hazelcastInstance = mock(HazelcastInstance.class);
+			given(hazelcastInstance.getConfig()).willReturn(new Config());
+			given(hazelcastInstance.getMap(anyString())).willReturn(mock(IMap.class));
+			return hazelcastInstance;
+		}
+
+	}
+
+	@Configuration
+	@EnableHazelcastHttpSession(indexPrincipalName = true)
+	static class CustomIndexPrincipalNameAnnotationConfiguration extends BaseConfiguration {
+
+	}
+
 	@Configuration
 	static class CustomFlushImmediatelySetConfiguration extends HazelcastHttpSessionConfiguration {
 
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.jdbc;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.session.Base64SessionIdGenerator;
+import org.springframework.session.SessionIdGenerator;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Integration tests for {@link JdbcIndexedSessionRepository} using H2 database with the
+ * compact schema and Base64 session ids and primary keys.
+ *
+ * @author agent (agent@local)
+ */
+@ExtendWith(SpringExtension.class)
+@WebAppConfiguration
+@ContextConfiguration
+class H2CompactJdbcIndexedSessionRepositoryITests extends AbstractJdbcIndexedSessionRepositoryITests {
+
+	@Configuration
+	static class Config extends BaseConfig {
+
+		@Bean
+		EmbeddedDatabase dataSource() {
+			return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+				.addScript("org/springframework/session/jdbc/schema-h2-compact.sql")
+				.build();
+		}
+
+		@Bean
+		SessionIdGenerator sessionIdGenerator() {
+			return new Base64SessionIdGenerator();
+		}
+
+		@Bean
+		static BeanPostProcessor primaryKeyGeneratorPostProcessor() {
+			return new BeanPostProcessor() {
+
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (bean instanceof JdbcIndexedSessionRepository sessionRepository) {
+						sessionRepository.setPrimaryKeyGenerator(new Base64SessionIdGenerator());
+					}
+					return bean;
+				}
+
+			};
+		}
+
+	}
+
+}
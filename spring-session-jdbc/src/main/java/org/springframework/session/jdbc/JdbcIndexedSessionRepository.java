@@ -27,7 +27,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -132,7 +131,11 @@ import org.springframework.util.StringUtils;
  * to storing binary data, make sure to use SQL script specific to your database. Scripts
  * for most major database vendors are packaged as
  * <code>org/springframework/session/jdbc/schema-*.sql</code>, where <code>*</code> is the
- * target database type.
+ * target database type. The <code>schema-*-compact.sql</code> variants store the session
+ * id and the primary key in a <code>VARCHAR(32)</code> column, for use with session ids
+ * and primary keys generated by
+ * {@link org.springframework.session.Base64SessionIdGenerator} (see
+ * {@link #setPrimaryKeyGenerator(SessionIdGenerator)}).
  *
  * @author Vedran Pavic
  * @author Craig Andrews
@@ -256,6 +259,8 @@ public class JdbcIndexedSessionRepository implements
 
 	private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
 
+	private SessionIdGenerator primaryKeyGenerator = UuidSessionIdGenerator.getInstance();
+
 	/**
 	 * Create a new {@link JdbcIndexedSessionRepository} instance which uses the provided
 	 * {@link JdbcOperations} and {@link TransactionOperations} to manage sessions.
@@ -467,7 +472,7 @@ public class JdbcIndexedSessionRepository implements
 	public JdbcSession createSession() {
 		MapSession delegate = new MapSession(this.sessionIdGenerator);
 		delegate.setMaxInactiveInterval(this.defaultMaxInactiveInterval);
-		JdbcSession session = new JdbcSession(delegate, UUID.randomUUID().toString(), true);
+		JdbcSession session = new JdbcSession(delegate, this.primaryKeyGenerator.generate(), true);
 		session.flushIfRequired();
 		return session;
 	}
@@ -700,6 +705,20 @@ public class JdbcIndexedSessionRepository implements
 		this.sessionIdGenerator = sessionIdGenerator;
 	}
 
+	/**
+	 * Set the {@link SessionIdGenerator} to use to generate the primary keys of the
+	 * session table. Defaults to {@link UuidSessionIdGenerator}, independently of the
+	 * generator set with {@link #setSessionIdGenerator(SessionIdGenerator)}, so the
+	 * <code>schema-*-compact.sql</code> tables require a shorter primary key generator to
+	 * be set here as well.
+	 * @param primaryKeyGenerator the {@link SessionIdGenerator} to use
+	 * @since 3.5
+	 */
+	public void setPrimaryKeyGenerator(SessionIdGenerator primaryKeyGenerator) {
+		Assert.notNull(primaryKeyGenerator, "primaryKeyGenerator cannot be null");
+		this.primaryKeyGenerator = primaryKeyGenerator;
+	}
+
 	private enum DeltaValue {
 
 		ADDED, UPDATED, REMOVED
@@ -743,6 +762,8 @@ public class JdbcIndexedSessionRepository implements
 
 		private boolean changed;
 
+		private boolean changedExceptLastAccessedTime;
+
 		private Map<String, DeltaValue> delta = new HashMap<>();
 
 		JdbcSession(MapSession delegate, String primaryKey, boolean isNew) {
@@ -769,6 +790,7 @@ public class JdbcIndexedSessionRepository implements
 		void clearChangeFlags() {
 			this.isNew = false;
 			this.changed = false;
+			this.changedExceptLastAccessedTime = false;
 			this.delta.clear();
 		}
 
@@ -787,6 +809,7 @@ public class JdbcIndexedSessionRepository implements
 		@Override
 		public String changeSessionId() {
 			this.changed = true;
+			this.changedExceptLastAccessedTime = true;
 			String newSessionId = JdbcIndexedSessionRepository.this.sessionIdGenerator.generate();
 			this.delegate.setId(newSessionId);
 			return newSessionId;
@@ -866,6 +889,7 @@ public class JdbcIndexedSessionRepository implements
 		public void setMaxInactiveInterval(Duration interval) {
 			this.delegate.setMaxInactiveInterval(interval);
 			this.changed = true;
+			this.changedExceptLastAccessedTime = true;
 			flushIfRequired();
 		}
 
@@ -879,6 +903,11 @@ public class JdbcIndexedSessionRepository implements
 			return this.delegate.isExpired();
 		}
 
+		@Override
+		public boolean hasChanges() {
+			return this.isNew || this.changedExceptLastAccessedTime || !this.delta.isEmpty();
+		}
+
 		private void flushIfRequired() {
 			if (JdbcIndexedSessionRepository.this.flushMode == FlushMode.IMMEDIATE) {
 				save();
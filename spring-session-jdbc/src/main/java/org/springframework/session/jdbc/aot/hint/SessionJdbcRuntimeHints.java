@@ -35,7 +35,9 @@ class SessionJdbcRuntimeHints implements RuntimeHintsRegistrar {
 					(hint) -> hint.withMembers(MemberCategory.INVOKE_DECLARED_METHODS));
 		hints.resources()
 			.registerPattern("org/springframework/session/jdbc/schema-db2.sql")
+			.registerPattern("org/springframework/session/jdbc/schema-db2-compact.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-derby.sql")
+			.registerPattern("org/springframework/session/jdbc/schema-derby-compact.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-drop-db2.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-drop-derby.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-drop-h2.sql")
@@ -47,13 +49,21 @@ class SessionJdbcRuntimeHints implements RuntimeHintsRegistrar {
 			.registerPattern("org/springframework/session/jdbc/schema-drop-sqlserver.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-drop-sybase.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-h2.sql")
+			.registerPattern("org/springframework/session/jdbc/schema-h2-compact.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-hsqldb.sql")
+			.registerPattern("org/springframework/session/jdbc/schema-hsqldb-compact.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-mysql.sql")
+			.registerPattern("org/springframework/session/jdbc/schema-mysql-compact.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-oracle.sql")
+			.registerPattern("org/springframework/session/jdbc/schema-oracle-compact.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-postgresql.sql")
+			.registerPattern("org/springframework/session/jdbc/schema-postgresql-compact.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-sqlite.sql")
+			.registerPattern("org/springframework/session/jdbc/schema-sqlite-compact.sql")
 			.registerPattern("org/springframework/session/jdbc/schema-sqlserver.sql")
-			.registerPattern("org/springframework/session/jdbc/schema-sybase.sql");
+			.registerPattern("org/springframework/session/jdbc/schema-sqlserver-compact.sql")
+			.registerPattern("org/springframework/session/jdbc/schema-sybase.sql")
+			.registerPattern("org/springframework/session/jdbc/schema-sybase-compact.sql");
 	}
 
 }
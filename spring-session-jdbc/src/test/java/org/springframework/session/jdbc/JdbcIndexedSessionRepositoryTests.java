@@ -16,6 +16,7 @@
 
 package org.springframework.session.jdbc;
 
+import java.sql.PreparedStatement;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -341,6 +342,22 @@ class JdbcIndexedSessionRepositoryTests {
 		verifyNoMoreInteractions(this.jdbcOperations);
 	}
 
+	@Test
+	void hasChangesWhenOnlyLastAccessedTimeUpdatedThenFalse() {
+		JdbcSession session = this.repository.new JdbcSession(new MapSession(), "primaryKey", false);
+		session.setLastAccessedTime(Instant.now());
+		assertThat(session.hasChanges()).isFalse();
+	}
+
+	@Test
+	void hasChangesWhenMaxInactiveIntervalUpdatedThenTrue() {
+		JdbcSession session = this.repository.new JdbcSession(new MapSession(), "primaryKey", false);
+		session.setMaxInactiveInterval(Duration.ofMinutes(5));
+		assertThat(session.hasChanges()).isTrue();
+		this.repository.save(session);
+		assertThat(session.hasChanges()).isFalse();
+	}
+
 	@Test
 	void saveUpdatedAddSingleAttribute() {
 		JdbcSession session = this.repository.new JdbcSession(new MapSession(), "primaryKey", false);
@@ -788,6 +805,38 @@ class JdbcIndexedSessionRepositoryTests {
 		assertThat(session.changeSessionId()).isEqualTo("test");
 	}
 
+	@Test
+	void createSessionWhenPrimaryKeyGeneratorThenUses() throws Exception {
+		this.repository.setPrimaryKeyGenerator(() -> "primary-key");
+		this.repository.setFlushMode(FlushMode.IMMEDIATE);
+		this.repository.createSession();
+		ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+		verify(this.jdbcOperations).update(startsWith("INSERT"), setter.capture());
+		PreparedStatement ps = mock(PreparedStatement.class);
+		setter.getValue().setValues(ps);
+		verify(ps).setString(1, "primary-key");
+	}
+
+	@Test
+	void createSessionWhenNoPrimaryKeyGeneratorThenUsesUuid() throws Exception {
+		this.repository.setSessionIdGenerator(() -> "test");
+		this.repository.setFlushMode(FlushMode.IMMEDIATE);
+		this.repository.createSession();
+		ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+		verify(this.jdbcOperations).update(startsWith("INSERT"), setter.capture());
+		PreparedStatement ps = mock(PreparedStatement.class);
+		setter.getValue().setValues(ps);
+		ArgumentCaptor<String> primaryKey = ArgumentCaptor.forClass(String.class);
+		verify(ps).setString(eq(1), primaryKey.capture());
+		assertThat(UUID.fromString(primaryKey.getValue())).isNotNull();
+	}
+
+	@Test
+	void setPrimaryKeyGeneratorWhenNullThenThrowsException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repository.setPrimaryKeyGenerator(null))
+			.withMessage("primaryKeyGenerator cannot be null");
+	}
+
 	@Test
 	void setSessionIdGeneratorWhenNullThenThrowsException() {
 		assertThatIllegalArgumentException().isThrownBy(() -> this.repository.setSessionIdGenerator(null))